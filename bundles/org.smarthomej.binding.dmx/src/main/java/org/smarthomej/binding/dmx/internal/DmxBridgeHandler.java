@@ -19,11 +19,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
@@ -58,12 +56,15 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
 
     protected Universe universe = new Universe(0); // default universe
 
-    private @Nullable ScheduledFuture<?> senderJob;
-    private boolean isMuted = false;
-    private int refreshTime = 1000 / DEFAULT_REFRESH_RATE;
+    private final DmxFrameClock frameClock;
+    private final AtomicBoolean notificationScheduled = new AtomicBoolean();
+    private final Runnable notificationTask = this::notifyListeners;
+    private volatile boolean isMuted = false;
+    private long framePeriod = 1000000000L / DEFAULT_REFRESH_RATE;
 
-    public DmxBridgeHandler(Bridge dmxBridge) {
+    public DmxBridgeHandler(Bridge dmxBridge, DmxFrameClock frameClock) {
         super(dmxBridge);
+        this.frameClock = frameClock;
     }
 
     @Override
@@ -151,21 +152,46 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
      */
     protected abstract void sendDmxData();
 
+    /**
+     * calculate the next frame (called by the {@link DmxFrameClock})
+     *
+     * @param time the timestamp used for calculation
+     */
+    protected void renderFrame(long time) {
+        if (!isMuted && getThing().getStatus() == ThingStatus.ONLINE) {
+            universe.calculateBuffer(time);
+        }
+    }
+
+    /**
+     * send the last calculated frame (called by the {@link DmxFrameClock})
+     */
+    protected void sendFrame() {
+        logger.trace("packet sender for universe {} called, state {}/{}", universe.getUniverseId(),
+                getThing().getStatus(), isMuted);
+        if (!isMuted) {
+            sendDmxData();
+        } else {
+            logger.trace("bridge {} is muted", getThing().getUID());
+        }
+        // state updates are sent from the thing handler scheduler, so slow listeners don't delay the next frame
+        if (universe.hasPendingNotifications() && notificationScheduled.compareAndSet(false, true)) {
+            scheduler.execute(notificationTask);
+        }
+    }
+
+    private void notifyListeners() {
+        notificationScheduled.set(false);
+        universe.notifyListeners();
+    }
+
     /**
      * install the sending and updating scheduler
      */
     protected void installScheduler() {
         uninstallScheduler();
-        if (refreshTime > 0) {
-            senderJob = scheduler.scheduleAtFixedRate(() -> {
-                logger.trace("runnable packet sender for universe {} called, state {}/{}", universe.getUniverseId(),
-                        getThing().getStatus(), isMuted);
-                if (!isMuted) {
-                    sendDmxData();
-                } else {
-                    logger.trace("bridge {} is muted", getThing().getUID());
-                }
-            }, 1, refreshTime, TimeUnit.MILLISECONDS);
+        if (framePeriod > 0) {
+            frameClock.register(this, framePeriod);
             logger.trace("started scheduler for thing {}", this.thing.getUID());
         } else {
             logger.info("refresh disabled for thing {}", this.thing.getUID());
@@ -176,10 +202,7 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
      * uninstall the sending and updating scheduler
      */
     protected void uninstallScheduler() {
-        ScheduledFuture<?> senderJob = this.senderJob;
-        if (senderJob != null) {
-            senderJob.cancel(true);
-            this.senderJob = null;
+        if (frameClock.unregister(this)) {
             closeConnection();
             logger.trace("stopping scheduler for thing {}", this.thing.getUID());
         }
@@ -202,12 +225,12 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
 
         int refreshRate = configuration.refreshrate;
         if (refreshRate > 0) {
-            refreshTime = (int) (1000.0 / refreshRate);
+            framePeriod = 1000000000L / refreshRate;
         } else {
-            refreshTime = 0;
+            framePeriod = 0;
         }
 
-        logger.debug("set refreshTime to {} ms in thing {}", refreshTime, this.thing.getUID());
+        logger.debug("set refresh rate to {} Hz in thing {}", Math.max(refreshRate, 0), this.thing.getUID());
 
         installScheduler();
     }
@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link DmxFrameClock} drives the output of all DMX bridges. Instead of one scheduled job per bridge, a single
+ * thread keeps the frame timing. All universes that are due in a frame are calculated (in parallel, if more than one),
+ * then all of them are sent. Bridges with the same refresh rate always share the same frames.
+ *
+ * The clock and the frame tasks run in the thread pools {@value #CLOCK_THREAD_POOL_NAME} and
+ * {@value #FRAME_THREAD_POOL_NAME}, the number of frames that are processed in parallel is limited by the size of the
+ * frame pool.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class DmxFrameClock {
+    private static final long STOP_TIMEOUT_MS = 1000;
+    private static final String CLOCK_THREAD_POOL_NAME = "SHJ-dmx-clock";
+    private static final String FRAME_THREAD_POOL_NAME = "SHJ-dmx-frame";
+
+    private final Logger logger = LoggerFactory.getLogger(DmxFrameClock.class);
+
+    private final List<Output> outputs = new CopyOnWriteArrayList<>();
+    private final long origin = System.nanoTime();
+    private final ExecutorService clockExecutor = ThreadPoolManager.getPool(CLOCK_THREAD_POOL_NAME);
+    private final ExecutorService frameExecutor = ThreadPoolManager.getPool(FRAME_THREAD_POOL_NAME);
+
+    private @Nullable Clock clock;
+    private volatile long frameTime;
+
+    /**
+     * add a bridge to the frame clock (or change its frame period if already registered)
+     *
+     * @param bridgeHandler the bridge that shall be driven by this clock
+     * @param framePeriod time between two frames in ns
+     */
+    public synchronized void register(DmxBridgeHandler bridgeHandler, long framePeriod) {
+        outputs.removeIf(output -> output.bridgeHandler == bridgeHandler);
+        outputs.add(new Output(bridgeHandler, framePeriod, System.nanoTime()));
+        logger.debug("registered {} with a frame period of {} ns", bridgeHandler.getThing().getUID(), framePeriod);
+        Clock clock = this.clock;
+        if (clock == null) {
+            start();
+        } else {
+            clock.wakeUp();
+        }
+    }
+
+    /**
+     * remove a bridge from the frame clock
+     *
+     * @param bridgeHandler the bridge that shall no longer be driven by this clock
+     * @return true if the bridge was registered
+     */
+    public synchronized boolean unregister(DmxBridgeHandler bridgeHandler) {
+        boolean removed = outputs.removeIf(output -> output.bridgeHandler == bridgeHandler);
+        if (removed) {
+            logger.debug("unregistered {}", bridgeHandler.getThing().getUID());
+        }
+        if (outputs.isEmpty()) {
+            stop();
+        }
+        return removed;
+    }
+
+    /**
+     * stop the clock and remove all bridges
+     */
+    public synchronized void dispose() {
+        outputs.clear();
+        stop();
+    }
+
+    private void start() {
+        Clock clock = new Clock();
+        clock.future = clockExecutor.submit(clock);
+        this.clock = clock;
+        logger.debug("started frame clock");
+    }
+
+    private void stop() {
+        Clock clock = this.clock;
+        if (clock != null) {
+            // the clock has its own stop flag, a clock that does not stop in time can't interfere with a new one
+            clock.stop();
+            Future<?> future = clock.future;
+            if (future != null && clock.thread != Thread.currentThread()) {
+                try {
+                    future.get(STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (TimeoutException e) {
+                    logger.warn("frame clock did not stop in time, cancelling it");
+                    future.cancel(true);
+                } catch (ExecutionException | RuntimeException e) {
+                    logger.debug("frame clock failed: {}", e.getMessage());
+                }
+            }
+            this.clock = null;
+            logger.debug("stopped frame clock");
+        }
+    }
+
+    private void runClock(Clock clock) {
+        List<Output> dueOutputs = new ArrayList<>();
+        List<Callable<@Nullable Void>> renderTasks = new ArrayList<>();
+        List<Callable<@Nullable Void>> sendTasks = new ArrayList<>();
+
+        while (clock.running) {
+            long now = System.nanoTime();
+            long nextFrame = Long.MAX_VALUE;
+            for (Output output : outputs) {
+                if (now - output.nextFrame >= 0) {
+                    dueOutputs.add(output);
+                    output.advance(now);
+                }
+                nextFrame = Math.min(nextFrame, output.nextFrame);
+            }
+
+            if (!dueOutputs.isEmpty()) {
+                frameTime = System.currentTimeMillis();
+                if (dueOutputs.size() == 1) {
+                    Output output = dueOutputs.get(0);
+                    output.render();
+                    output.send();
+                } else {
+                    for (int i = 0; i < dueOutputs.size(); i++) {
+                        renderTasks.add(dueOutputs.get(i).renderTask);
+                        sendTasks.add(dueOutputs.get(i).sendTask);
+                    }
+                    // all universes are calculated before the first one is sent, so they are output in sync
+                    if (!invokeAll(renderTasks) || !invokeAll(sendTasks)) {
+                        return;
+                    }
+                    renderTasks.clear();
+                    sendTasks.clear();
+                }
+                dueOutputs.clear();
+            }
+
+            long sleepTime = nextFrame == Long.MAX_VALUE ? TimeUnit.SECONDS.toNanos(1) : nextFrame - System.nanoTime();
+            if (sleepTime > 0) {
+                LockSupport.parkNanos(this, sleepTime);
+            }
+        }
+    }
+
+    /**
+     * run the tasks in the frame pool and wait for all of them
+     *
+     * @param tasks the tasks
+     * @return false if the clock was interrupted
+     */
+    private boolean invokeAll(List<Callable<@Nullable Void>> tasks) {
+        try {
+            for (Future<@Nullable Void> future : frameExecutor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | RuntimeException e) {
+            logger.debug("processing frame failed: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * a single run of the clock, it is never restarted once it has been stopped
+     */
+    private class Clock implements Runnable {
+        private volatile boolean running = true;
+        private volatile @Nullable Thread thread;
+        private volatile @Nullable Future<?> future;
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            try {
+                runClock(this);
+            } finally {
+                thread = null;
+            }
+        }
+
+        private void wakeUp() {
+            Thread thread = this.thread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private void stop() {
+            running = false;
+            wakeUp();
+        }
+    }
+
+    /**
+     * the timing information and (pre-allocated) frame tasks of a single bridge
+     */
+    private class Output {
+        private final DmxBridgeHandler bridgeHandler;
+        private final long framePeriod;
+        private long nextFrame;
+
+        private final Callable<@Nullable Void> renderTask = () -> {
+            render();
+            return null;
+        };
+        private final Callable<@Nullable Void> sendTask = () -> {
+            send();
+            return null;
+        };
+
+        private Output(DmxBridgeHandler bridgeHandler, long framePeriod, long now) {
+            this.bridgeHandler = bridgeHandler;
+            this.framePeriod = framePeriod;
+            // align to the clock origin, so that all bridges with the same period are due at the same time
+            this.nextFrame = now + framePeriod - Math.floorMod(now - origin, framePeriod);
+        }
+
+        private void render() {
+            try {
+                bridgeHandler.renderFrame(frameTime);
+            } catch (RuntimeException e) {
+                logger.warn("Calculating frame for {} failed: {}", bridgeHandler.getThing().getUID(), e.getMessage());
+            }
+        }
+
+        private void send() {
+            try {
+                bridgeHandler.sendFrame();
+            } catch (RuntimeException e) {
+                logger.warn("Sending frame for {} failed: {}", bridgeHandler.getThing().getUID(), e.getMessage());
+            }
+        }
+
+        /**
+         * calculate the time of the next frame, frames that were missed are skipped
+         *
+         * @param now the current time in ns
+         */
+        private void advance(long now) {
+            nextFrame += framePeriod;
+            if (now - nextFrame >= 0) {
+                long missedFrames = (now - nextFrame) / framePeriod + 1;
+                nextFrame += missedFrames * framePeriod;
+            }
+        }
+    }
+}
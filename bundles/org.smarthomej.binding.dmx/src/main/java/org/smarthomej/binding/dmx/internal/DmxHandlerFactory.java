@@ -27,6 +27,7 @@ import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
 import org.smarthomej.binding.dmx.internal.handler.ArtnetBridgeHandler;
 import org.smarthomej.binding.dmx.internal.handler.ChaserThingHandler;
@@ -52,6 +53,8 @@ public class DmxHandlerFactory extends BaseThingHandlerFactory {
                     TunableWhiteThingHandler.SUPPORTED_THING_TYPES)
             .flatMap(Set::stream).collect(Collectors.toUnmodifiableSet());
 
+    private final DmxFrameClock frameClock = new DmxFrameClock();
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES.contains(thingTypeUID);
@@ -61,13 +64,13 @@ public class DmxHandlerFactory extends BaseThingHandlerFactory {
     protected @Nullable ThingHandler createHandler(Thing thing) {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         if (thingTypeUID.equals(THING_TYPE_ARTNET_BRIDGE)) {
-            ArtnetBridgeHandler handler = new ArtnetBridgeHandler((Bridge) thing);
+            ArtnetBridgeHandler handler = new ArtnetBridgeHandler((Bridge) thing, frameClock);
             return handler;
         } else if (thingTypeUID.equals(THING_TYPE_LIB485_BRIDGE)) {
-            Lib485BridgeHandler handler = new Lib485BridgeHandler((Bridge) thing);
+            Lib485BridgeHandler handler = new Lib485BridgeHandler((Bridge) thing, frameClock);
             return handler;
         } else if (thingTypeUID.equals(THING_TYPE_SACN_BRIDGE)) {
-            SacnBridgeHandler handler = new SacnBridgeHandler((Bridge) thing);
+            SacnBridgeHandler handler = new SacnBridgeHandler((Bridge) thing, frameClock);
             return handler;
         } else if (thingTypeUID.equals(THING_TYPE_DIMMER)) {
             DimmerThingHandler handler = new DimmerThingHandler(thing);
@@ -84,4 +87,10 @@ public class DmxHandlerFactory extends BaseThingHandlerFactory {
         }
         return null;
     }
+
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        frameClock.dispose();
+        super.deactivate(componentContext);
+    }
 }
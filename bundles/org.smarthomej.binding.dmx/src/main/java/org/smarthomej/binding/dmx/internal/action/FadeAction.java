@@ -40,10 +40,6 @@ public class FadeAction extends BaseAction {
     /** Desired channel output value. **/
     private final int targetValue;
 
-    private float stepDuration;
-
-    private FadeDirection fadeDirection = FadeDirection.DOWN;
-
     /**
      * Create new fading action.
      *
@@ -76,53 +72,14 @@ public class FadeAction extends BaseAction {
 
     @Override
     public int getNewValue(DmxChannel channel, long currentTime) {
-        int newValue = channel.getHiResValue();
-
         if (startTime == 0) {
             startTime = currentTime;
             state = ActionState.RUNNING;
-
-            if (fadeTime != 0) {
-                startValue = channel.getHiResValue();
-
-                // calculate fade details
-                if (startValue == targetValue) {
-                    stepDuration = 1;
-                } else if (startValue > targetValue) {
-                    fadeDirection = FadeDirection.DOWN;
-                    stepDuration = (float) fadeTime / (startValue - targetValue);
-                } else {
-                    fadeDirection = FadeDirection.UP;
-                    stepDuration = (float) fadeTime / (targetValue - startValue);
-                }
-            } else {
-                newValue = targetValue;
-            }
+            startValue = channel.getHiResValue();
         }
 
         long duration = currentTime - startTime;
-
-        if ((fadeTime != 0) && (newValue != targetValue)) {
-            // calculate new fade value
-            if (stepDuration == 0) {
-                stepDuration = 1;
-            }
-            int currentStep = (int) (duration / stepDuration);
-
-            if (fadeDirection == FadeDirection.UP) {
-                newValue = startValue + currentStep;
-                if (newValue > targetValue) {
-                    newValue = targetValue;
-                }
-            } else {
-                newValue = startValue - currentStep;
-                if (newValue < targetValue) {
-                    newValue = targetValue;
-                }
-            }
-        } else {
-            newValue = targetValue;
-        }
+        int newValue = fadeTime == 0 ? targetValue : fadeValue(startValue, targetValue, duration, fadeTime);
 
         if (newValue == targetValue) {
             if (holdTime > -1) {
@@ -140,6 +97,69 @@ public class FadeAction extends BaseAction {
         return newValue;
     }
 
+    /**
+     * get the time this action was started
+     *
+     * @return UNIX timestamp (0 if not started)
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * get the channel value at the start of this action
+     *
+     * @return value 0-65535
+     */
+    public int getStartValue() {
+        return startValue;
+    }
+
+    /**
+     * get the target value of this action
+     *
+     * @return value 0-65535
+     */
+    public int getTargetValue() {
+        return targetValue;
+    }
+
+    /**
+     * get the fade time of this action
+     *
+     * @return time in ms
+     */
+    public long getFadeTime() {
+        return fadeTime;
+    }
+
+    /**
+     * get the time this action changes its state (completes or holds indefinitely)
+     *
+     * @return UNIX timestamp
+     */
+    public long getEndTime() {
+        return holdTime > -1 ? startTime + fadeTime + holdTime : startTime + fadeTime;
+    }
+
+    /**
+     * calculate the value of a fade at a given time (integer arithmetic only)
+     *
+     * @param startValue the value at the start of the fade
+     * @param targetValue the value at the end of the fade
+     * @param duration time in ms since the start of the fade
+     * @param fadeTime time in ms for the complete fade (must be greater than 0)
+     * @return value 0-65535
+     */
+    public static int fadeValue(int startValue, int targetValue, long duration, long fadeTime) {
+        if (duration >= fadeTime) {
+            return targetValue;
+        } else if (duration <= 0) {
+            return startValue;
+        }
+        return startValue + (int) ((targetValue - startValue) * duration / fadeTime);
+    }
+
     @Override
     public String toString() {
         return "FadeAction: " + targetValue + ", fade time " + fadeTime + "ms, hold time " + holdTime + "ms";
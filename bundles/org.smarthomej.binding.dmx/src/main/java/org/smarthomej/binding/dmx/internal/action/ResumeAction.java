@@ -29,6 +29,6 @@ public class ResumeAction extends BaseAction {
     public int getNewValue(DmxChannel channel, long currentTime) {
         state = ActionState.COMPLETED;
         channel.resumeAction();
-        return channel.getNewHiResValue(currentTime);
+        return channel.calculateHiResValue(currentTime);
     }
 }
@@ -28,6 +28,7 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.dmx.internal.DmxBridgeHandler;
+import org.smarthomej.binding.dmx.internal.DmxFrameClock;
 
 /**
  * The {@link DmxOverEthernetHandler} is an abstract class with base functions
@@ -46,6 +47,8 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     protected boolean refreshAlways = false;
 
     protected @Nullable DatagramSocket socket = null;
+    // re-used for all frames as long as the packet template is not replaced
+    private @Nullable DatagramPacket sendPacket = null;
     private long lastSend = 0;
     private int repeatCounter = 0;
     private int sequenceNo = 0;
@@ -95,8 +98,7 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     protected void sendDmxData() {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
             boolean needsSending = false;
-            long now = System.currentTimeMillis();
-            universe.calculateBuffer(now);
+            long now = universe.getLastCalculated();
             if ((universe.getLastBufferChanged() > lastSend) || refreshAlways) {
                 needsSending = true;
                 repeatCounter = 0;
@@ -113,15 +115,24 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
                             thing.getUID());
                     return;
                 }
-                packetTemplate.setPayload(universe.getBuffer(), universe.getBufferSize());
+                packetTemplate.setPayload(universe);
                 packetTemplate.setSequence(sequenceNo);
-                DatagramPacket sendPacket = new DatagramPacket(packetTemplate.getRawPacket(),
-                        packetTemplate.getPacketLength());
-                for (IpNode receiverNode : receiverNodes) {
+                DatagramPacket sendPacket = this.sendPacket;
+                if (sendPacket == null || sendPacket.getData() != packetTemplate.getRawPacket()) {
+                    sendPacket = new DatagramPacket(packetTemplate.getRawPacket(), packetTemplate.getPacketLength());
+                    this.sendPacket = sendPacket;
+                } else {
+                    sendPacket.setLength(packetTemplate.getPacketLength());
+                }
+                List<IpNode> receiverNodes = this.receiverNodes;
+                for (int i = 0; i < receiverNodes.size(); i++) {
+                    IpNode receiverNode = receiverNodes.get(i);
                     sendPacket.setAddress(receiverNode.getAddress());
                     sendPacket.setPort(receiverNode.getPort());
-                    logger.trace("sending packet with length {} to {}", packetTemplate.getPacketLength(),
-                            receiverNode.toString());
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("sending packet with length {} to {}", packetTemplate.getPacketLength(),
+                                receiverNode);
+                    }
                     try {
                         DatagramSocket socket = this.socket;
                         if (socket != null) {
@@ -143,7 +154,7 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
         }
     }
 
-    public DmxOverEthernetHandler(Bridge sacnBridge) {
-        super(sacnBridge);
+    public DmxOverEthernetHandler(Bridge sacnBridge, DmxFrameClock frameClock) {
+        super(sacnBridge, frameClock);
     }
 }
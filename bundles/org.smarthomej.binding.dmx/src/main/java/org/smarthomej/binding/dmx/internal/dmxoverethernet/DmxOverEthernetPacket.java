@@ -14,6 +14,7 @@
 package org.smarthomej.binding.dmx.internal.dmxoverethernet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 
 /**
  * The {@link DmxOverEthernetPacket} is an abstract class for
@@ -63,6 +64,28 @@ public abstract class DmxOverEthernetPacket {
      */
     public abstract void setPayload(byte[] payload, int payloadSize);
 
+    /**
+     * set payload data from the last calculated frame of a universe
+     * <p>
+     * The data is copied directly into the packet, no intermediate buffer is allocated.
+     *
+     * @param universe the universe
+     */
+    public void setPayload(Universe universe) {
+        int bufferSize = universe.getBufferSize();
+        if (bufferSize != payloadSize) {
+            setPayloadSize(bufferSize);
+        }
+        universe.copyBuffer(rawPacket, getPayloadOffset(), payloadSize);
+    }
+
+    /**
+     * get the position of the DMX data in the packet
+     *
+     * @return offset of the first DMX channel
+     */
+    protected abstract int getPayloadOffset();
+
     /**
      * get packet for transmission
      *
@@ -180,6 +180,11 @@ public class SacnPacket extends DmxOverEthernetPacket {
         setPayload(payload);
     }
 
+    @Override
+    protected int getPayloadOffset() {
+        return 126;
+    }
+
     @Override
     public int getPacketLength() {
         return (126 + this.payloadSize);
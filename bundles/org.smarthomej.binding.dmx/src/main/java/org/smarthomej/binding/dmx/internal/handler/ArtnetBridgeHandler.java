@@ -24,6 +24,7 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingTypeUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.dmx.internal.DmxFrameClock;
 import org.smarthomej.binding.dmx.internal.config.ArtnetBridgeHandlerConfiguration;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.ArtnetNode;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.ArtnetPacket;
@@ -45,8 +46,8 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
 
     private final Logger logger = LoggerFactory.getLogger(ArtnetBridgeHandler.class);
 
-    public ArtnetBridgeHandler(Bridge artnetBridge) {
-        super(artnetBridge);
+    public ArtnetBridgeHandler(Bridge artnetBridge, DmxFrameClock frameClock) {
+        super(artnetBridge, frameClock);
     }
 
     @Override
@@ -30,6 +30,7 @@ import org.openhab.core.thing.ThingTypeUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.dmx.internal.DmxBridgeHandler;
+import org.smarthomej.binding.dmx.internal.DmxFrameClock;
 import org.smarthomej.binding.dmx.internal.config.Lib485BridgeHandlerConfiguration;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.IpNode;
 import org.smarthomej.binding.dmx.internal.multiverse.Universe;
@@ -49,9 +50,10 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
 
     private final Logger logger = LoggerFactory.getLogger(Lib485BridgeHandler.class);
     private final Map<IpNode, @Nullable Socket> receiverNodes = new HashMap<>();
+    private final byte[] sendBuffer = new byte[Universe.MAX_UNIVERSE_SIZE];
 
-    public Lib485BridgeHandler(Bridge lib485Bridge) {
-        super(lib485Bridge);
+    public Lib485BridgeHandler(Bridge lib485Bridge, DmxFrameClock frameClock) {
+        super(lib485Bridge, frameClock);
     }
 
     @Override
@@ -102,13 +104,13 @@ public class Lib485BridgeHandler extends DmxBridgeHandler {
     @Override
     protected void sendDmxData() {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
-            long now = System.currentTimeMillis();
-            universe.calculateBuffer(now);
+            int bufferSize = universe.getBufferSize();
+            universe.copyBuffer(sendBuffer, 0, bufferSize);
             for (IpNode receiverNode : receiverNodes.keySet()) {
                 Socket socket = receiverNodes.get(receiverNode);
                 if (socket != null && socket.isConnected()) {
                     try {
-                        socket.getOutputStream().write(universe.getBuffer());
+                        socket.getOutputStream().write(sendBuffer, 0, bufferSize);
                     } catch (IOException e) {
                         logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(),
                                 e.getMessage());
@@ -26,6 +26,7 @@ import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingTypeUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.dmx.internal.DmxFrameClock;
 import org.smarthomej.binding.dmx.internal.config.SacnBridgeHandlerConfiguration;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetHandler;
 import org.smarthomej.binding.dmx.internal.dmxoverethernet.DmxOverEthernetPacket;
@@ -48,8 +49,8 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
     private final Logger logger = LoggerFactory.getLogger(SacnBridgeHandler.class);
     private final UUID senderUUID;
 
-    public SacnBridgeHandler(Bridge sacnBridge) {
-        super(sacnBridge);
+    public SacnBridgeHandler(Bridge sacnBridge, DmxFrameClock frameClock) {
+        super(sacnBridge, frameClock);
         senderUUID = UUID.randomUUID();
     }
 
@@ -14,10 +14,10 @@
 package org.smarthomej.binding.dmx.internal.multiverse;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,6 +32,7 @@ import org.smarthomej.binding.dmx.internal.DmxThingHandler;
 import org.smarthomej.binding.dmx.internal.Util;
 import org.smarthomej.binding.dmx.internal.action.ActionState;
 import org.smarthomej.binding.dmx.internal.action.BaseAction;
+import org.smarthomej.binding.dmx.internal.action.FadeAction;
 
 /**
  * The {@link DmxChannel} extends {@link BaseDmxChannel} with actions and values
@@ -47,9 +48,15 @@ public class DmxChannel extends BaseDmxChannel {
 
     private final Logger logger = LoggerFactory.getLogger(DmxChannel.class);
 
-    private int value = MIN_VALUE;
+    // read by the universe without holding the lock
+    private volatile int value = MIN_VALUE;
     private int suspendedValue = MIN_VALUE;
     private int lastStateValue = -1;
+    private int pendingStateValue = -1;
+    private int notifiedStateValue = -1;
+    private volatile boolean hasPendingNotification = false;
+    // changed whenever the action list is modified, running fades are then re-evaluated by the channel
+    private int modCount = 0;
 
     private boolean isSuspended = false;
     private int refreshTime = 0;
@@ -59,9 +66,9 @@ public class DmxChannel extends BaseDmxChannel {
     private final List<BaseAction> suspendedActions = new ArrayList<>();
     private final List<Thing> registeredThings = new ArrayList<>();
 
-    private final Map<ChannelUID, DmxThingHandler> onOffListeners = new HashMap<>();
-    private final Map<ChannelUID, DmxThingHandler> valueListeners = new HashMap<>();
-    private @Nullable Entry<ChannelUID, DmxThingHandler> actionListener = null;
+    private final Map<ChannelUID, DmxThingHandler> onOffListeners = new ConcurrentHashMap<>();
+    private final Map<ChannelUID, DmxThingHandler> valueListeners = new ConcurrentHashMap<>();
+    private volatile @Nullable Entry<ChannelUID, DmxThingHandler> actionListener = null;
 
     public DmxChannel(int universeId, int dmxChannelId, int refreshTime) {
         super(universeId, dmxChannelId);
@@ -154,6 +161,7 @@ public class DmxChannel extends BaseDmxChannel {
             logger.trace("suspending actions and value for channel {}", this);
         }
 
+        modCount++;
         suspendedValue = value;
         suspendedActions.clear();
         if (hasRunningActions()) {
@@ -168,6 +176,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public synchronized void resumeAction() throws IllegalStateException {
         if (isSuspended) {
+            modCount++;
             clearAction();
             if (!suspendedActions.isEmpty()) {
                 actions.addAll(suspendedActions);
@@ -197,6 +206,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public synchronized void clearAction() {
         logger.trace("clearing all actions for DMX channel {}", this);
+        modCount++;
         actions.clear();
         // remove action listener
         Map.Entry<ChannelUID, DmxThingHandler> actionListener = this.actionListener;
@@ -223,6 +233,7 @@ public class DmxChannel extends BaseDmxChannel {
      * @param channelAction action for this channel.
      */
     public synchronized void addChannelAction(BaseAction channelAction) {
+        modCount++;
         actions.add(channelAction);
         logger.trace("added action {} to channel {} (total {} actions)", channelAction, this, actions.size());
     }
@@ -242,6 +253,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public synchronized void switchToNextAction() {
         // push action to the back of the action list
+        modCount++;
         BaseAction action = actions.get(0);
         actions.remove(0);
         action.reset();
@@ -256,7 +268,7 @@ public class DmxChannel extends BaseDmxChannel {
      * @param calculationTime UNIX timestamp
      * @return value 0-255
      */
-    public synchronized Integer getNewValue(long calculationTime) {
+    public synchronized int getNewValue(long calculationTime) {
         return (getNewHiResValue(calculationTime) >> 8);
     }
 
@@ -267,7 +279,21 @@ public class DmxChannel extends BaseDmxChannel {
      * @param calculationTime UNIX timestamp
      * @return value 0-65535
      */
-    public synchronized Integer getNewHiResValue(long calculationTime) {
+    public synchronized int getNewHiResValue(long calculationTime) {
+        int hiResValue = calculateHiResValue(calculationTime);
+        notifyListeners();
+        return hiResValue;
+    }
+
+    /**
+     * Calculate the new value for this channel as determined by active actions or the
+     * current value. State changes are not sent to the listeners, this is done by
+     * calling {@link #notifyListeners()}.
+     *
+     * @param calculationTime UNIX timestamp
+     * @return value 0-65535
+     */
+    public synchronized int calculateHiResValue(long calculationTime) {
         if (hasRunningActions()) {
             logger.trace("checking actions, list is {}", actions);
             BaseAction action = actions.get(0);
@@ -281,24 +307,8 @@ public class DmxChannel extends BaseDmxChannel {
 
         // send updates not more than once in a second, and only on value change
         if ((lastStateValue != value) && (calculationTime - lastStateTimestamp > refreshTime)) {
-            // notify value listeners if value changed
-            for (Entry<ChannelUID, DmxThingHandler> listener : valueListeners.entrySet()) {
-                int dmxValue = Util.toDmxValue(value >> 8);
-                (listener.getValue()).updateChannelValue(listener.getKey(), dmxValue);
-                logger.trace("sending VALUE={} (raw={}) status update to listener {} ({})", dmxValue, value,
-                        listener.getValue(), listener.getKey());
-            }
-
-            // notify on/off listeners if on/off state changed
-            if ((lastStateValue == 0) || (value == 0)) {
-                OnOffType state = (value == 0) ? OnOffType.OFF : OnOffType.ON;
-                for (Entry<ChannelUID, DmxThingHandler> listener : onOffListeners.entrySet()) {
-                    (listener.getValue()).updateSwitchState(listener.getKey(), state);
-                    logger.trace("sending ONOFF={} (raw={}), status update to listener {}", state, value,
-                            listener.getKey());
-                }
-            }
-
+            pendingStateValue = value;
+            hasPendingNotification = true;
             lastStateValue = value;
             lastStateTimestamp = calculationTime;
         }
@@ -306,6 +316,88 @@ public class DmxChannel extends BaseDmxChannel {
         return value;
     }
 
+    /**
+     * Calculate the new value for this channel and hand a running fade over to the
+     * fade engine of the universe (or remove it from there if the fade is no longer running).
+     *
+     * @param calculationTime UNIX timestamp
+     * @param fadeEngine the fade engine of the universe this channel belongs to
+     * @return value 0-65535
+     */
+    synchronized int calculateHiResValue(long calculationTime, FadeEngine fadeEngine) {
+        int hiResValue = calculateHiResValue(calculationTime);
+        @Nullable
+        BaseAction action = actions.isEmpty() ? null : actions.get(0);
+        if (action instanceof FadeAction && action.getState() == ActionState.RUNNING) {
+            // the engine needs to return the channel when the next state update is due
+            long nextStateUpdate = lastStateTimestamp + refreshTime + 1;
+            fadeEngine.start(this, (FadeAction) action, modCount, nextStateUpdate);
+        } else {
+            fadeEngine.stop(getChannelId());
+        }
+        return hiResValue;
+    }
+
+    /**
+     * set the value calculated by the fade engine if the action list has not been modified since the fade was handed
+     * over
+     *
+     * @param value value 0-65535
+     * @param expectedModCount the modification counter of the action list when the fade was handed over
+     * @return true if the value was set, false if the channel needs to re-evaluate its actions
+     */
+    synchronized boolean setFadeValue(int value, int expectedModCount) {
+        if (modCount != expectedModCount) {
+            return false;
+        }
+        this.value = value;
+        return true;
+    }
+
+    /**
+     * check if there is a state change that has not been sent to the listeners
+     *
+     * @return true or false
+     */
+    public boolean hasPendingNotification() {
+        return hasPendingNotification;
+    }
+
+    /**
+     * send the last state change to the listeners (if any)
+     */
+    public void notifyListeners() {
+        int value;
+        int previousValue;
+        synchronized (this) {
+            if (!hasPendingNotification) {
+                return;
+            }
+            value = pendingStateValue;
+            previousValue = notifiedStateValue;
+            notifiedStateValue = value;
+            hasPendingNotification = false;
+        }
+
+        // notify value listeners if value changed
+        for (Entry<ChannelUID, DmxThingHandler> listener : valueListeners.entrySet()) {
+            int dmxValue = Util.toDmxValue(value >> 8);
+            (listener.getValue()).updateChannelValue(listener.getKey(), dmxValue);
+            logger.trace("sending VALUE={} (raw={}) status update to listener {} ({})", dmxValue, value,
+                    listener.getValue(), listener.getKey());
+        }
+
+        // notify on/off listeners if on/off state changed
+        if ((previousValue == 0) || (value == 0)) {
+            OnOffType state = (value == 0) ? OnOffType.OFF : OnOffType.ON;
+            for (Entry<ChannelUID, DmxThingHandler> listener : onOffListeners.entrySet()) {
+                (listener.getValue()).updateSwitchState(listener.getKey(), state);
+                logger.trace("sending ONOFF={} (raw={}), status update to listener {}", state, value,
+                        listener.getKey());
+            }
+        }
+    }
+
     /**
      * add a channel listener for state updates
      *
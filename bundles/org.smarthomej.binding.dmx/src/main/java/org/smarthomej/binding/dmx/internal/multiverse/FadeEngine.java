@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.multiverse;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.smarthomej.binding.dmx.internal.action.FadeAction;
+
+/**
+ * The {@link FadeEngine} calculates all running fades of a {@link Universe} in a single pass over primitive arrays
+ * (indexed by channel id). Only the part of a fade between its start and its end is calculated here: starting,
+ * completing and chaining actions as well as state updates are left to the {@link DmxChannel}, which hands running
+ * fades over to the engine.
+ *
+ * This class is not thread-safe, it is only used from the calculation of its universe (which holds the universe lock).
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+class FadeEngine {
+    private static final int SIZE = Universe.MAX_UNIVERSE_SIZE + 1;
+
+    private final @Nullable DmxChannel[] channels = new DmxChannel[SIZE];
+    private final int[] modCount = new int[SIZE];
+    private final int[] startValue = new int[SIZE];
+    private final int[] targetValue = new int[SIZE];
+    private final long[] startTime = new long[SIZE];
+    private final long[] fadeTime = new long[SIZE];
+    // the channel needs to be evaluated by itself at or after this time
+    private final long[] returnTime = new long[SIZE];
+    private final int[] value = new int[SIZE];
+    private final boolean[] calculated = new boolean[SIZE];
+
+    // dense list of channel ids with running fades and the position of a channel id in this list (or -1)
+    private final int[] running = new int[SIZE];
+    private final int[] runningIndex = new int[SIZE];
+    private int runningCount = 0;
+
+    FadeEngine() {
+        Arrays.fill(runningIndex, -1);
+    }
+
+    /**
+     * start (or update) a fade
+     *
+     * @param channel the channel
+     * @param fade the running fade action of this channel
+     * @param modCount the modification counter of the channel when the fade was handed over
+     * @param nextStateUpdate the time the next state update of the channel is due
+     */
+    void start(DmxChannel channel, FadeAction fade, int modCount, long nextStateUpdate) {
+        int channelId = channel.getChannelId();
+        channels[channelId] = channel;
+        this.modCount[channelId] = modCount;
+        startValue[channelId] = fade.getStartValue();
+        targetValue[channelId] = fade.getTargetValue();
+        startTime[channelId] = fade.getStartTime();
+        fadeTime[channelId] = fade.getFadeTime();
+        returnTime[channelId] = Math.min(fade.getEndTime(), nextStateUpdate);
+        calculated[channelId] = false;
+        if (runningIndex[channelId] < 0) {
+            runningIndex[channelId] = runningCount;
+            running[runningCount++] = channelId;
+        }
+    }
+
+    /**
+     * stop the fade of a channel (if any)
+     *
+     * @param channelId the channel id
+     */
+    void stop(int channelId) {
+        int index = runningIndex[channelId];
+        if (index >= 0) {
+            // move the last entry to the free position
+            int lastChannelId = running[--runningCount];
+            running[index] = lastChannelId;
+            runningIndex[lastChannelId] = index;
+            runningIndex[channelId] = -1;
+            channels[channelId] = null;
+            calculated[channelId] = false;
+        }
+    }
+
+    /**
+     * calculate all running fades for a given time
+     *
+     * fades that need to be evaluated by their channel (completed, state update due, actions modified) are not
+     * calculated
+     *
+     * @param time the timestamp used for calculation
+     */
+    void calculate(long time) {
+        for (int i = 0; i < runningCount; i++) {
+            int channelId = running[i];
+            DmxChannel channel = channels[channelId];
+            if (channel == null || time >= returnTime[channelId]) {
+                calculated[channelId] = false;
+                continue;
+            }
+            long duration = time - startTime[channelId];
+            int newValue = FadeAction.fadeValue(startValue[channelId], targetValue[channelId], duration,
+                    fadeTime[channelId]);
+            // the check of the modification counter and the write are atomic, the actions may be changed concurrently
+            calculated[channelId] = channel.setFadeValue(newValue, modCount[channelId]);
+            value[channelId] = newValue;
+        }
+    }
+
+    /**
+     * check if the value of a channel was calculated in the last pass
+     *
+     * @param channelId the channel id
+     * @return true or false
+     */
+    boolean isCalculated(int channelId) {
+        return calculated[channelId];
+    }
+
+    /**
+     * get the value of a channel calculated in the last pass
+     *
+     * @param channelId the channel id
+     * @return value 0-65535
+     */
+    int getValue(int channelId) {
+        return value[channelId];
+    }
+
+    /**
+     * get the number of running fades
+     *
+     * @return number of fades
+     */
+    int getRunningCount() {
+        return runningCount;
+    }
+}
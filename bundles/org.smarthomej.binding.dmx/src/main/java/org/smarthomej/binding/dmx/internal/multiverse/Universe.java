@@ -16,9 +16,12 @@ package org.smarthomej.binding.dmx.internal.multiverse;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.thing.Thing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,14 +44,22 @@ public class Universe {
     private int universeId;
     private int bufferSize = MIN_UNIVERSE_SIZE;
 
-    private final short[] buffer = new short[MAX_UNIVERSE_SIZE];
+    // frames are rendered into the back buffer, the front buffer always contains the last complete frame
+    private volatile byte[] frontBuffer = new byte[MAX_UNIVERSE_SIZE];
+    private byte[] backBuffer = new byte[MAX_UNIVERSE_SIZE];
     private final short[] cie1931Curve = new short[DmxChannel.MAX_VALUE << 8 + 1];
 
     private long bufferChanged;
+    private volatile long lastCalculated;
     private int refreshTime = DEFAULT_REFRESH_TIME;
 
     private final List<DmxChannel> channels = new ArrayList<>();
-    private final List<Integer> applyCurve = new ArrayList<>();
+    // indexed by channel id
+    private volatile boolean[] applyCurve = new boolean[MAX_UNIVERSE_SIZE + 1];
+    // channels with state changes that have not been sent to the listeners
+    private final Queue<DmxChannel> pendingNotifications = new ConcurrentLinkedQueue<>();
+    // running fades are calculated in one pass instead of channel by channel
+    private final FadeEngine fadeEngine = new FadeEngine();
 
     /**
      * universe constructor
@@ -104,6 +115,7 @@ public class Universe {
                 channel.unregisterThing(thing);
                 if (!channel.hasRegisteredThings()) {
                     channelIterator.remove();
+                    fadeEngine.stop(channel.getChannelId());
                     logger.trace("Removing channel {}, no more things", channel);
                 }
             }
@@ -143,6 +155,15 @@ public class Universe {
         return bufferChanged;
     }
 
+    /**
+     * get the timestamp of the last buffer calculation
+     *
+     * @return timestamp
+     */
+    public long getLastCalculated() {
+        return lastCalculated;
+    }
+
     /**
      * get size of the buffer
      *
@@ -177,31 +198,66 @@ public class Universe {
     /**
      * calculate this universe buffer (run all channel actions) for a given time
      *
+     * listeners are not notified, this is done by calling {@link #notifyListeners()}
+     *
      * @param time the timestamp used for calculation
      */
     public void calculateBuffer(long time) {
         universeLock.lock();
         try {
-            for (DmxChannel channel : channels) {
-                logger.trace("calculating new value for {}", channel);
+            byte[] buffer = backBuffer;
+            // channels that are not calculated keep their value
+            System.arraycopy(frontBuffer, 0, buffer, 0, MAX_UNIVERSE_SIZE);
+            boolean[] applyCurve = this.applyCurve;
+            fadeEngine.calculate(time);
+            // indexed loop, this is called for every frame and should not allocate
+            for (int i = 0; i < channels.size(); i++) {
+                DmxChannel channel = channels.get(i);
                 int channelId = channel.getChannelId();
-                int vx = channel.getNewHiResValue(time);
-                int value;
-                if (applyCurve.contains(channelId)) {
-                    value = cie1931Curve[vx];
+                int vx;
+                if (fadeEngine.isCalculated(channelId)) {
+                    vx = fadeEngine.getValue(channelId);
                 } else {
-                    value = vx >> 8;
+                    logger.trace("calculating new value for {}", channel);
+                    vx = channel.calculateHiResValue(time, fadeEngine);
+                    if (channel.hasPendingNotification()) {
+                        pendingNotifications.add(channel);
+                    }
                 }
+                byte value = (byte) (applyCurve[channelId] ? cie1931Curve[vx] : vx >> 8);
                 if (buffer[channelId - 1] != value) {
-                    buffer[channelId - 1] = (short) value;
+                    buffer[channelId - 1] = value;
                     bufferChanged = time;
                 }
             }
+            backBuffer = frontBuffer;
+            frontBuffer = buffer;
+            lastCalculated = time;
         } finally {
             universeLock.unlock();
         }
     }
 
+    /**
+     * check if there are state changes that need to be sent to the channel listeners
+     *
+     * @return true or false
+     */
+    public boolean hasPendingNotifications() {
+        return !pendingNotifications.isEmpty();
+    }
+
+    /**
+     * send all state changes since the last call to the channel listeners
+     */
+    public void notifyListeners() {
+        @Nullable
+        DmxChannel channel;
+        while ((channel = pendingNotifications.poll()) != null) {
+            channel.notifyListeners();
+        }
+    }
+
     /**
      * get the full universe buffer
      *
@@ -209,28 +265,35 @@ public class Universe {
      */
     public byte[] getBuffer() {
         byte[] b = new byte[bufferSize];
-        universeLock.lock();
-        try {
-            for (int i = 0; i < bufferSize; i++) {
-                b[i] = (byte) buffer[i];
-            }
-        } finally {
-            universeLock.unlock();
-        }
+        copyBuffer(b, 0, bufferSize);
         return b;
     }
 
+    /**
+     * copy the last calculated frame to a given array (e.g. a packet)
+     *
+     * @param destination the destination array
+     * @param offset the position of the first channel in the destination array
+     * @param length the number of channels to copy
+     */
+    public void copyBuffer(byte[] destination, int offset, int length) {
+        System.arraycopy(frontBuffer, 0, destination, offset, Math.min(length, MAX_UNIVERSE_SIZE));
+    }
+
     /**
      * set list of channels that should use the LED dim curve
      *
      * @param listString
      */
     public void setDimCurveChannels(String listString) {
-        applyCurve.clear();
+        boolean[] applyCurve = new boolean[MAX_UNIVERSE_SIZE + 1];
+        List<Integer> channelIds = new ArrayList<>();
         for (BaseDmxChannel channel : BaseDmxChannel.fromString(listString, universeId)) {
-            applyCurve.add(channel.getChannelId());
+            applyCurve[channel.getChannelId()] = true;
+            channelIds.add(channel.getChannelId());
         }
-        logger.debug("applying dim curve in universe {} to channels {}", universeId, applyCurve);
+        this.applyCurve = applyCurve;
+        logger.debug("applying dim curve in universe {} to channels {}", universeId, channelIds);
     }
 
     /**
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal;
+
+import static org.mockito.Mockito.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * Tests cases for {@link DmxFrameClock}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class DmxFrameClockTest {
+    private static final long FRAME_PERIOD = 10000000L; // 10 ms
+
+    private final DmxFrameClock frameClock = new DmxFrameClock();
+    private @NonNullByDefault({}) DmxBridgeHandler bridgeHandler1;
+    private @NonNullByDefault({}) DmxBridgeHandler bridgeHandler2;
+
+    @BeforeEach
+    public void setup() {
+        bridgeHandler1 = createBridgeHandler("bridge1");
+        bridgeHandler2 = createBridgeHandler("bridge2");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        frameClock.dispose();
+    }
+
+    @Test
+    public void framesAreCalculatedAndSent() {
+        frameClock.register(bridgeHandler1, FRAME_PERIOD);
+
+        verify(bridgeHandler1, timeout(500).atLeast(5)).sendFrame();
+        InOrder inOrder = inOrder(bridgeHandler1);
+        inOrder.verify(bridgeHandler1).renderFrame(anyLong());
+        inOrder.verify(bridgeHandler1).sendFrame();
+    }
+
+    @Test
+    public void allBridgesAreDriven() {
+        frameClock.register(bridgeHandler1, FRAME_PERIOD);
+        frameClock.register(bridgeHandler2, FRAME_PERIOD);
+
+        verify(bridgeHandler1, timeout(500).atLeast(5)).sendFrame();
+        verify(bridgeHandler2, timeout(500).atLeast(5)).sendFrame();
+    }
+
+    @Test
+    public void failingBridgeDoesNotStopClock() {
+        doThrow(new IllegalStateException("test")).when(bridgeHandler1).renderFrame(anyLong());
+        frameClock.register(bridgeHandler1, FRAME_PERIOD);
+        frameClock.register(bridgeHandler2, FRAME_PERIOD);
+
+        verify(bridgeHandler2, timeout(500).atLeast(5)).sendFrame();
+    }
+
+    @Test
+    public void unregisteredBridgeIsNotDriven() {
+        frameClock.register(bridgeHandler1, FRAME_PERIOD);
+        verify(bridgeHandler1, timeout(500).atLeast(1)).sendFrame();
+
+        frameClock.unregister(bridgeHandler1);
+        clearInvocations(bridgeHandler1);
+        verify(bridgeHandler1, after(100).never()).sendFrame();
+    }
+
+    private DmxBridgeHandler createBridgeHandler(String id) {
+        DmxBridgeHandler bridgeHandler = mock(DmxBridgeHandler.class);
+        Thing thing = mock(Thing.class);
+        when(thing.getUID()).thenReturn(new ThingUID("dmx", "test-bridge", id));
+        when(bridgeHandler.getThing()).thenReturn(thing);
+        return bridgeHandler;
+    }
+}
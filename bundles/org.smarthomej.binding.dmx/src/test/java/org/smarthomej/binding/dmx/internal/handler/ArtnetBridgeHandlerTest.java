@@ -37,6 +37,7 @@ import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.ThingHandlerCallback;
 import org.openhab.core.thing.binding.builder.BridgeBuilder;
 import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.smarthomej.binding.dmx.internal.DmxFrameClock;
 
 /**
  * Tests cases for {@link org.smarthomej.binding.dmx.internal.handler.ArtnetBridgeHandler}.
@@ -53,6 +54,7 @@ public class ArtnetBridgeHandlerTest extends JavaTest {
     private @NonNullByDefault({}) Map<String, Object> bridgeProperties;
     private @NonNullByDefault({}) Bridge bridge;
     private @NonNullByDefault({}) ArtnetBridgeHandler bridgeHandler;
+    private final DmxFrameClock frameClock = new DmxFrameClock();
 
     @BeforeEach
     public void setUp() {
@@ -69,7 +71,7 @@ public class ArtnetBridgeHandlerTest extends JavaTest {
             return null;
         }).when(mockCallback).statusUpdated(any(), any());
 
-        bridgeHandler = new ArtnetBridgeHandler(bridge) {
+        bridgeHandler = new ArtnetBridgeHandler(bridge, frameClock) {
             @Override
             protected void validateConfigurationParameters(Map<String, Object> configurationParameters) {
             }
@@ -43,6 +43,7 @@ import org.openhab.core.thing.binding.builder.BridgeBuilder;
 import org.openhab.core.thing.binding.builder.ChannelBuilder;
 import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.smarthomej.binding.dmx.internal.DmxBridgeHandler;
+import org.smarthomej.binding.dmx.internal.DmxFrameClock;
 import org.smarthomej.binding.dmx.internal.multiverse.BaseDmxChannel;
 import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 
@@ -61,8 +62,8 @@ public class DmxBridgeHandlerTest extends JavaTest {
      *
      */
     public class DmxBridgeHandlerImpl extends DmxBridgeHandler {
-        public DmxBridgeHandlerImpl(Bridge dmxBridge) {
-            super(dmxBridge);
+        public DmxBridgeHandlerImpl(Bridge dmxBridge, DmxFrameClock frameClock) {
+            super(dmxBridge, frameClock);
         }
 
         @Override
@@ -95,6 +96,7 @@ public class DmxBridgeHandlerTest extends JavaTest {
     private @NonNullByDefault({}) Map<String, Object> bridgeProperties;
     private @NonNullByDefault({}) Bridge bridge;
     private @NonNullByDefault({}) DmxBridgeHandlerImpl bridgeHandler;
+    private final DmxFrameClock frameClock = new DmxFrameClock();
 
     @BeforeEach
     public void setUp() {
@@ -109,7 +111,7 @@ public class DmxBridgeHandlerTest extends JavaTest {
             return null;
         }).when(mockCallback).statusUpdated(any(), any());
 
-        bridgeHandler = Mockito.spy(new DmxBridgeHandlerImpl(bridge));
+        bridgeHandler = Mockito.spy(new DmxBridgeHandlerImpl(bridge, frameClock));
         bridgeHandler.getThing().setHandler(bridgeHandler);
         bridgeHandler.setCallback(mockCallback);
         bridgeHandler.initialize();
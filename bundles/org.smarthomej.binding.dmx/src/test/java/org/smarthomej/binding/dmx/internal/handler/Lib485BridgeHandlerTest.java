@@ -35,6 +35,7 @@ import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.ThingHandlerCallback;
 import org.openhab.core.thing.binding.builder.BridgeBuilder;
 import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.smarthomej.binding.dmx.internal.DmxFrameClock;
 
 /**
  * Tests cases for {@link org.smarthomej.binding.dmx.internal.handler.Lib485BridgeHandler}.
@@ -50,6 +51,7 @@ public class Lib485BridgeHandlerTest extends JavaTest {
     private @NonNullByDefault({}) Map<String, Object> bridgeProperties;
     private @NonNullByDefault({}) Bridge bridge;
     private @NonNullByDefault({}) Lib485BridgeHandler bridgeHandler;
+    private final DmxFrameClock frameClock = new DmxFrameClock();
 
     @BeforeEach
     public void setUp() {
@@ -65,7 +67,7 @@ public class Lib485BridgeHandlerTest extends JavaTest {
             return null;
         }).when(mockCallback).statusUpdated(any(), any());
 
-        bridgeHandler = new Lib485BridgeHandler(bridge) {
+        bridgeHandler = new Lib485BridgeHandler(bridge, frameClock) {
             @Override
             protected void validateConfigurationParameters(Map<String, Object> configurationParameters) {
             }
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.dmx.internal.multiverse;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.thing.Thing;
+import org.smarthomej.binding.dmx.internal.action.FadeAction;
+
+/**
+ * Tests cases for Universe
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class UniverseTest {
+    private @NonNullByDefault({}) Universe universe;
+    private @NonNullByDefault({}) DmxChannel channel1;
+    private @NonNullByDefault({}) DmxChannel channel2;
+
+    @BeforeEach
+    public void setup() {
+        Thing thing = mock(Thing.class);
+        universe = new Universe(0);
+        channel1 = universe.registerChannel(new BaseDmxChannel(0, 1), thing);
+        channel2 = universe.registerChannel(new BaseDmxChannel(0, 2), thing);
+    }
+
+    @Test
+    public void bufferIsCopiedToDestination() {
+        channel1.setValue(255);
+        channel2.setValue(128);
+        universe.calculateBuffer(System.currentTimeMillis());
+
+        byte[] packet = new byte[10 + Universe.MIN_UNIVERSE_SIZE];
+        universe.copyBuffer(packet, 10, universe.getBufferSize());
+
+        assertThat(packet[10] & 0xFF, is(255));
+        assertThat(packet[11] & 0xFF, is(128));
+        assertThat(universe.getBuffer()[1] & 0xFF, is(128));
+    }
+
+    @Test
+    public void dimCurveIsOnlyAppliedToConfiguredChannels() {
+        universe.setDimCurveChannels("2");
+        channel1.setValue(128);
+        channel2.setValue(128);
+        universe.calculateBuffer(System.currentTimeMillis());
+
+        byte[] buffer = universe.getBuffer();
+        assertThat(buffer[0] & 0xFF, is(128));
+        assertThat(buffer[1] & 0xFF, is(lessThan(128)));
+    }
+
+    @Test
+    public void lastFrameIsKeptAfterBufferSwap() {
+        channel1.setValue(100);
+        long now = System.currentTimeMillis();
+        universe.calculateBuffer(now);
+        universe.calculateBuffer(now + 1);
+        universe.calculateBuffer(now + 2);
+
+        assertThat(universe.getBuffer()[0] & 0xFF, is(100));
+        assertThat(universe.getLastBufferChanged(), is(now));
+    }
+
+    @Test
+    public void fadesAreCalculated() {
+        long now = System.currentTimeMillis();
+        channel1.setValue(0);
+        channel1.addChannelAction(new FadeAction(1000, 200, 1000));
+        channel1.addChannelAction(new FadeAction(1000, 0, -1));
+
+        universe.calculateBuffer(now);
+        assertThat(universe.getBuffer()[0] & 0xFF, is(0));
+        universe.calculateBuffer(now + 500);
+        assertThat(universe.getBuffer()[0] & 0xFF, is(100));
+        assertThat(channel1.getValue(), is(100));
+        universe.calculateBuffer(now + 1000);
+        assertThat(universe.getBuffer()[0] & 0xFF, is(200));
+        // hold time is over, the next fade starts with the next calculation
+        universe.calculateBuffer(now + 2000);
+        universe.calculateBuffer(now + 2000);
+        universe.calculateBuffer(now + 2500);
+        assertThat(universe.getBuffer()[0] & 0xFF, is(100));
+        universe.calculateBuffer(now + 3000);
+        assertThat(universe.getBuffer()[0] & 0xFF, is(0));
+        assertThat(channel1.getValue(), is(0));
+        assertThat(channel1.hasRunningActions(), is(false));
+    }
+
+    @Test
+    public void replacedActionIsApplied() {
+        long now = System.currentTimeMillis();
+        channel1.setValue(0);
+        channel1.setChannelAction(new FadeAction(1000, 200, -1));
+
+        universe.calculateBuffer(now);
+        universe.calculateBuffer(now + 500);
+        assertThat(universe.getBuffer()[0] & 0xFF, is(100));
+
+        channel1.setChannelAction(new FadeAction(0, 50, -1));
+        universe.calculateBuffer(now + 600);
+        assertThat(universe.getBuffer()[0] & 0xFF, is(50));
+        assertThat(channel1.hasRunningActions(), is(false));
+    }
+}
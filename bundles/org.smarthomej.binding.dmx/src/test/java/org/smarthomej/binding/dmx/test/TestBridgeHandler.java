@@ -29,6 +29,7 @@ import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.dmx.internal.DmxBridgeHandler;
+import org.smarthomej.binding.dmx.internal.DmxFrameClock;
 import org.smarthomej.binding.dmx.internal.multiverse.BaseDmxChannel;
 import org.smarthomej.binding.dmx.internal.multiverse.Universe;
 
@@ -44,11 +45,13 @@ public class TestBridgeHandler extends DmxBridgeHandler {
     public static final int MIN_UNIVERSE_ID = 0;
     public static final int MAX_UNIVERSE_ID = 0;
 
+    private static final DmxFrameClock FRAME_CLOCK = new DmxFrameClock();
+
     private final Logger logger = LoggerFactory.getLogger(TestBridgeHandler.class);
     private Thing dummyThing = ThingBuilder.create(THING_TYPE_DIMMER, "dummy").build();
 
     public TestBridgeHandler(Bridge testBridge) {
-        super(testBridge);
+        super(testBridge, FRAME_CLOCK);
     }
 
     @Override
@@ -59,6 +62,11 @@ public class TestBridgeHandler extends DmxBridgeHandler {
     protected void closeConnection() {
     }
 
+    @Override
+    protected void renderFrame(long time) {
+        // buffer calculation is triggered by the tests (see calcBuffer)
+    }
+
     @Override
     protected void sendDmxData() {
     }
@@ -93,6 +101,7 @@ public class TestBridgeHandler extends DmxBridgeHandler {
         universe.calculateBuffer(time);
         logger.debug("calculating buffer for {}", time + timespan);
         universe.calculateBuffer(time + timespan);
+        universe.notifyListeners();
         return time + timespan;
     }
 
@@ -33,6 +33,8 @@ import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.http.internal.http.HostConcurrencyLimiterRegistry;
+import org.smarthomej.binding.http.internal.http.HttpRequestCoalescer;
 import org.smarthomej.commons.SimpleDynamicStateDescriptionProvider;
 import org.smarthomej.commons.transform.ValueTransformationProvider;
 
@@ -51,6 +53,8 @@ public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpC
     private final HttpClient secureClient;
     private final HttpClient insecureClient;
     private final ValueTransformationProvider valueTransformationProvider;
+    private final HostConcurrencyLimiterRegistry concurrencyLimiterRegistry = new HostConcurrencyLimiterRegistry();
+    private final HttpRequestCoalescer requestCoalescer = new HttpRequestCoalescer();
 
     private final SimpleDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
 
@@ -96,7 +100,8 @@ public class HttpHandlerFactory extends BaseThingHandlerFactory implements HttpC
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (THING_TYPE_URL.equals(thingTypeUID)) {
-            return new HttpThingHandler(thing, this, valueTransformationProvider, httpDynamicStateDescriptionProvider);
+            return new HttpThingHandler(thing, this, concurrencyLimiterRegistry, requestCoalescer,
+                    valueTransformationProvider, httpDynamicStateDescriptionProvider);
         }
 
         return null;
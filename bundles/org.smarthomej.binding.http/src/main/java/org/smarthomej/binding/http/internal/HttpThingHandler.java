@@ -17,9 +17,11 @@ import static org.smarthomej.binding.http.internal.HttpBindingConstants.CHANNEL_
 import static org.smarthomej.binding.http.internal.HttpBindingConstants.CHANNEL_LAST_SUCCESS;
 import static org.smarthomej.binding.http.internal.HttpBindingConstants.REQUEST_DATE_TIME_CHANNELTYPE_UID;
 
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
@@ -53,7 +55,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.http.internal.config.HttpChannelConfig;
 import org.smarthomej.binding.http.internal.config.HttpThingConfig;
+import org.smarthomej.binding.http.internal.http.HostConcurrencyLimiterRegistry;
 import org.smarthomej.binding.http.internal.http.HttpAuthException;
+import org.smarthomej.binding.http.internal.http.HttpRequestCoalescer;
 import org.smarthomej.binding.http.internal.http.HttpResponseListener;
 import org.smarthomej.binding.http.internal.http.HttpStatusListener;
 import org.smarthomej.binding.http.internal.http.RateLimitedHttpClient;
@@ -88,6 +92,7 @@ public class HttpThingHandler extends UpdatingBaseThingHandler implements HttpSt
     private final ValueTransformationProvider valueTransformationProvider;
     private final HttpClientProvider httpClientProvider;
     private final RateLimitedHttpClient rateLimitedHttpClient;
+    private final HttpRequestCoalescer requestCoalescer;
     private final SimpleDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
 
     private HttpThingConfig config = new HttpThingConfig();
@@ -96,11 +101,14 @@ public class HttpThingHandler extends UpdatingBaseThingHandler implements HttpSt
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
+            HostConcurrencyLimiterRegistry concurrencyLimiterRegistry, HttpRequestCoalescer requestCoalescer,
             ValueTransformationProvider valueTransformationProvider,
             SimpleDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
-        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
+        this.requestCoalescer = requestCoalescer;
+        this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler,
+                concurrencyLimiterRegistry);
         this.valueTransformationProvider = valueTransformationProvider;
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
     }
@@ -124,7 +132,8 @@ public class HttpThingHandler extends UpdatingBaseThingHandler implements HttpSt
                                 itemValueConverter.process(null);
                             }
                         });
-                    } catch (IllegalArgumentException | IllegalStateException e) {
+                    } catch (IllegalArgumentException | IllegalStateException | UncheckedIOException e) {
+                        // spooled content may have been replaced and deleted in the meantime
                         logger.warn("Failed processing REFRESH command for channel {}: {}", channelUID, e.getMessage());
                     }
                 }
@@ -166,8 +175,19 @@ public class HttpThingHandler extends UpdatingBaseThingHandler implements HttpSt
             rateLimitedHttpClient.setHttpClient(httpClientProvider.getSecureClient());
         }
         rateLimitedHttpClient.setDelay(config.delay);
+        rateLimitedHttpClient.setBurstSize(Math.max(1, config.burstSize));
+        try {
+            URL url = new URL(config.baseURL);
+            int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+            rateLimitedHttpClient.setConcurrencyLimit(url.getHost() + ":" + port,
+                    Math.max(0, config.maxConcurrentRequests));
+        } catch (MalformedURLException e) {
+            logger.warn("Could not determine host of thing '{}', concurrent requests are not limited: {}",
+                    thing.getUID(), e.getMessage());
+        }
 
-        int channelCount = thing.getChannels().size();
+        // requests up to the burst size are sent without delay
+        int channelCount = Math.max(0, thing.getChannels().size() - config.burstSize);
         if (channelCount * config.delay > config.refresh * 1000) {
             // this should prevent the rate limit queue from filling up
             config.refresh = (channelCount * config.delay) / 1000 + 1;
@@ -320,8 +340,8 @@ public class HttpThingHandler extends UpdatingBaseThingHandler implements HttpSt
             Objects.requireNonNull(
                     urlHandlers
                             .computeIfAbsent(key,
-                                    k -> new RefreshingUrlCache(scheduler, rateLimitedHttpClient, stateUrl, config,
-                                            channelConfig.stateContent, this)))
+                                    k -> new RefreshingUrlCache(scheduler, rateLimitedHttpClient, requestCoalescer,
+                                            stateUrl, config, channelConfig.stateContent, this)))
                     .addConsumer(itemValueConverter::process);
         }
 
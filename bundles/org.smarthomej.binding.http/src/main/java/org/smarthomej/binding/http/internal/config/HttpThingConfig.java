@@ -38,6 +38,8 @@ public class HttpThingConfig {
     public int refresh = 30;
     public int timeout = 3000;
     public int delay = 0;
+    public int burstSize = 1;
+    public int maxConcurrentRequests = 0;
 
     public String username = "";
     public String password = "";
@@ -47,12 +49,14 @@ public class HttpThingConfig {
 
     public HttpMethod commandMethod = HttpMethod.GET;
     public int bufferSize = 2048;
+    public boolean streamResponse = false;
 
     public @Nullable String encoding = null;
     public @Nullable String contentType = null;
 
     public boolean ignoreSSLErrors = false;
     public boolean strictErrorHandling = false;
+    public boolean skipUnchanged = false;
 
     // ArrayList is required as implementation because list may be modified later
     public ArrayList<String> headers = new ArrayList<>();
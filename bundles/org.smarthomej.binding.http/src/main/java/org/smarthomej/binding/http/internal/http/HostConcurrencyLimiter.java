@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.http.internal.http;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link HostConcurrencyLimiter} limits the number of concurrent requests to a single host for all
+ * {@link RateLimitedHttpClient}s that share this host
+ * <p>
+ * If the limit is reached, clients are queued and served in a round-robin manner when a request completes, so that a
+ * single client can't starve the others.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class HostConcurrencyLimiter {
+    private final String host;
+    private final Map<RateLimitedHttpClient, Integer> clientLimits = new HashMap<>();
+    private final Set<RateLimitedHttpClient> waitingClients = new LinkedHashSet<>();
+    private final Set<RateLimitedHttpClient> reservedClients = new HashSet<>();
+    private int limit = 0;
+    private int inFlight = 0;
+
+    public HostConcurrencyLimiter(String host) {
+        this.host = host;
+    }
+
+    /**
+     * get the host this limiter is responsible for
+     *
+     * @return the host (and port)
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * add a client to this limiter
+     *
+     * @param client the client
+     * @param limit the maximum number of concurrent requests requested by this client (0 = no limit)
+     */
+    public synchronized void register(RateLimitedHttpClient client, int limit) {
+        clientLimits.put(client, limit);
+        updateLimit();
+    }
+
+    /**
+     * remove a client from this limiter
+     *
+     * @param client the client
+     * @return true if no client is using this limiter anymore
+     */
+    public boolean unregister(RateLimitedHttpClient client) {
+        RateLimitedHttpClient nextClient;
+        boolean isEmpty;
+        synchronized (this) {
+            clientLimits.remove(client);
+            waitingClients.remove(client);
+            updateLimit();
+            nextClient = reservedClients.remove(client) ? releaseSlot() : null;
+            isEmpty = clientLimits.isEmpty();
+        }
+        if (nextClient != null) {
+            nextClient.processQueue();
+        }
+        return isEmpty;
+    }
+
+    /**
+     * try to get a slot for a new request
+     * <p>
+     * If no slot is available, the client is queued and {@link RateLimitedHttpClient#processQueue()} is called as soon
+     * as a slot was reserved for this client.
+     *
+     * @param client the client requesting the slot
+     * @return true if a slot was acquired
+     */
+    public synchronized boolean tryAcquire(RateLimitedHttpClient client) {
+        if (reservedClients.remove(client)) {
+            // a slot was handed over to this client
+            return true;
+        }
+        if (waitingClients.isEmpty() && (limit == 0 || inFlight < limit)) {
+            inFlight++;
+            return true;
+        }
+        waitingClients.add(client);
+        return false;
+    }
+
+    /**
+     * release a slot after a request finished
+     */
+    public void release() {
+        RateLimitedHttpClient nextClient;
+        synchronized (this) {
+            nextClient = releaseSlot();
+        }
+        if (nextClient != null) {
+            nextClient.processQueue();
+        }
+    }
+
+    /**
+     * release a slot (needs to be called while holding the lock)
+     *
+     * @return the client that the slot was handed over to (or null if the slot was freed)
+     */
+    private @Nullable RateLimitedHttpClient releaseSlot() {
+        Iterator<RateLimitedHttpClient> iterator = waitingClients.iterator();
+        if (iterator.hasNext() && (limit == 0 || inFlight <= limit)) {
+            // hand over the slot to the next waiting client, inFlight is unchanged
+            RateLimitedHttpClient nextClient = iterator.next();
+            iterator.remove();
+            reservedClients.add(nextClient);
+            return nextClient;
+        }
+        inFlight--;
+        return null;
+    }
+
+    private void updateLimit() {
+        limit = clientLimits.values().stream().filter(l -> l > 0).mapToInt(Integer::intValue).min().orElse(0);
+    }
+}
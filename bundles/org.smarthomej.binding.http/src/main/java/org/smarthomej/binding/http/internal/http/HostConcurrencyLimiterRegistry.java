@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.http.internal.http;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link HostConcurrencyLimiterRegistry} holds the {@link HostConcurrencyLimiter}s for all hosts
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class HostConcurrencyLimiterRegistry {
+    private final Map<String, HostConcurrencyLimiter> limiters = new HashMap<>();
+
+    /**
+     * register a client for a host
+     *
+     * @param host the host (and port)
+     * @param client the client
+     * @param limit the maximum number of concurrent requests for this client (0 = no limit)
+     * @return the {@link HostConcurrencyLimiter} for this host
+     */
+    public synchronized HostConcurrencyLimiter register(String host, RateLimitedHttpClient client, int limit) {
+        HostConcurrencyLimiter limiter = limiters.computeIfAbsent(host, HostConcurrencyLimiter::new);
+        limiter.register(client, limit);
+        return limiter;
+    }
+
+    /**
+     * unregister a client
+     *
+     * @param limiter the limiter the client was registered with
+     * @param client the client
+     */
+    public synchronized void unregister(HostConcurrencyLimiter limiter, RateLimitedHttpClient client) {
+        if (limiter.unregister(client)) {
+            limiters.remove(limiter.getHost());
+        }
+    }
+}
@@ -1,5 +1,4 @@
 /**
- * Copyright (c) 2010-2021 Contributors to the openHAB project
  * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
  *
  * See the NOTICE file(s) distributed with this work for additional
@@ -11,17 +10,20 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.smarthomej.binding.dmx.internal.action;
+package org.smarthomej.binding.http.internal.http;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
- * The {@link FadeDirection} gives the direction for fading
+ * The {@link HttpNotModifiedException} is an exception if a conditional request was answered with 304/Not Modified
  *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
-enum FadeDirection {
-    UP,
-    DOWN
+public class HttpNotModifiedException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    public HttpNotModifiedException() {
+        super();
+    }
 }
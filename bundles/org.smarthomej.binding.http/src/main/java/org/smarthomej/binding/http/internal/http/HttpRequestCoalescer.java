@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.http.internal.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
+
+/**
+ * The {@link HttpRequestCoalescer} prevents identical requests from being sent while the first one is still in flight
+ * <p>
+ * A request that is identified by the same key as a pending request is attached to the pending request and receives
+ * the same result. All attached {@link HttpStatusListener}s are notified about the result of the request.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class HttpRequestCoalescer {
+    private final Map<String, CoalescedRequest> pendingRequests = new ConcurrentHashMap<>();
+
+    /**
+     * send a request or attach to an identical pending request
+     *
+     * @param key a key that uniquely identifies the request (URL, method, headers, content, ...)
+     * @param httpStatusListener the status listener of the requesting party
+     * @param sender called with the future and status listener that need to be used if a new request must be sent
+     * @return the future that is completed with the content of the response
+     */
+    public CompletableFuture<@Nullable ContentWrapper> send(String key, HttpStatusListener httpStatusListener,
+            BiConsumer<CompletableFuture<@Nullable ContentWrapper>, HttpStatusListener> sender) {
+        List<CoalescedRequest> newRequest = new ArrayList<>(1);
+        CoalescedRequest request = pendingRequests.compute(key, (k, pendingRequest) -> {
+            if (pendingRequest != null && !pendingRequest.future.isDone()) {
+                return pendingRequest;
+            }
+            CoalescedRequest coalescedRequest = new CoalescedRequest();
+            newRequest.add(coalescedRequest);
+            return coalescedRequest;
+        });
+        request.addListener(httpStatusListener);
+
+        if (!newRequest.isEmpty()) {
+            request.future.whenComplete((content, t) -> pendingRequests.remove(key, request));
+            sender.accept(request.future, request);
+        }
+
+        return request.future;
+    }
+
+    /**
+     * get the number of requests that are currently in flight
+     *
+     * @return the number of requests
+     */
+    public int getPendingRequestCount() {
+        return pendingRequests.size();
+    }
+
+    private static class CoalescedRequest implements HttpStatusListener {
+        private final CompletableFuture<@Nullable ContentWrapper> future = new CompletableFuture<>();
+        private final List<HttpStatusListener> listeners = new ArrayList<>();
+        private boolean statusReported = false;
+        private boolean success = false;
+        private @Nullable String errorMessage;
+
+        /**
+         * add a listener, if the status was already reported, the listener is notified immediately
+         *
+         * @param listener the listener
+         */
+        public synchronized void addListener(HttpStatusListener listener) {
+            listeners.add(listener);
+            if (statusReported) {
+                notifyListener(listener);
+            }
+        }
+
+        @Override
+        public synchronized void onHttpError(@Nullable String message) {
+            statusReported = true;
+            success = false;
+            errorMessage = message;
+            listeners.forEach(this::notifyListener);
+        }
+
+        @Override
+        public synchronized void onHttpSuccess() {
+            statusReported = true;
+            success = true;
+            listeners.forEach(this::notifyListener);
+        }
+
+        private void notifyListener(HttpStatusListener listener) {
+            if (success) {
+                listener.onHttpSuccess();
+            } else {
+                listener.onHttpError(errorMessage);
+            }
+        }
+    }
+}
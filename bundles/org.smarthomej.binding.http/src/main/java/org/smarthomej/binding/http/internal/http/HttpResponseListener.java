@@ -78,14 +78,12 @@ public class HttpResponseListener extends BufferingResponseListener {
                 case HttpStatus.RESET_CONTENT_205:
                 case HttpStatus.PARTIAL_CONTENT_206:
                 case HttpStatus.MULTI_STATUS_207:
-                    byte[] content = getContent();
                     String encoding = getEncoding();
-                    if (content != null) {
-                        future.complete(new ContentWrapper(content, encoding == null ? fallbackEncoding : encoding,
-                                getMediaType()));
-                    } else {
-                        future.complete(null);
-                    }
+                    future.complete(getContentWrapper(encoding == null ? fallbackEncoding : encoding));
+                    httpStatusListener.onHttpSuccess();
+                    break;
+                case HttpStatus.NOT_MODIFIED_304:
+                    future.completeExceptionally(new HttpNotModifiedException());
                     httpStatusListener.onHttpSuccess();
                     break;
                 case HttpStatus.UNAUTHORIZED_401:
@@ -102,6 +100,17 @@ public class HttpResponseListener extends BufferingResponseListener {
         }
     }
 
+    /**
+     * get the received content
+     *
+     * @param encoding the encoding of the content
+     * @return the {@link ContentWrapper} or <code>null</code> if no content was received
+     */
+    protected @Nullable ContentWrapper getContentWrapper(String encoding) {
+        byte[] content = getContent();
+        return content != null ? new ContentWrapper(content, encoding, getMediaType()) : null;
+    }
+
     private String responseToLogString(Response response) {
         String logString = "Code = {" + response.getStatus() + "}, Headers = {"
                 + response.getHeaders().stream().map(HttpField::toString).collect(Collectors.joining(", "))
@@ -14,6 +14,8 @@
 package org.smarthomej.binding.http.internal.http;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -21,6 +23,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -36,6 +39,10 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link RateLimitedHttpClient} is a wrapper for a Jetty HTTP client that limits the number of requests by delaying
  * the request creation
+ * <p>
+ * The rate is limited by a token bucket: one token is added every <code>delay</code> ms, up to
+ * <code>burstSize</code> tokens can be stored. Additionally, the number of concurrent requests to the host can be
+ * limited by a {@link HostConcurrencyLimiter} that is shared with all other clients requesting the same host.
  *
  * @author Jan N. Klug - Initial contribution
  */
@@ -45,25 +52,43 @@ public class RateLimitedHttpClient {
     private final Logger logger = LoggerFactory.getLogger(RateLimitedHttpClient.class);
 
     private HttpClient httpClient;
-    private int delay = 0; // in ms
     private final ScheduledExecutorService scheduler;
+    private final HostConcurrencyLimiterRegistry limiterRegistry;
     private final LinkedBlockingQueue<RequestQueueEntry> requestQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
     private final LinkedBlockingQueue<RequestQueueEntry> priorityRequestQueue = new LinkedBlockingQueue<>(
             MAX_QUEUE_SIZE);
 
+    private int delay = 0; // in ms
+    private int burstSize = 1;
+    private double tokens = 1;
+    private long lastRefill = System.nanoTime();
+    private @Nullable HostConcurrencyLimiter concurrencyLimiter;
+
     private @Nullable ScheduledFuture<?> processJob;
 
     public RateLimitedHttpClient(HttpClient httpClient, ScheduledExecutorService scheduler) {
+        this(httpClient, scheduler, new HostConcurrencyLimiterRegistry());
+    }
+
+    public RateLimitedHttpClient(HttpClient httpClient, ScheduledExecutorService scheduler,
+            HostConcurrencyLimiterRegistry limiterRegistry) {
         this.httpClient = httpClient;
         this.scheduler = scheduler;
+        this.limiterRegistry = limiterRegistry;
     }
 
     /**
      * Stop processing the queue and clear it
      */
     public void shutdown() {
-        stopProcessJob();
+        synchronized (this) {
+            stopProcessJob();
+        }
+        priorityRequestQueue.forEach(RequestQueueEntry::cancel);
+        priorityRequestQueue.clear();
         requestQueue.forEach(RequestQueueEntry::cancel);
+        requestQueue.clear();
+        setConcurrencyLimit(null, 0);
     }
 
     /**
@@ -75,11 +100,59 @@ public class RateLimitedHttpClient {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay needs to be larger or equal to zero");
         }
-        this.delay = delay;
-        stopProcessJob();
-        if (delay != 0) {
-            processJob = scheduler.scheduleWithFixedDelay(this::processQueue, 0, delay, TimeUnit.MILLISECONDS);
+        synchronized (this) {
+            this.delay = delay;
+            this.tokens = burstSize;
+            this.lastRefill = System.nanoTime();
+            stopProcessJob();
+        }
+        processQueue();
+    }
+
+    /**
+     * Set the maximum number of requests that can be sent without delay (the size of the token bucket)
+     *
+     * @param burstSize the number of requests (at least 1)
+     */
+    public void setBurstSize(int burstSize) {
+        if (burstSize < 1) {
+            throw new IllegalArgumentException("Burst size needs to be larger than zero");
+        }
+        synchronized (this) {
+            this.burstSize = burstSize;
+            this.tokens = Math.min(tokens, burstSize);
+        }
+        processQueue();
+    }
+
+    /**
+     * Set the maximum number of concurrent requests to a host
+     * <p>
+     * The limit is shared with all other clients using the same host. If different limits are requested, the lowest
+     * limit is used.
+     *
+     * @param host the host (and port) or <code>null</code> to remove the limit
+     * @param limit the maximum number of concurrent requests (0 = no limit)
+     */
+    public void setConcurrencyLimit(@Nullable String host, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit needs to be larger or equal to zero");
+        }
+        HostConcurrencyLimiter oldLimiter;
+        synchronized (this) {
+            oldLimiter = concurrencyLimiter;
+            concurrencyLimiter = null;
+        }
+        if (oldLimiter != null) {
+            limiterRegistry.unregister(oldLimiter, this);
         }
+        if (host != null) {
+            HostConcurrencyLimiter newLimiter = limiterRegistry.register(host, this, limit);
+            synchronized (this) {
+                concurrencyLimiter = newLimiter;
+            }
+        }
+        processQueue();
     }
 
     /**
@@ -97,7 +170,8 @@ public class RateLimitedHttpClient {
      * @param finalUrl the request URL
      * @param method http request method GET/PUT/POST
      * @param content the content (if method PUT/POST)
-     * @return a {@link CompletableFuture} that completes with the request
+     * @return a {@link CompletableFuture} that completes with the request, the request needs to be sent by the stage
+     *         that consumes the future
      */
     public CompletableFuture<Request> newRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType) {
@@ -110,7 +184,8 @@ public class RateLimitedHttpClient {
      * @param finalUrl the request URL
      * @param method http request method GET/PUT/POST
      * @param content the content (if method PUT/POST)
-     * @return a {@link CompletableFuture} that completes with the request
+     * @return a {@link CompletableFuture} that completes with the request, the request needs to be sent by the stage
+     *         that consumes the future
      */
     public CompletableFuture<Request> newPriorityRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType) {
@@ -119,16 +194,12 @@ public class RateLimitedHttpClient {
 
     private CompletableFuture<Request> queueRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType, LinkedBlockingQueue<RequestQueueEntry> queue) {
-        // if no delay is set, return a completed CompletableFuture
         CompletableFuture<Request> future = new CompletableFuture<>();
         RequestQueueEntry queueEntry = new RequestQueueEntry(finalUrl, method, content, contentType, future);
-        if (delay == 0) {
-            queueEntry.completeFuture(httpClient);
+        if (!queue.offer(queueEntry)) {
+            future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
         } else {
-            if (!queue.offer(queueEntry)) {
-                future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
-            }
-
+            processQueue();
         }
         return future;
     }
@@ -170,16 +241,61 @@ public class RateLimitedHttpClient {
     }
 
     /**
-     * Gets an request from either the priority queue or tge regular queue and creates the request
+     * Gets requests from either the priority queue or the regular queue and creates the requests as long as tokens and
+     * concurrency slots are available
+     * <p>
+     * If no token is available, the processing is re-scheduled for the time the next token is available. If no
+     * concurrency slot is available, the {@link HostConcurrencyLimiter} calls this method again when a slot is free.
      */
-    private void processQueue() {
-        RequestQueueEntry queueEntry = priorityRequestQueue.poll();
-        if (queueEntry == null) {
-            // no entry in priorityRequestQueue, try the regular queue
-            queueEntry = requestQueue.poll();
+    void processQueue() {
+        List<RequestQueueEntry> readyEntries = new ArrayList<>();
+        HostConcurrencyLimiter concurrencyLimiter;
+        boolean unusedSlot = false;
+        synchronized (this) {
+            concurrencyLimiter = this.concurrencyLimiter;
+            while (!priorityRequestQueue.isEmpty() || !requestQueue.isEmpty()) {
+                if (delay > 0) {
+                    long now = System.nanoTime();
+                    tokens = Math.min(burstSize,
+                            tokens + (now - lastRefill) / (double) TimeUnit.MILLISECONDS.toNanos(delay));
+                    lastRefill = now;
+                    if (tokens < 1) {
+                        scheduleProcessJob((long) ((1 - tokens) * TimeUnit.MILLISECONDS.toNanos(delay)));
+                        break;
+                    }
+                }
+                if (concurrencyLimiter != null && !concurrencyLimiter.tryAcquire(this)) {
+                    break;
+                }
+                RequestQueueEntry queueEntry = priorityRequestQueue.poll();
+                if (queueEntry == null) {
+                    // no entry in priorityRequestQueue, try the regular queue
+                    queueEntry = requestQueue.poll();
+                }
+                if (queueEntry == null) {
+                    // the queues have been cleared concurrently
+                    unusedSlot = concurrencyLimiter != null;
+                    break;
+                }
+                if (delay > 0) {
+                    tokens -= 1;
+                }
+                readyEntries.add(queueEntry);
+            }
         }
-        if (queueEntry != null) {
-            queueEntry.completeFuture(httpClient);
+
+        // complete futures outside the lock, the callbacks may create new requests or send the request
+        readyEntries.forEach(queueEntry -> queueEntry.completeFuture(httpClient, concurrencyLimiter));
+        if (unusedSlot && concurrencyLimiter != null) {
+            concurrencyLimiter.release();
+        }
+    }
+
+    private void scheduleProcessJob(long delayNanos) {
+        ScheduledFuture<?> processJob = this.processJob;
+        // a job with a delay <= 0 is already running (or done) and can't process the queue again
+        if (processJob == null || processJob.getDelay(TimeUnit.NANOSECONDS) <= 0) {
+            this.processJob = scheduler.schedule(this::processQueue, delayNanos, TimeUnit.NANOSECONDS);
         }
     }
 
@@ -201,11 +317,26 @@ public class RateLimitedHttpClient {
 
         /**
          * complete the future with a request
+         * <p>
+         * The concurrency slot is released when the request is complete. If the request has not been sent when the
+         * stages consuming the future are done (e.g. because the future was cancelled or a stage failed before sending
+         * the request), the slot is released immediately.
          *
          * @param httpClient the client to create the request
+         * @param concurrencyLimiter the limiter that needs to be notified when the request is complete (or null)
          */
-        public void completeFuture(HttpClient httpClient) {
+        public void completeFuture(HttpClient httpClient, @Nullable HostConcurrencyLimiter concurrencyLimiter) {
             Request request = httpClient.newRequest(finalUrl).method(method);
+            AtomicBoolean sent = new AtomicBoolean();
+            AtomicBoolean released = new AtomicBoolean();
+            if (concurrencyLimiter != null) {
+                request.onRequestQueued(r -> sent.set(true));
+                request.onComplete(result -> {
+                    if (released.compareAndSet(false, true)) {
+                        concurrencyLimiter.release();
+                    }
+                });
+            }
             if (method != HttpMethod.GET && !content.isEmpty()) {
                 if (contentType == null) {
                     request.content(new StringContentProvider(content));
@@ -214,6 +345,10 @@ public class RateLimitedHttpClient {
                 }
             }
             future.complete(request);
+            // the dependent stages run synchronously, the request will never be sent if it has not been sent now
+            if (concurrencyLimiter != null && !sent.get() && released.compareAndSet(false, true)) {
+                concurrencyLimiter.release();
+            }
         }
 
         /**
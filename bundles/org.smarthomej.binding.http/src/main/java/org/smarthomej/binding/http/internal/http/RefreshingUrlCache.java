@@ -16,10 +16,15 @@ package org.smarthomej.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,7 +35,11 @@ import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.http.internal.Util;
@@ -50,40 +59,70 @@ public class RefreshingUrlCache {
     private final String url;
     private final RateLimitedHttpClient httpClient;
     private final boolean strictErrorHandling;
+    private final boolean skipUnchanged;
     private final int timeout;
     private final int bufferSize;
+    private final boolean streamResponse;
     private final @Nullable String fallbackEncoding;
     private final Set<Consumer<@Nullable ContentWrapper>> consumers = ConcurrentHashMap.newKeySet();
     private final Map<String, String> headers;
     private final HttpMethod httpMethod;
     private final String httpContent;
     private final HttpStatusListener httpStatusListener;
+    private final HttpRequestCoalescer requestCoalescer;
+    private final String requestKeySuffix;
 
     private final ScheduledFuture<?> future;
     private @Nullable ContentWrapper lastContent;
+    private @Nullable String lastETag;
+    private @Nullable String lastModified;
 
     public RefreshingUrlCache(ScheduledExecutorService executor, RateLimitedHttpClient httpClient, String url,
             HttpThingConfig thingConfig, String httpContent, HttpStatusListener httpStatusListener) {
+        this(executor, httpClient, new HttpRequestCoalescer(), url, thingConfig, httpContent, httpStatusListener);
+    }
+
+    public RefreshingUrlCache(ScheduledExecutorService executor, RateLimitedHttpClient httpClient,
+            HttpRequestCoalescer requestCoalescer, String url, HttpThingConfig thingConfig, String httpContent,
+            HttpStatusListener httpStatusListener) {
         this.httpClient = httpClient;
+        this.requestCoalescer = requestCoalescer;
         this.url = url;
         this.strictErrorHandling = thingConfig.strictErrorHandling;
+        this.skipUnchanged = thingConfig.skipUnchanged;
         this.timeout = thingConfig.timeout;
         this.bufferSize = thingConfig.bufferSize;
+        this.streamResponse = thingConfig.streamResponse;
         this.httpMethod = thingConfig.stateMethod;
         this.headers = thingConfig.getHeaders();
         this.httpContent = httpContent;
         this.httpStatusListener = httpStatusListener;
         fallbackEncoding = thingConfig.encoding;
 
+        // everything (except the URL, which can contain a date) that makes a request unique, the credentials are only
+        // included as hash, the key is kept as long as the cache exists
+        this.requestKeySuffix = httpMethod + "|" + new TreeMap<>(headers) + "|" + httpContent + "|"
+                + thingConfig.ignoreSSLErrors + "|" + hashCredentials(thingConfig) + "|" + fallbackEncoding + "|"
+                + bufferSize + "|" + streamResponse + "|" + timeout;
+
         future = executor.scheduleWithFixedDelay(this::refresh, 1, thingConfig.refresh, TimeUnit.SECONDS);
         logger.trace("Started refresh task for URL '{}' with interval {}s", url, thingConfig.refresh);
     }
 
-    private void refresh() {
-        refresh(false);
+    private static String hashCredentials(HttpThingConfig thingConfig) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // the lengths separate the parts, so that different credentials can't result in the same input
+            String credentials = thingConfig.authMode + "|" + thingConfig.username.length() + "|"
+                    + thingConfig.username + thingConfig.password;
+            return Base64.getEncoder().encodeToString(digest.digest(credentials.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required for every Java platform
+            throw new IllegalStateException(e);
+        }
     }
 
-    private void refresh(boolean isRetry) {
+    private void refresh() {
         if (consumers.isEmpty()) {
             // do not refresh if we don't have listeners
             return;
@@ -92,48 +131,113 @@ public class RefreshingUrlCache {
         // format URL
         try {
             URI uri = Util.uriFromString(String.format(this.url, new Date()));
-            logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
-
-            httpClient.newRequest(uri, httpMethod, httpContent, null).thenAccept(request -> {
-                request.timeout(timeout, TimeUnit.MILLISECONDS);
-                headers.forEach(request::header);
+            logger.trace("Requesting refresh from '{}' with timeout {}ms", uri, timeout);
 
-                CompletableFuture<@Nullable ContentWrapper> responseContentFuture = new CompletableFuture<>();
-                responseContentFuture.exceptionally(t -> {
-                    if (t instanceof HttpAuthException) {
-                        if (isRetry || !httpClient.reAuth(uri)) {
-                            logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
+            // identical requests that are still in flight (e.g. from other things) are re-used
+            requestCoalescer.send(uri + "|" + requestKeySuffix, httpStatusListener,
+                    (contentFuture, statusListener) -> sendRequest(uri, contentFuture, statusListener, false))
+                    .whenComplete((content, t) -> {
+                        if (t == null) {
+                            processResult(content);
+                        } else if (t instanceof HttpAuthException) {
+                            logger.debug("Authentication failed for '{}'", uri);
                             httpStatusListener.onHttpError("Authorization failed");
-                        } else {
-                            refresh(true);
+                            processResult(null);
                         }
-                    }
-                    return null;
-                }).thenAccept(this::processResult);
+                    });
+        } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
+            logger.warn("Creating request for '{}' failed: {}", url, e.getMessage());
+        }
+    }
 
-                if (logger.isTraceEnabled()) {
-                    logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
-                }
+    /**
+     * create and send the request
+     *
+     * @param uri the request URI
+     * @param contentFuture the future that needs to be completed with the response content
+     * @param statusListener the status listener for the request
+     * @param isRetry true if the request is retried after an authentication failure
+     */
+    private void sendRequest(URI uri, CompletableFuture<@Nullable ContentWrapper> contentFuture,
+            HttpStatusListener statusListener, boolean isRetry) {
+        httpClient.newRequest(uri, httpMethod, httpContent, null).thenAccept(request -> {
+            request.timeout(timeout, TimeUnit.MILLISECONDS);
+            headers.forEach(request::header);
+            addConditionalHeaders(request);
 
-                request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
-            }).exceptionally(e -> {
-                if (e instanceof CancellationException) {
-                    logger.debug("Request to URL {} was cancelled by thing handler.", uri);
+            CompletableFuture<@Nullable ContentWrapper> responseContentFuture = new CompletableFuture<>();
+            responseContentFuture.whenComplete((content, t) -> {
+                if (t instanceof HttpNotModifiedException) {
+                    // resolve here, requests attached to this one may have a different last content
+                    logger.trace("Content of '{}' not modified", uri);
+                    contentFuture.complete(lastContent);
+                } else if (t instanceof HttpAuthException && !isRetry && httpClient.reAuth(uri)) {
+                    // retry once for all requests that are attached to this one
+                    sendRequest(uri, contentFuture, statusListener, true);
+                } else if (t != null) {
+                    contentFuture.completeExceptionally(t);
                 } else {
-                    logger.warn("Request to URL {} failed: {}", uri, e.getMessage());
+                    contentFuture.complete(content);
                 }
-                return null;
             });
-        } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
-            logger.warn("Creating request for '{}' failed: {}", url, e.getMessage());
+
+            if (logger.isTraceEnabled()) {
+                logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
+            }
+
+            request.send(streamResponse
+                    ? new StreamingHttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
+                            statusListener)
+                    : new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize, statusListener));
+        }).exceptionally(e -> {
+            if (e instanceof CancellationException) {
+                logger.debug("Request to URL {} was cancelled by thing handler.", uri);
+            } else {
+                logger.warn("Request to URL {} failed: {}", uri, e.getMessage());
+            }
+            contentFuture.completeExceptionally(e);
+            return null;
+        });
+    }
+
+    /**
+     * add the validators of the last response for a conditional request (only GET requests and only if we have a
+     * content that can be re-used)
+     *
+     * @param request the request
+     */
+    private void addConditionalHeaders(Request request) {
+        if (httpMethod != HttpMethod.GET) {
+            return;
+        }
+        String lastETag = this.lastETag;
+        String lastModified = this.lastModified;
+        if (lastContent != null) {
+            if (lastETag != null) {
+                request.header(HttpHeader.IF_NONE_MATCH, lastETag);
+            }
+            if (lastModified != null) {
+                request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+            }
         }
+        request.onResponseSuccess(response -> {
+            if (response.getStatus() == HttpStatus.OK_200) {
+                HttpFields responseHeaders = response.getHeaders();
+                this.lastETag = responseHeaders.get(HttpHeader.ETAG);
+                this.lastModified = responseHeaders.get(HttpHeader.LAST_MODIFIED);
+            }
+        });
     }
 
     public void stop() {
         // clearing all listeners to prevent further updates
         consumers.clear();
         future.cancel(false);
+        ContentWrapper lastContent = this.lastContent;
+        this.lastContent = null;
+        if (lastContent != null) {
+            lastContent.close();
+        }
         logger.trace("Stopped refresh task for URL '{}'", url);
     }
 
@@ -141,11 +245,30 @@ public class RefreshingUrlCache {
         consumers.add(consumer);
     }
 
+    /**
+     * get the last content
+     * <p>
+     * The content is closed when it is replaced, spooled content can't be read after that.
+     *
+     * @return the last content (empty if not present)
+     */
     public Optional<ContentWrapper> get() {
         return Optional.ofNullable(lastContent);
     }
 
-    private void processResult(@Nullable ContentWrapper content) {
+    private synchronized void processResult(@Nullable ContentWrapper content) {
+        // the cache is an owner of the content it keeps, content that is replaced or skipped is closed
+        if (content != null && !content.retain()) {
+            logger.debug("Content of '{}' has already been released, skipping update", url);
+            return;
+        }
+        ContentWrapper lastContent = this.lastContent;
+        if (skipUnchanged && content != null && lastContent != null && content.hasSameContent(lastContent)) {
+            // keep the old content, so that already parsed representations can be re-used
+            logger.trace("Content of '{}' unchanged, skipping update", url);
+            content.close();
+            return;
+        }
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ContentWrapper> consumer : consumers) {
                 try {
@@ -155,6 +278,9 @@ public class RefreshingUrlCache {
                 }
             }
         }
-        lastContent = content;
+        this.lastContent = content;
+        if (lastContent != null) {
+            lastContent.close();
+        }
     }
 }
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.http.internal.http;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
+
+/**
+ * The {@link StreamingHttpResponseListener} is a {@link HttpResponseListener} that does not limit the size of the
+ * response
+ * <p>
+ * Content up to the buffer size is kept in memory, larger content is written to a temporary file while it is received.
+ * Channels with simple JSONPATH or XPATH transformations read such content incrementally, so the memory usage does not
+ * depend on the size of the response.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class StreamingHttpResponseListener extends HttpResponseListener {
+    private final Logger logger = LoggerFactory.getLogger(StreamingHttpResponseListener.class);
+    private final int memoryLimit;
+
+    private final ByteArrayOutputStream memoryContent = new ByteArrayOutputStream();
+    private @Nullable Path contentFile;
+    private @Nullable OutputStream fileContent;
+    private @Nullable WritableByteChannel fileChannel;
+    private @Nullable ContentWrapper spooledContent;
+
+    /**
+     * the StreamingHttpResponseListener is responsible
+     *
+     * @param future Content future to complete with the result of the request
+     * @param fallbackEncoding a fallback encoding for the content (UTF-8 if null)
+     * @param bufferSize the size of the in-memory buffer for the content in kB (default 2048 kB)
+     */
+    public StreamingHttpResponseListener(CompletableFuture<@Nullable ContentWrapper> future,
+            @Nullable String fallbackEncoding, int bufferSize, HttpStatusListener httpStatusListener) {
+        // the content is not buffered by the parent, so its limit only prevents aborting large responses
+        super(future, fallbackEncoding, Integer.MAX_VALUE / 1024, httpStatusListener);
+        this.memoryLimit = bufferSize * 1024;
+    }
+
+    @Override
+    public void onContent(Response response, ByteBuffer content) {
+        try {
+            WritableByteChannel fileChannel = this.fileChannel;
+            if (fileChannel == null && memoryContent.size() + content.remaining() > memoryLimit) {
+                fileChannel = spoolToFile();
+            }
+            if (fileChannel != null) {
+                while (content.hasRemaining()) {
+                    fileChannel.write(content);
+                }
+            } else {
+                byte[] bytes = new byte[content.remaining()];
+                content.get(bytes);
+                memoryContent.write(bytes);
+            }
+        } catch (IOException e) {
+            logger.debug("Writing content of '{}' to temporary file failed: {}", response.getRequest().getURI(),
+                    e.getMessage());
+            response.abort(e);
+        }
+    }
+
+    /**
+     * move the content received so far to a temporary file
+     *
+     * @return a channel for writing further content to the file
+     * @throws IOException if the file can't be created or written
+     */
+    private WritableByteChannel spoolToFile() throws IOException {
+        Path contentFile = Files.createTempFile("smarthomej-http-", ".tmp");
+        this.contentFile = contentFile;
+        OutputStream fileContent = new BufferedOutputStream(Files.newOutputStream(contentFile));
+        this.fileContent = fileContent;
+        memoryContent.writeTo(fileContent);
+        memoryContent.reset();
+        WritableByteChannel fileChannel = Channels.newChannel(fileContent);
+        this.fileChannel = fileChannel;
+        return fileChannel;
+    }
+
+    @Override
+    public void onComplete(Result result) {
+        try {
+            closeFile();
+            super.onComplete(result);
+        } finally {
+            Path contentFile = this.contentFile;
+            ContentWrapper spooledContent = this.spooledContent;
+            if (spooledContent != null) {
+                // consumers of the future that keep the content have retained it
+                spooledContent.close();
+            } else if (contentFile != null) {
+                try {
+                    Files.deleteIfExists(contentFile);
+                } catch (IOException e) {
+                    logger.debug("Failed to delete temporary file '{}': {}", contentFile, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void closeFile() {
+        OutputStream fileContent = this.fileContent;
+        if (fileContent != null) {
+            try {
+                fileContent.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close temporary file '{}': {}", contentFile, e.getMessage());
+            }
+            this.fileContent = null;
+        }
+    }
+
+    @Override
+    protected @Nullable ContentWrapper getContentWrapper(String encoding) {
+        Path contentFile = this.contentFile;
+        if (contentFile == null) {
+            return new ContentWrapper(memoryContent.toByteArray(), encoding, getMediaType());
+        }
+        try {
+            ContentWrapper contentWrapper = new ContentWrapper(contentFile, encoding, getMediaType());
+            spooledContent = contentWrapper;
+            return contentWrapper;
+        } catch (IOException e) {
+            logger.debug("Failed to read temporary file '{}': {}", contentFile, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public String getContentAsString() {
+        Path contentFile = this.contentFile;
+        if (contentFile == null) {
+            String encoding = getEncoding();
+            try {
+                return memoryContent.toString(encoding != null ? encoding : StandardCharsets.UTF_8.name());
+            } catch (UnsupportedEncodingException e) {
+                return memoryContent.toString(StandardCharsets.UTF_8);
+            }
+        }
+        return "<content spooled to " + contentFile + ">";
+    }
+}
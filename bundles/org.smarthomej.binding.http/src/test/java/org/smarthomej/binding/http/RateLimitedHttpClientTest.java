@@ -31,12 +31,14 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.http.HttpMethod;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.smarthomej.binding.http.internal.http.HostConcurrencyLimiterRegistry;
 import org.smarthomej.binding.http.internal.http.RateLimitedHttpClient;
 
 /**
@@ -99,10 +101,84 @@ public class RateLimitedHttpClientTest extends AbstractWireMockTest {
         assertThat((int) msBetween, allOf(greaterThanOrEqualTo(1000), lessThan(1100)));
     }
 
+    @Test
+    public void testWithLimitAndBurst() {
+        doLimitTest(500, 2, List.of(false, false, false));
+        // we except to receive the responses in the correct order
+        assertEquals(0, responses.get(0).seqNumber);
+        assertEquals(1, responses.get(1).seqNumber);
+        assertEquals(2, responses.get(2).seqNumber);
+
+        // we expect the first two requests without delay
+        long msBetween = responses.get(1).time - responses.get(0).time;
+        assertThat((int) msBetween, allOf(greaterThanOrEqualTo(0), lessThan(100)));
+
+        // we expect at least 500ms delay before the third request, but less than 500+100=600ms
+        msBetween = responses.get(2).time - responses.get(0).time;
+        assertThat((int) msBetween, allOf(greaterThanOrEqualTo(500), lessThan(600)));
+    }
+
+    @Test
+    public void testConcurrencyLimitIsSharedBetweenClients() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withFixedDelay(300).withBody(TEST_CONTENT)));
+
+        HostConcurrencyLimiterRegistry registry = new HostConcurrencyLimiterRegistry();
+        RateLimitedHttpClient client1 = new RateLimitedHttpClient(httpClient, scheduler, registry);
+        client1.setConcurrencyLimit("localhost:" + port, 1);
+        RateLimitedHttpClient client2 = new RateLimitedHttpClient(httpClient, scheduler, registry);
+        client2.setConcurrencyLimit("localhost:" + port, 0);
+
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
+        List.of(client1, client2, client1).forEach(client -> {
+            int seqNumber = responses.size();
+            client.newRequest(url, HttpMethod.GET, "", null).thenAccept(request -> request.send(result -> {
+                if (result.isSucceeded()) {
+                    responses.add(new Response(seqNumber, null));
+                }
+            }));
+        });
+
+        // wait until we got all results
+        waitForAssert(() -> assertEquals(3, responses.size()));
+        client1.shutdown();
+        client2.shutdown();
+
+        // only one request at a time is allowed, so we expect at least 300ms between the responses
+        assertThat((int) (responses.get(1).time - responses.get(0).time), greaterThanOrEqualTo(250));
+        assertThat((int) (responses.get(2).time - responses.get(1).time), greaterThanOrEqualTo(250));
+    }
+
+    @Test
+    public void testConcurrencySlotIsReleasedIfRequestIsNotSent() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+
+        RateLimitedHttpClient client = new RateLimitedHttpClient(httpClient, scheduler);
+        client.setConcurrencyLimit("localhost:" + port, 1);
+
+        URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
+        client.newRequest(url, HttpMethod.GET, "", null).thenAccept(request -> {
+            throw new IllegalStateException("consumer failed before sending");
+        });
+        client.newRequest(url, HttpMethod.GET, "", null).thenAccept(request -> request.send(result -> {
+            if (result.isSucceeded()) {
+                responses.add(new Response(0, null));
+            }
+        }));
+
+        // the second request can only be sent if the slot of the first request was released
+        waitForAssert(() -> assertEquals(1, responses.size()));
+        client.shutdown();
+    }
+
     private List<Response> doLimitTest(int setDelay, List<Boolean> config) {
+        return doLimitTest(setDelay, 1, config);
+    }
+
+    private List<Response> doLimitTest(int setDelay, int burstSize, List<Boolean> config) {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
 
         RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient.setBurstSize(burstSize);
         rateLimitedHttpClient.setDelay(setDelay);
 
         URI url = URI.create("http://localhost:" + port + TEST_LOCATION);
@@ -138,9 +214,9 @@ public class RateLimitedHttpClientTest extends AbstractWireMockTest {
         public final long time = System.currentTimeMillis();
         public final String content;
 
-        public Response(int seqNumber, ContentResponse contentResponse) {
+        public Response(int seqNumber, @Nullable ContentResponse contentResponse) {
             this.seqNumber = seqNumber;
-            this.content = contentResponse.getContentAsString();
+            this.content = contentResponse != null ? contentResponse.getContentAsString() : "";
         }
     }
 }
@@ -13,22 +13,30 @@
 package org.smarthomej.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.resetAllRequests;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -43,6 +51,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.smarthomej.binding.http.internal.config.HttpThingConfig;
+import org.smarthomej.binding.http.internal.http.HttpRequestCoalescer;
 import org.smarthomej.binding.http.internal.http.HttpStatusListener;
 import org.smarthomej.binding.http.internal.http.RateLimitedHttpClient;
 import org.smarthomej.binding.http.internal.http.RefreshingUrlCache;
@@ -111,6 +120,126 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
                 .allMatch(TEST_CONTENT::equals));
     }
 
+    @Test
+    public void testNoUpdateOnUnchangedContentIfSkipUnchanged() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.skipUnchanged = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until we got at least three successful requests
+        verify(statusListener, timeout(5000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        // assert that the consumer was only called once
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testLastContentIsUsedOnNotModified() {
+        String eTag = "\"12345\"";
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(2)
+                .willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).atPriority(1).withHeader("If-None-Match", equalTo(eTag))
+                .willReturn(aResponse().withStatus(304)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until we got at least three results or timeout (after 10s)
+        waitForAssert(() -> assertTrue(contentWrappers.size() >= 3));
+        urlCache.stop();
+
+        // verify we did not have errors and all consumers received the same (cached) content
+        verify(statusListener, never()).onHttpError(any());
+        assertEquals(1, contentWrappers.stream().distinct().count());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testIdenticalRequestsAreCoalesced() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withFixedDelay(300).withBody(TEST_CONTENT)));
+        resetAllRequests();
+
+        HttpRequestCoalescer requestCoalescer = new HttpRequestCoalescer();
+        HttpStatusListener statusListener2 = mock(HttpStatusListener.class);
+        List<@Nullable ContentWrapper> contentWrappers2 = new CopyOnWriteArrayList<>();
+
+        RefreshingUrlCache urlCache = new RefreshingUrlCache(scheduler, rateLimitedHttpClient, requestCoalescer, url,
+                thingConfig, TEST_CONTENT, statusListener);
+        urlCache.addConsumer(contentWrappers::add);
+        RefreshingUrlCache urlCache2 = new RefreshingUrlCache(scheduler, rateLimitedHttpClient, requestCoalescer, url,
+                thingConfig, TEST_CONTENT, statusListener2);
+        urlCache2.addConsumer(contentWrappers2::add);
+
+        // wait until both caches received the first result
+        waitForAssert(() -> assertFalse(contentWrappers.isEmpty() || contentWrappers2.isEmpty()));
+        urlCache.stop();
+        urlCache2.stop();
+
+        // both received the same content from a single request and both status listeners were notified
+        assertEquals(1, findAll(getRequestedFor(urlEqualTo(TEST_LOCATION))).size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers2.get(0)).getAsString());
+        verify(statusListener).onHttpSuccess();
+        verify(statusListener2).onHttpSuccess();
+        waitForAssert(() -> assertEquals(0, requestCoalescer.getPendingRequestCount()));
+    }
+
+    @Test
+    public void testCoalescedRequestIsRetriedOnceAfterAuthenticationFailure() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withFixedDelay(300).withStatus(401)));
+        resetAllRequests();
+        // only one refresh cycle
+        thingConfig.refresh = 60;
+
+        RateLimitedHttpClient authenticatingHttpClient = spy(rateLimitedHttpClient);
+        doReturn(true).when(authenticatingHttpClient).reAuth(any());
+        HttpRequestCoalescer requestCoalescer = new HttpRequestCoalescer();
+        HttpStatusListener statusListener2 = mock(HttpStatusListener.class);
+
+        RefreshingUrlCache urlCache = new RefreshingUrlCache(scheduler, authenticatingHttpClient, requestCoalescer,
+                url, thingConfig, TEST_CONTENT, statusListener);
+        urlCache.addConsumer(contentWrappers::add);
+        RefreshingUrlCache urlCache2 = new RefreshingUrlCache(scheduler, authenticatingHttpClient, requestCoalescer,
+                url, thingConfig, TEST_CONTENT, statusListener2);
+        urlCache2.addConsumer(contentWrappers::add);
+
+        // both things report the failure
+        verify(statusListener, timeout(5000)).onHttpError("Authorization failed");
+        verify(statusListener2, timeout(5000)).onHttpError("Authorization failed");
+        urlCache.stop();
+        urlCache2.stop();
+
+        // the coalesced request is re-authenticated and retried only once
+        verify(authenticatingHttpClient, times(1)).reAuth(any());
+        assertEquals(2, findAll(getRequestedFor(urlEqualTo(TEST_LOCATION))).size());
+    }
+
+    @Test
+    public void testLargeContentIsSpooledIfStreamResponse() {
+        String largeContent = TEST_CONTENT.repeat(1000);
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(largeContent)));
+        thingConfig.bufferSize = 1;
+        thingConfig.streamResponse = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+        List<String> contentStrings = new CopyOnWriteArrayList<>();
+        urlCache.addConsumer(content -> contentStrings.add(Objects.requireNonNull(content).getAsString()));
+
+        // we need only one answer
+        waitForAssert(() -> assertFalse(contentWrappers.isEmpty()));
+        urlCache.stop();
+
+        // content exceeds the buffer size, so it is not held in memory but still complete
+        ContentWrapper content = Objects.requireNonNull(contentWrappers.get(0));
+        assertTrue(content.isSpooled());
+        assertEquals(largeContent.length(), content.getLength());
+        assertEquals(largeContent, contentStrings.get(0));
+
+        // the content has been released by the cache, so the spooled file is deleted
+        assertThrows(IOException.class, content::getInputStream);
+    }
+
     @Test
     public void testNoUpdateOn404ErrorInNormalMode() {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withStatus(404)));
@@ -56,6 +56,8 @@ public abstract class KNXChannel {
     private final ChannelUID channelUID;
     private final boolean isControl;
     private final Class<? extends Type> preferredType;
+    // listen specs by group address, built on first use (getDefaultDPT must not be called from the constructor)
+    private volatile @Nullable Map<GroupAddress, InboundSpec> listenSpecs;
 
     KNXChannel(List<Class<? extends Type>> acceptedTypes, Channel channel) {
         this(Set.of(GA), acceptedTypes, channel);
@@ -139,9 +141,18 @@ public abstract class KNXChannel {
     }
 
     public final @Nullable InboundSpec getListenSpec(GroupAddress groupAddress) {
-        return groupAddressConfigurations.entrySet().stream()
-                .map(entry -> new ListenSpecImpl(entry.getValue(), getDefaultDPT(entry.getKey())))
-                .filter(spec -> spec.getGroupAddresses().contains(groupAddress)).findFirst().orElse(null);
+        Map<GroupAddress, InboundSpec> listenSpecs = this.listenSpecs;
+        if (listenSpecs == null) {
+            listenSpecs = new HashMap<>();
+            for (Map.Entry<String, GroupAddressConfiguration> entry : groupAddressConfigurations.entrySet()) {
+                InboundSpec spec = new ListenSpecImpl(entry.getValue(), getDefaultDPT(entry.getKey()));
+                for (GroupAddress listenAddress : spec.getGroupAddresses()) {
+                    listenSpecs.putIfAbsent(listenAddress, spec);
+                }
+            }
+            this.listenSpecs = listenSpecs;
+        }
+        return listenSpecs.get(groupAddress);
     }
 
     public final @Nullable OutboundSpec getResponseSpec(GroupAddress groupAddress, Type value) {
@@ -16,9 +16,10 @@ package org.smarthomej.binding.knx.internal.client;
 import static org.smarthomej.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -69,6 +70,8 @@ import tuwien.auto.calimero.secure.Security;
 public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClient {
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    // TPCI/APCI of a GroupValue_Read, the response is received by the process listener like any other bus traffic
+    private static final byte[] GROUP_READ_APDU = { 0x00, 0x00 };
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
 
@@ -76,7 +79,6 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private final int responseTimeout;
     private final int readingPause;
     private final int autoReconnectPeriod;
-    private final int readRetriesLimit;
     private final StatusUpdateCallback statusUpdateCallback;
     private final ScheduledExecutorService knxScheduler;
 
@@ -89,8 +91,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // listeners by group address, and the addresses each listener was registered with
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> listenerGroupAddresses = new ConcurrentHashMap<>();
+    private final ReadScheduler readScheduler;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -107,6 +111,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupWrite(ProcessEvent e) {
+            readScheduler.valueReceived(e.getDestination());
             processEvent("Group Write", e, (listener, source, destination, asdu) -> listener
                     .onGroupWrite(AbstractKNXClient.this, source, destination, asdu));
         }
@@ -119,6 +124,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupReadResponse(ProcessEvent e) {
+            readScheduler.valueReceived(e.getDestination());
             processEvent("Group Read Response", e, (listener, source, destination, asdu) -> listener
                     .onGroupReadResponse(AbstractKNXClient.this, source, destination, asdu));
         }
@@ -130,7 +136,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
         this.readingPause = readingPause;
-        this.readRetriesLimit = readRetriesLimit;
+        this.readScheduler = new ReadScheduler(readRetriesLimit, readingPause, responseTimeout);
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
     }
@@ -219,7 +225,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     private void releaseConnection() {
         logger.debug("Bridge {} is disconnecting from the KNX bus", thingUID);
-        readDatapoints.clear();
+        readScheduler.clear();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, ManagementProcedures::detach);
@@ -247,38 +253,47 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        Set<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        if (listeners == null) {
+            return;
         }
+        // one task per telegram, all listeners for this group address are notified from there
+        knxScheduler.execute(() -> {
+            for (GroupAddressListener listener : listeners) {
+                try {
+                    action.apply(listener, source, destination, asdu);
+                } catch (RuntimeException e) {
+                    logger.warn("Processing {} telegram for '{}' failed: {}", task, destination, e.getMessage());
+                }
+            }
+        });
     }
 
     private void readNextQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
             return;
         }
-        ProcessCommunicator processCommunicator = this.processCommunicator;
-        if (processCommunicator == null) {
+        KNXNetworkLink link = this.link;
+        if (link == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        long sendTime = System.nanoTime();
+        ReadDatapoint datapoint = readScheduler.next(sendTime);
         if (datapoint != null) {
-            datapoint.incrementRetries();
+            Datapoint dp = datapoint.getDatapoint();
             try {
-                logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
-                processCommunicator.read(datapoint.getDatapoint());
+                // only wait for the confirmation of the link, the response is processed by the process listener
+                logger.trace("Sending a Group Read Request telegram for {}", dp.getMainAddress());
+                link.sendRequestWait(dp.getMainAddress(), dp.getPriority(), GROUP_READ_APDU);
+                readScheduler.sent(datapoint, sendTime, System.nanoTime());
             } catch (KNXException e) {
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
-                    logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
-                            datapoint.getDatapoint().getMainAddress(), e.getMessage());
+                if (readScheduler.failed(datapoint)) {
+                    logger.debug("Could not read value for datapoint {}: {}. Going to retry.", dp.getMainAddress(),
+                            e.getMessage());
                 } else {
                     logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
-                            datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
+                            dp.getMainAddress(), datapoint.getLimit());
                 }
-            } catch (InterruptedException e) {
-                logger.debug("Interrupted sending KNX read request");
             }
         }
     }
@@ -348,23 +363,35 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readScheduler.add(datapoint, priority);
     }
 
     @Override
-    public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+    public final synchronized void registerGroupAddressListener(GroupAddressListener listener) {
+        removeFromIndex(listener);
+        Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+        listenerGroupAddresses.put(listener, groupAddresses);
+        for (GroupAddress groupAddress : groupAddresses) {
+            groupAddressListeners.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArraySet<>()).add(listener);
+        }
     }
 
     @Override
-    public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+    public final synchronized void unregisterGroupAddressListener(GroupAddressListener listener) {
+        removeFromIndex(listener);
+    }
+
+    private void removeFromIndex(GroupAddressListener listener) {
+        Set<GroupAddress> groupAddresses = listenerGroupAddresses.remove(listener);
+        if (groupAddresses != null) {
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressListeners.computeIfPresent(groupAddress, (ga, listeners) -> {
+                    listeners.remove(listener);
+                    return listeners.isEmpty() ? null : listeners;
+                });
+            }
+        }
     }
 
     @Override
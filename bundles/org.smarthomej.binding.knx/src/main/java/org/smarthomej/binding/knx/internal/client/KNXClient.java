@@ -30,6 +30,15 @@ import tuwien.auto.calimero.datapoint.Datapoint;
 @NonNullByDefault
 public interface KNXClient {
 
+    /**
+     * Priority of a read request, requests with {@link #HIGH} priority are sent before those with {@link #LOW}
+     * priority.
+     */
+    enum ReadPriority {
+        HIGH,
+        LOW
+    }
+
     /**
      * Check whether the client is connected
      *
@@ -78,9 +87,13 @@ public interface KNXClient {
     /**
      * Schedule the given data point for asynchronous reading.
      *
+     * Requests for a group address that is already scheduled are ignored (or upgraded to the higher priority). Queued
+     * requests are dropped if a value for the group address is received from the bus in the meantime.
+     *
      * @param datapoint the datapoint
+     * @param priority the priority of this request
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
 
     /**
      * Write a command to the KNX bus.
@@ -15,6 +15,7 @@ package org.smarthomej.binding.knx.internal.client;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.smarthomej.binding.knx.internal.client.KNXClient.ReadPriority;
 
 import tuwien.auto.calimero.datapoint.Datapoint;
 
@@ -27,11 +28,18 @@ import tuwien.auto.calimero.datapoint.Datapoint;
 public class ReadDatapoint {
 
     private final Datapoint datapoint;
+    private final ReadPriority priority;
     private int retries;
     private final int limit;
+    private long responseDeadline;
 
     public ReadDatapoint(Datapoint datapoint, int limit) {
+        this(datapoint, ReadPriority.HIGH, limit);
+    }
+
+    public ReadDatapoint(Datapoint datapoint, ReadPriority priority, int limit) {
         this.datapoint = datapoint;
+        this.priority = priority;
         this.retries = 0;
         this.limit = limit;
     }
@@ -40,6 +48,10 @@ public class ReadDatapoint {
         return datapoint;
     }
 
+    public ReadPriority getPriority() {
+        return priority;
+    }
+
     public int getRetries() {
         return retries;
     }
@@ -52,6 +64,19 @@ public class ReadDatapoint {
         return limit;
     }
 
+    /**
+     * get the time (as in {@link System#nanoTime()}) until a response to the last read request is expected
+     *
+     * @return the deadline
+     */
+    public long getResponseDeadline() {
+        return responseDeadline;
+    }
+
+    public void setResponseDeadline(long responseDeadline) {
+        this.responseDeadline = responseDeadline;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.knx.internal.client.KNXClient.ReadPriority;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * The {@link ReadScheduler} keeps track of the read requests that are queued for the KNX bus or wait for a response.
+ * <p>
+ * Requests are deduplicated by group address and handed out in priority order. A request is dropped as soon as a
+ * value for its group address is seen on the bus. Several requests may wait for their response at the same time, the
+ * pause between two requests follows the time the link needed to confirm the previous requests.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+class ReadScheduler {
+    // maximum number of requests that wait for a response at the same time
+    static final int MAX_AWAITING_RESPONSE = 16;
+    // the pause between two requests is at least this factor times the smoothed confirmation latency
+    static final int LATENCY_FACTOR = 2;
+    private static final int LATENCY_SMOOTHING = 4;
+
+    private final Logger logger = LoggerFactory.getLogger(ReadScheduler.class);
+
+    private final int limit;
+    private final long minPause;
+    private final long responseTimeout;
+
+    // all requests by group address, either queued or waiting for a response
+    private final Map<GroupAddress, ReadDatapoint> scheduled = new HashMap<>();
+    // one queue per priority, entries that are no longer scheduled are skipped when polling
+    private final List<Deque<ReadDatapoint>> queues = new ArrayList<>();
+    // requests waiting for a response, in the order they were sent (and therefore ordered by deadline)
+    private final Map<GroupAddress, ReadDatapoint> awaitingResponse = new LinkedHashMap<>();
+
+    private long smoothedLatency = 0;
+    private boolean pausing = false;
+    private long pauseEnd;
+
+    /**
+     * create a new scheduler
+     *
+     * @param limit the maximum number of attempts for each request
+     * @param minPause the minimum pause between two requests (in ms)
+     * @param responseTimeout the time to wait for a response (in s)
+     */
+    ReadScheduler(int limit, int minPause, int responseTimeout) {
+        this.limit = limit;
+        this.minPause = TimeUnit.MILLISECONDS.toNanos(minPause);
+        this.responseTimeout = TimeUnit.SECONDS.toNanos(responseTimeout);
+        for (int i = 0; i < ReadPriority.values().length; i++) {
+            queues.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * schedule a read request
+     *
+     * @param datapoint the datapoint to read
+     * @param priority the priority of the request
+     * @return {@code true} if the request was added, {@code false} if the group address is already scheduled
+     */
+    synchronized boolean add(Datapoint datapoint, ReadPriority priority) {
+        GroupAddress groupAddress = datapoint.getMainAddress();
+        ReadDatapoint existing = scheduled.get(groupAddress);
+        if (existing != null && (awaitingResponse.containsKey(groupAddress)
+                || existing.getPriority().compareTo(priority) <= 0)) {
+            return false;
+        }
+        // a queued request with lower priority is superseded and skipped when it is polled
+        ReadDatapoint readDatapoint = new ReadDatapoint(datapoint, priority, limit);
+        scheduled.put(groupAddress, readDatapoint);
+        queues.get(priority.ordinal()).add(readDatapoint);
+        return true;
+    }
+
+    /**
+     * notify the scheduler that a value for a group address was received from the bus
+     *
+     * @param groupAddress the group address
+     */
+    synchronized void valueReceived(GroupAddress groupAddress) {
+        if (scheduled.remove(groupAddress) != null) {
+            awaitingResponse.remove(groupAddress);
+        }
+    }
+
+    /**
+     * get the next request that shall be sent
+     *
+     * @param now the current time (as in {@link System#nanoTime()})
+     * @return the request or {@code null} if no request is due
+     */
+    synchronized @Nullable ReadDatapoint next(long now) {
+        expire(now);
+        if ((pausing && now - pauseEnd < 0) || awaitingResponse.size() >= MAX_AWAITING_RESPONSE) {
+            return null;
+        }
+        for (Deque<ReadDatapoint> queue : queues) {
+            ReadDatapoint readDatapoint;
+            while ((readDatapoint = queue.poll()) != null) {
+                GroupAddress groupAddress = readDatapoint.getDatapoint().getMainAddress();
+                if (scheduled.get(groupAddress) == readDatapoint && !awaitingResponse.containsKey(groupAddress)) {
+                    readDatapoint.incrementRetries();
+                    return readDatapoint;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * notify the scheduler that a request was confirmed by the link
+     *
+     * @param readDatapoint the request
+     * @param sendTime the time the request was handed to the link (as in {@link System#nanoTime()})
+     * @param now the time the request was confirmed (as in {@link System#nanoTime()})
+     */
+    synchronized void sent(ReadDatapoint readDatapoint, long sendTime, long now) {
+        long latency = now - sendTime;
+        smoothedLatency = smoothedLatency == 0 ? latency
+                : smoothedLatency + (latency - smoothedLatency) / LATENCY_SMOOTHING;
+        pausing = true;
+        pauseEnd = sendTime + Math.max(minPause, LATENCY_FACTOR * smoothedLatency);
+
+        GroupAddress groupAddress = readDatapoint.getDatapoint().getMainAddress();
+        if (scheduled.get(groupAddress) == readDatapoint) {
+            readDatapoint.setResponseDeadline(now + responseTimeout);
+            awaitingResponse.put(groupAddress, readDatapoint);
+        }
+    }
+
+    /**
+     * notify the scheduler that a request could not be sent
+     *
+     * @param readDatapoint the request
+     * @return {@code true} if the request will be retried, {@code false} if the maximum number of attempts is reached
+     */
+    synchronized boolean failed(ReadDatapoint readDatapoint) {
+        if (scheduled.get(readDatapoint.getDatapoint().getMainAddress()) != readDatapoint) {
+            // superseded in the meantime
+            return true;
+        }
+        return retryOrRemove(readDatapoint);
+    }
+
+    /**
+     * remove all requests
+     */
+    synchronized void clear() {
+        scheduled.clear();
+        queues.forEach(Deque::clear);
+        awaitingResponse.clear();
+        pausing = false;
+    }
+
+    /**
+     * get the number of requests that are queued or wait for a response
+     *
+     * @return the number of requests
+     */
+    synchronized int size() {
+        return scheduled.size();
+    }
+
+    private void expire(long now) {
+        Iterator<ReadDatapoint> iterator = awaitingResponse.values().iterator();
+        while (iterator.hasNext()) {
+            ReadDatapoint readDatapoint = iterator.next();
+            if (now - readDatapoint.getResponseDeadline() < 0) {
+                return;
+            }
+            iterator.remove();
+            GroupAddress groupAddress = readDatapoint.getDatapoint().getMainAddress();
+            if (retryOrRemove(readDatapoint)) {
+                logger.debug("No response for datapoint {}. Going to retry.", groupAddress);
+            } else {
+                logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
+                        groupAddress, readDatapoint.getLimit());
+            }
+        }
+    }
+
+    private boolean retryOrRemove(ReadDatapoint readDatapoint) {
+        if (readDatapoint.getRetries() < readDatapoint.getLimit()) {
+            queues.get(readDatapoint.getPriority().ordinal()).add(readDatapoint);
+            return true;
+        }
+        scheduled.remove(readDatapoint.getDatapoint().getMainAddress());
+        return false;
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.dpt;
+
+import static org.smarthomej.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.knx.internal.dpt.ValueDecoder.RawDecoder;
+
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.dptxlator.DPT;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+
+/**
+ * The {@link DPTConverter} holds everything needed to convert values of a single DPT that does not depend on the value
+ * itself (parsed DPT id, Calimero {@link DPT}, allowed types, unit and decoder). Converters are created on first use
+ * and cached by DPT id.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+final class DPTConverter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DPTConverter.class);
+
+    private static final Map<String, Optional<DPTConverter>> CONVERTERS = new ConcurrentHashMap<>();
+
+    private final String dptId;
+    private final boolean validId;
+    private final String translatorId;
+    private final DPT dpt;
+    private final String id;
+    private final String mainType;
+    private final String subType;
+    private final Set<Class<? extends Type>> allowedTypes;
+    private final @Nullable Unit<?> unit;
+    private final @Nullable RawDecoder rawDecoder;
+
+    private DPTConverter(String dptId, boolean validId, String translatorId, DPT dpt, String id, Matcher m) {
+        this.dptId = dptId;
+        this.validId = validId;
+        this.translatorId = translatorId;
+        this.dpt = dpt;
+        this.id = id;
+        this.mainType = m.group("main");
+        String subType = m.group("sub");
+        this.subType = subType != null ? subType : "";
+        this.allowedTypes = DPTUtil.getAllowedTypes(id);
+        this.unit = parseUnit(DPTUnits.getUnitForDpt(id));
+        this.rawDecoder = ValueDecoder.getRawDecoder(mainType, this.subType);
+    }
+
+    /**
+     * get the (cached) converter for a DPT
+     *
+     * @param dptId the DPT id as supplied by the user (e.g. 9.001)
+     * @return the converter or {@code null} if the DPT is not supported by Calimero
+     */
+    static @Nullable DPTConverter get(String dptId) {
+        return CONVERTERS.computeIfAbsent(dptId, DPTConverter::create).orElse(null);
+    }
+
+    private static Optional<DPTConverter> create(String dptId) {
+        try {
+            String translatorId = NORMALIZED_DPT.getOrDefault(dptId, dptId);
+            DPT dpt = TranslatorTypes.createTranslator(0, translatorId).getType();
+
+            // prefer using the user-supplied DPT
+            String id = dptId;
+            Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
+            boolean validId = m.matches();
+            if (!validId) {
+                LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator",
+                        id);
+                id = dpt.getID();
+                m = DPTUtil.DPT_PATTERN.matcher(id);
+                if (!m.matches()) {
+                    LOGGER.warn("couldn't identify main/sub number in dptID '{}'", id);
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(new DPTConverter(dptId, validId, translatorId, dpt, id, m));
+        } catch (KNXException e) {
+            LOGGER.warn("Failed creating a translator for datapoint type '{}'.", dptId, e);
+            return Optional.empty();
+        }
+    }
+
+    private static @Nullable Unit<?> parseUnit(@Nullable String unit) {
+        if (unit == null) {
+            return null;
+        }
+        try {
+            return new QuantityType<>("1 " + unit).getUnit();
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Could not parse unit '{}', fallback to plain decimal", unit);
+            return null;
+        }
+    }
+
+    /**
+     * create a new translator for this DPT (translators are not thread-safe and can't be shared)
+     *
+     * @return the translator
+     * @throws KNXException if the translator could not be created
+     */
+    DPTXlator createTranslator() throws KNXException {
+        return TranslatorTypes.createTranslator(0, translatorId);
+    }
+
+    /**
+     * get the DPT id as supplied by the user
+     */
+    String getDptId() {
+        return dptId;
+    }
+
+    /**
+     * check if the user-supplied DPT id contains a valid main/sub number
+     */
+    boolean isValidId() {
+        return validId;
+    }
+
+    DPT getDpt() {
+        return dpt;
+    }
+
+    /**
+     * get the DPT id used for conversions (the user-supplied id if valid, the id of the translator otherwise)
+     */
+    String getId() {
+        return id;
+    }
+
+    String getMainType() {
+        return mainType;
+    }
+
+    /**
+     * get the sub-type (or an empty string if the DPT id has no sub-type)
+     */
+    String getSubType() {
+        return subType;
+    }
+
+    Set<Class<? extends Type>> getAllowedTypes() {
+        return allowedTypes;
+    }
+
+    @Nullable Unit<?> getUnit() {
+        return unit;
+    }
+
+    @Nullable RawDecoder getRawDecoder() {
+        return rawDecoder;
+    }
+}
@@ -17,12 +17,20 @@ import static org.smarthomej.binding.knx.internal.KNXBindingConstants.DISABLE_UO
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Locale;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.library.types.DateTimeType;
@@ -48,10 +56,7 @@ import tuwien.auto.calimero.KNXIllegalArgumentException;
 import tuwien.auto.calimero.dptxlator.DPTXlator;
 import tuwien.auto.calimero.dptxlator.DPTXlator1BitControlled;
 import tuwien.auto.calimero.dptxlator.DPTXlator3BitControlled;
-import tuwien.auto.calimero.dptxlator.DPTXlatorBoolean;
-import tuwien.auto.calimero.dptxlator.DPTXlatorDateTime;
 import tuwien.auto.calimero.dptxlator.DPTXlatorSceneControl;
-import tuwien.auto.calimero.dptxlator.TranslatorTypes;
 
 /**
  * This class decodes raw data received from the KNX bus to an openHAB datatype
@@ -65,9 +70,11 @@ public class ValueDecoder {
     private static final Logger LOGGER = LoggerFactory.getLogger(ValueDecoder.class);
 
     private static final String TIME_DAY_FORMAT = "EEE, HH:mm:ss";
-    private static final String DATE_FORMAT = "yyyy-MM-dd";
-    // RGB: "r:123 g:123 b:123" value-range: 0-255
-    private static final Pattern RGB_PATTERN = Pattern.compile("r:(?<r>\\d+) g:(?<g>\\d+) b:(?<b>\\d+)");
+    // DPT 19 flags (octet 2)
+    private static final int DPT19_FAULT = 0x80;
+    private static final int DPT19_NO_YEAR = 0x10;
+    private static final int DPT19_NO_DATE = 0x08;
+    private static final int DPT19_NO_TIME = 0x02;
     // RGBW: "100 27 25 12 %", value range: 0-100, invalid values: "-"
     private static final Pattern RGBW_PATTERN = Pattern
             .compile("(?:(?<r>[\\d,.]+)|-)\\s(?:(?<g>[\\d,.]+)|-)\\s(?:(?<b>[\\d,.]+)|-)\\s(?:(?<w>[\\d,.]+)|-)\\s%");
@@ -75,6 +82,15 @@ public class ValueDecoder {
     private static final Pattern XYY_PATTERN = Pattern
             .compile("(?:\\((?<x>\\d+(?:,\\d+)?) (?<y>\\d+(?:,\\d+)?)\\))?\\s*(?:(?<Y>\\d+(?:,\\d+)?)\\s%)?");
 
+    /**
+     * decoder that converts the raw data of a DPT to an openHAB value without a Calimero translator
+     */
+    @FunctionalInterface
+    interface RawDecoder {
+        @Nullable
+        Type decode(DPTConverter converter, byte[] data, Class<? extends Type> preferredType) throws KNXFormatException;
+    }
+
     /**
      * convert the raw value received to the corresponding openHAB value
      *
@@ -84,33 +100,25 @@ public class ValueDecoder {
      * @return the data converted to an openHAB Type (or null if conversion failed)
      */
     public static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        DPTConverter converter = DPTConverter.get(dptId);
+        if (converter == null) {
+            return null;
+        }
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(0,
-                    DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+            RawDecoder rawDecoder = converter.getRawDecoder();
+            if (rawDecoder != null) {
+                return rawDecoder.decode(converter, data, preferredType);
+            }
+
+            DPTXlator translator = converter.createTranslator();
             translator.setData(data);
             String value = translator.getValue();
 
-            String id = dptId; // prefer using the user-supplied DPT
-
-            Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
-            if (!m.matches() || m.groupCount() != 2) {
-                LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator",
-                        id);
-                id = translator.getType().getID();
-                m = DPTUtil.DPT_PATTERN.matcher(id);
-                if (!m.matches() || m.groupCount() != 2) {
-                    LOGGER.warn("couldn't identify main/sub number in dptID '{}'", id);
-                    return null;
-                }
-            }
-            LOGGER.trace("Finally using datapoint DPT = {}", id);
+            LOGGER.trace("Finally using datapoint DPT = {}", converter.getId());
 
-            String mainType = m.group("main");
-            String subType = m.group("sub");
+            String subType = converter.getSubType();
 
-            switch (mainType) {
-                case "1":
-                    return handleDpt1(subType, translator);
+            switch (converter.getMainType()) {
                 case "2":
                     DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
                     int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
@@ -120,9 +128,6 @@ public class ValueDecoder {
                     return handleDpt3(subType, translator);
                 case "10":
                     return handleDpt10(value);
-                case "11":
-                    return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN)
-                            .format(new SimpleDateFormat(DATE_FORMAT).parse(value)));
                 case "18":
                     DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
                     int decimalValue = translatorSceneControl.getSceneNumber();
@@ -130,24 +135,21 @@ public class ValueDecoder {
                         decimalValue += 0x80;
                     }
                     return new DecimalType(decimalValue);
-                case "19":
-                    return handleDpt19(translator);
                 case "16":
                 case "20":
                 case "21":
                 case "22":
                 case "28":
                     return StringType.valueOf(value);
-                case "232":
-                    return handleDpt232(value, subType);
                 case "242":
                     return handleDpt242(value);
                 case "251":
                     return handleDpt251(value, preferredType);
                 default:
-                    return handleNumericDpt(id, translator, preferredType);
+                    return handleNumericDpt(converter, translator.getNumericValue(), preferredType);
             }
-        } catch (NumberFormatException | KNXFormatException | KNXIllegalArgumentException | ParseException e) {
+        } catch (NumberFormatException | KNXFormatException | KNXIllegalArgumentException | ParseException
+                | DateTimeException e) {
             LOGGER.info("Translator couldn't parse data '{}' for datapoint type '{}' ({}).", data, dptId, e.getClass());
         } catch (KNXException e) {
             LOGGER.warn("Failed creating a translator for datapoint type '{}'.", dptId, e);
@@ -156,23 +158,69 @@ public class ValueDecoder {
         return null;
     }
 
-    private static Type handleDpt1(String subType, DPTXlator translator) {
-        DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
+    /**
+     * get a decoder that directly converts the raw data of the given DPT
+     *
+     * @param mainType the main type of the DPT
+     * @param subType the sub-type of the DPT (empty if not present)
+     * @return the decoder or {@code null} if the value needs to be converted by a Calimero translator
+     */
+    static @Nullable RawDecoder getRawDecoder(String mainType, String subType) {
+        switch (mainType) {
+            case "1":
+                return (converter, data, preferredType) -> handleDpt1(subType, (checkLength(data, 1)[0] & 0x01) != 0);
+            case "5":
+                switch (subType) {
+                    case "001":
+                        return (converter, data, preferredType) -> handleNumericDpt(converter,
+                                Math.round((checkLength(data, 1)[0] & 0xff) * 100.0f / 255), preferredType);
+                    case "003":
+                        return (converter, data, preferredType) -> handleNumericDpt(converter,
+                                Math.round((checkLength(data, 1)[0] & 0xff) * 360.0f / 255), preferredType);
+                    default:
+                        return (converter, data, preferredType) -> handleNumericDpt(converter,
+                                checkLength(data, 1)[0] & 0xff, preferredType);
+                }
+            case "9":
+                return (converter, data, preferredType) -> handleNumericDpt(converter, decodeDpt9(data),
+                        preferredType);
+            case "11":
+                return (converter, data, preferredType) -> handleDpt11(data);
+            case "14":
+                return (converter, data, preferredType) -> handleNumericDpt(converter, decodeDpt14(data),
+                        preferredType);
+            case "19":
+                return (converter, data, preferredType) -> handleDpt19(data);
+            case "232":
+                return (converter, data, preferredType) -> handleDpt232(subType, data);
+            default:
+                return null;
+        }
+    }
+
+    private static byte[] checkLength(byte[] data, int length) throws KNXFormatException {
+        if (data.length < length) {
+            throw new KNXFormatException("data length " + data.length + " < required datapoint type width " + length);
+        }
+        return data;
+    }
+
+    private static Type handleDpt1(String subType, boolean value) {
         switch (subType) {
             case "008":
-                return translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
+                return value ? UpDownType.DOWN : UpDownType.UP;
             case "009":
             case "019":
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
-                return translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                return value ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
             case "010":
-                return translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
+                return value ? StopMoveType.MOVE : StopMoveType.STOP;
             case "022":
-                return DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
+                return new DecimalType(value ? 1 : 0);
             default:
-                return OnOffType.from(translatorBoolean.getValueBoolean());
+                return OnOffType.from(value);
         }
     }
 
@@ -212,81 +260,78 @@ public class ValueDecoder {
                 .format(new SimpleDateFormat(TIME_DAY_FORMAT, Locale.US).parse(value)));
     }
 
-    private static @Nullable Type handleDpt19(DPTXlator translator) throws KNXFormatException {
-        DPTXlatorDateTime translatorDateTime = (DPTXlatorDateTime) translator;
-        if (translatorDateTime.isFaultyClock()) {
+    private static Type handleDpt11(byte[] data) throws KNXFormatException {
+        checkLength(data, 3);
+        int day = data[0] & 0x1f;
+        int month = data[1] & 0x0f;
+        int year = data[2] & 0x7f;
+        // years 90-99 are 1990-1999, 0-89 are 2000-2089
+        year += year < 90 ? 2000 : 1900;
+        return new DateTimeType(ZonedDateTime.of(year, month, day, 0, 0, 0, 0, ZoneId.systemDefault()));
+    }
+
+    private static @Nullable Type handleDpt19(byte[] data) throws KNXFormatException {
+        checkLength(data, 8);
+        int flags = data[6] & 0xff;
+        boolean validYear = (flags & DPT19_NO_YEAR) == 0;
+        boolean validDate = (flags & DPT19_NO_DATE) == 0;
+        boolean validTime = (flags & DPT19_NO_TIME) == 0;
+        if ((flags & DPT19_FAULT) != 0) {
             // Not supported: faulty clock
             LOGGER.debug("KNX clock msg ignored: clock faulty bit set, which is not supported");
             return null;
-        } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                && translatorDateTime.isValidField(DPTXlatorDateTime.DATE)) {
+        } else if (!validYear && validDate) {
             // Not supported: "/1/1" (month and day without year)
             LOGGER.debug("KNX clock msg ignored: no year, but day and month, which is not supported");
             return null;
-        } else if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                && !translatorDateTime.isValidField(DPTXlatorDateTime.DATE)) {
+        } else if (validYear && !validDate) {
             // Not supported: "1900" (year without month and day)
             LOGGER.debug("KNX clock msg ignored: no day and month, but year, which is not supported");
             return null;
-        } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                && !translatorDateTime.isValidField(DPTXlatorDateTime.DATE)
-                && !translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
+        } else if (!validYear && !validTime) {
             // Not supported: No year, no date and no time
             LOGGER.debug("KNX clock msg ignored: no day and month or year, which is not supported");
             return null;
         }
 
-        Calendar cal = Calendar.getInstance();
-        if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                && !translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
-            // Pure date format, no time information
-            cal.setTimeInMillis(translatorDateTime.getValueMilliseconds());
-            String value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
-            return DateTimeType.valueOf(value);
-        } else if (!translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                && translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
-            // Pure time format, no date information
-            cal.clear();
-            cal.set(Calendar.HOUR_OF_DAY, translatorDateTime.getHour());
-            cal.set(Calendar.MINUTE, translatorDateTime.getMinute());
-            cal.set(Calendar.SECOND, translatorDateTime.getSecond());
-            String value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
-            return DateTimeType.valueOf(value);
-        } else if (translatorDateTime.isValidField(DPTXlatorDateTime.YEAR)
-                && translatorDateTime.isValidField(DPTXlatorDateTime.TIME)) {
-            // Date format and time information
-            cal.setTimeInMillis(translatorDateTime.getValueMilliseconds());
-            String value = new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime());
-            return DateTimeType.valueOf(value);
-        } else {
-            LOGGER.warn("Failed to convert '{}'", translator.getValue());
-            return null;
+        int hour = data[3] & 0x1f;
+        int minute = data[4] & 0x3f;
+        int second = data[5] & 0x3f;
+        if (validTime && (hour > 24 || minute > 59 || second > 59 || (hour == 24 && (minute != 0 || second != 0)))) {
+            throw new KNXFormatException("invalid time " + hour + ":" + minute + ":" + second);
         }
+
+        LocalDate date = validYear
+                ? LocalDate.of((data[0] & 0xff) + 1900, data[1] & 0x0f, data[2] & 0x1f)
+                // Pure time format, no date information
+                : LocalDate.of(1970, 1, 1);
+        LocalDateTime dateTime = date.atStartOfDay();
+        if (validTime) {
+            // hour 24 is allowed by KNX and means midnight at the end of the day
+            dateTime = dateTime.plusHours(hour).plusMinutes(minute).plusSeconds(second);
+        }
+        return new DateTimeType(dateTime.atZone(ZoneId.systemDefault()));
     }
 
-    private static @Nullable Type handleDpt232(String value, String subType) {
-        Matcher rgb = RGB_PATTERN.matcher(value);
-        if (rgb.matches()) {
-            int r = Integer.parseInt(rgb.group("r"));
-            int g = Integer.parseInt(rgb.group("g"));
-            int b = Integer.parseInt(rgb.group("b"));
-
-            switch (subType) {
-                case "600":
-                    return HSBType.fromRGB(r, g, b);
-                case "60000":
-                    // MDT specific: mis-use 232.600 for hsv instead of rgb
-                    DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
-                    PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
-                    PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
-                    return new HSBType(hue, sat, bright);
-                default:
-                    LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
-                    return null;
-            }
+    private static @Nullable Type handleDpt232(String subType, byte[] data) throws KNXFormatException {
+        checkLength(data, 3);
+        int r = data[0] & 0xff;
+        int g = data[1] & 0xff;
+        int b = data[2] & 0xff;
+
+        switch (subType) {
+            case "600":
+                return HSBType.fromRGB(r, g, b);
+            case "60000":
+                // MDT specific: mis-use 232.600 for hsv instead of rgb
+                DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
+                PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
+                PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
+                return new HSBType(hue, sat, bright);
+            default:
+                LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
+                return null;
         }
-        LOGGER.warn("Failed to convert '{}' (DPT 232): Pattern does not match", value);
-        return null;
     }
 
     private static @Nullable Type handleDpt242(String value) {
@@ -337,22 +382,46 @@ public class ValueDecoder {
         return null;
     }
 
-    private static @Nullable Type handleNumericDpt(String id, DPTXlator translator, Class<? extends Type> preferredType)
-            throws KNXFormatException {
-        Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
+    private static double decodeDpt9(byte[] data) throws KNXFormatException {
+        checkLength(data, 2);
+        if ((data[0] & 0xff) == 0x7f && (data[1] & 0xff) == 0xff) {
+            // 0x7fff is reserved by KNX for invalid data (e.g. a sensor fault)
+            throw new KNXFormatException("invalid data (0x7fff)");
+        }
+        // 2-byte float: MEEEEMMM MMMMMMMM, value = 0.01 * M * 2^E with M in two's complement
+        int mantissa = ((data[0] & 0x07) << 8) | (data[1] & 0xff);
+        if ((data[0] & 0x80) != 0) {
+            mantissa -= 2048;
+        }
+        int exponent = (data[0] & 0x78) >> 3;
+        return (mantissa << exponent) / 100.0;
+    }
+
+    private static double decodeDpt14(byte[] data) throws KNXFormatException {
+        checkLength(data, 4);
+        float value = Float.intBitsToFloat(
+                (data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | (data[3] & 0xff));
+        if (!Float.isFinite(value)) {
+            throw new KNXFormatException("invalid data (" + value + ")");
+        }
+        return value;
+    }
+
+    private static @Nullable Type handleNumericDpt(DPTConverter converter, double value,
+            Class<? extends Type> preferredType) {
+        Set<Class<? extends Type>> allowedTypes = converter.getAllowedTypes();
 
-        double value = translator.getNumericValue();
         if (allowedTypes.contains(PercentType.class)
                 && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
             return new PercentType(BigDecimal.valueOf(Math.round(value)));
         }
 
         if (allowedTypes.contains(QuantityType.class) && !DISABLE_UOM) {
-            String unit = DPTUnits.getUnitForDpt(id);
+            Unit<?> unit = converter.getUnit();
             if (unit != null) {
-                return new QuantityType<>(value + " " + unit);
+                return toQuantityType(BigDecimal.valueOf(value), unit);
             } else {
-                LOGGER.trace("Could not determine unit for DPT '{}', fallback to plain decimal", id);
+                LOGGER.trace("Could not determine unit for DPT '{}', fallback to plain decimal", converter.getId());
             }
         }
 
@@ -360,10 +429,14 @@ public class ValueDecoder {
             return new DecimalType(value);
         }
 
-        LOGGER.warn("Failed to convert '{}' (DPT '{}'): no matching type found", value, id);
+        LOGGER.warn("Failed to convert '{}' (DPT '{}'): no matching type found", value, converter.getId());
         return null;
     }
 
+    private static <T extends Quantity<T>> QuantityType<T> toQuantityType(BigDecimal value, Unit<T> unit) {
+        return new QuantityType<>(value, unit);
+    }
+
     private static double coerceToRange(double value, double min, double max) {
         return Math.min(Math.max(value, min), max);
     }
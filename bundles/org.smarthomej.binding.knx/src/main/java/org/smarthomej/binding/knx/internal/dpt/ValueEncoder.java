@@ -12,12 +12,11 @@
  */
 package org.smarthomej.binding.knx.internal.dpt;
 
-import static org.smarthomej.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
-
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Locale;
-import java.util.regex.Matcher;
+
+import javax.measure.Unit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -37,15 +36,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.commons.util.ColorUtil;
 
-import tuwien.auto.calimero.KNXException;
 import tuwien.auto.calimero.dptxlator.DPT;
-import tuwien.auto.calimero.dptxlator.DPTXlator;
 import tuwien.auto.calimero.dptxlator.DPTXlator1BitControlled;
 import tuwien.auto.calimero.dptxlator.DPTXlator3BitControlled;
 import tuwien.auto.calimero.dptxlator.DPTXlatorDate;
 import tuwien.auto.calimero.dptxlator.DPTXlatorDateTime;
 import tuwien.auto.calimero.dptxlator.DPTXlatorTime;
-import tuwien.auto.calimero.dptxlator.TranslatorTypes;
 
 /**
  * This class encodes openHAB data types to strings for sending via Calimero
@@ -70,18 +66,17 @@ public class ValueEncoder {
      * @return the value formatted as String
      */
     public static @Nullable String encode(Type value, String dptId) {
-        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
-        if (!m.matches() || m.groupCount() != 2) {
+        DPTConverter converter = DPTConverter.get(dptId);
+        if (converter == null) {
+            return null;
+        }
+        if (!converter.isValidId()) {
             LOGGER.warn("couldn't identify main/sub number in dptId '{}'", dptId);
             return null;
         }
 
-        String mainNumber = m.group("main");
-
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(Integer.parseInt(mainNumber),
-                    NORMALIZED_DPT.getOrDefault(dptId, dptId));
-            DPT dpt = translator.getType();
+            DPT dpt = converter.getDpt();
 
             // check for HSBType first, because it extends PercentType as well
             if (value instanceof HSBType) {
@@ -102,14 +97,12 @@ public class ValueEncoder {
                 int intValue = ((PercentType) value).intValue();
                 return "251.600".equals(dptId) ? String.format("- - - %d %%", intValue) : String.valueOf(intValue);
             } else if (value instanceof DecimalType || value instanceof QuantityType<?>) {
-                return handleNumericTypes(dptId, mainNumber, dpt, value);
+                return handleNumericTypes(converter, value);
             } else if (value instanceof StringType) {
                 return value.toString();
             } else if (value instanceof DateTimeType) {
                 return handleDateTimeType(dptId, (DateTimeType) value);
             }
-        } catch (KNXException e) {
-            return null;
         } catch (Exception e) {
             LOGGER.warn("An exception occurred converting value {} to dpt id {}: error message={}", value, dptId,
                     e.getMessage());
@@ -167,12 +160,12 @@ public class ValueEncoder {
         }
     }
 
-    private static String handleNumericTypes(String dptId, String mainNumber, DPT dpt, Type value) {
+    private static String handleNumericTypes(DPTConverter converter, Type value) {
         BigDecimal bigDecimal;
         if (value instanceof DecimalType) {
             bigDecimal = ((DecimalType) value).toBigDecimal();
         } else {
-            String unit = DPTUnits.getUnitForDpt(dptId);
+            Unit<?> unit = converter.getUnit();
             if (unit != null) {
                 QuantityType<?> converted = ((QuantityType<?>) value).toUnit(unit);
                 if (converted == null) {
@@ -186,9 +179,9 @@ public class ValueEncoder {
                 bigDecimal = ((QuantityType<?>) value).toBigDecimal();
             }
         }
-        switch (mainNumber) {
+        switch (converter.getMainType()) {
             case "2":
-                DPT valueDPT = ((DPTXlator1BitControlled.DPT1BitControlled) dpt).getValueDPT();
+                DPT valueDPT = ((DPTXlator1BitControlled.DPT1BitControlled) converter.getDpt()).getValueDPT();
                 switch (bigDecimal.intValue()) {
                     case 0:
                         return "0 " + valueDPT.getLowerValue();
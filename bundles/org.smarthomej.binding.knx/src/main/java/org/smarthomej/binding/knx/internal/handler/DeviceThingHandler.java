@@ -23,6 +23,7 @@ import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -55,6 +56,7 @@ import org.smarthomej.binding.knx.internal.client.AbstractKNXClient;
 import org.smarthomej.binding.knx.internal.client.DeviceInspector;
 import org.smarthomej.binding.knx.internal.client.InboundSpec;
 import org.smarthomej.binding.knx.internal.client.KNXClient;
+import org.smarthomej.binding.knx.internal.client.KNXClient.ReadPriority;
 import org.smarthomej.binding.knx.internal.client.OutboundSpec;
 import org.smarthomej.binding.knx.internal.config.DeviceConfig;
 import org.smarthomej.binding.knx.internal.dpt.DPTUtil;
@@ -86,6 +88,8 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
     private final Map<GroupAddress, ScheduledFuture<?>> readFutures = new ConcurrentHashMap<>();
     private final Map<ChannelUID, ScheduledFuture<?>> channelFutures = new ConcurrentHashMap<>();
     private final Map<ChannelUID, KNXChannel> knxChannels = new ConcurrentHashMap<>();
+    // channels by the group addresses they listen to
+    private final Map<GroupAddress, List<KNXChannel>> groupAddressChannels = new ConcurrentHashMap<>();
     private final Random random = new Random();
     protected @Nullable IndividualAddress address;
     private int readInterval;
@@ -99,8 +103,6 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
 
     @Override
     public void initialize() {
-        attachToClient();
-
         DeviceConfig config = getConfigAs(DeviceConfig.class);
         readInterval = config.getReadInterval();
 
@@ -109,7 +111,12 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
             KNXChannel knxChannel = KNXChannelFactory.createKnxChannel(channel);
             knxChannels.put(channel.getUID(), knxChannel);
             groupAddresses.addAll(knxChannel.getAllGroupAddresses());
+            knxChannel.getAllGroupAddresses().forEach(ga -> groupAddressChannels
+                    .computeIfAbsent(ga, k -> new CopyOnWriteArrayList<>()).add(knxChannel));
         });
+
+        // the group addresses are needed when registering with the client
+        attachToClient();
     }
 
     @Override
@@ -125,6 +132,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         groupAddressesWriteBlocked.clear();
         groupAddressesRespondingSpec.clear();
         knxChannels.clear();
+        groupAddressChannels.clear();
 
         detachFromClient();
     }
@@ -170,29 +178,32 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         if (readInterval > 0) {
             ScheduledFuture<?> future = readFutures.get(groupAddress);
             if (future == null || future.isDone() || future.isCancelled()) {
-                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt), 0, readInterval,
+                // the initial value is needed before periodic refreshes of other channels
+                getScheduler().submit(() -> readDatapoint(groupAddress, dpt, ReadPriority.HIGH));
+                future = getScheduler().scheduleWithFixedDelay(
+                        () -> readDatapoint(groupAddress, dpt, ReadPriority.LOW), readInterval, readInterval,
                         TimeUnit.SECONDS);
                 readFutures.put(groupAddress, future);
             }
         } else {
-            getScheduler().submit(() -> readDatapoint(groupAddress, dpt));
+            getScheduler().submit(() -> readDatapoint(groupAddress, dpt, ReadPriority.HIGH));
         }
     }
 
-    private void readDatapoint(GroupAddress groupAddress, String dpt) {
+    private void readDatapoint(GroupAddress groupAddress, String dpt, ReadPriority priority) {
         if (getClient().isConnected()) {
             if (DPTUtil.getAllowedTypes(dpt).isEmpty()) {
                 logger.warn("DPT '{}' is not supported by the KNX binding", dpt);
                 return;
             }
             Datapoint datapoint = new CommandDP(groupAddress, getThing().getUID().toString(), 0, dpt);
-            getClient().readDatapoint(datapoint);
+            getClient().readDatapoint(datapoint, priority);
         }
     }
 
     @Override
-    public boolean listensTo(GroupAddress destination) {
-        return groupAddresses.contains(destination);
+    public Set<GroupAddress> getGroupAddresses() {
+        return groupAddresses;
     }
 
     /** Handling commands triggered from openHAB */
@@ -270,7 +281,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
     public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, byte[] asdu) {
         logger.trace("onGroupRead Thing '{}' received a GroupValueRead telegram from '{}' for destination '{}'",
                 getThing().getUID(), source, destination);
-        for (KNXChannel knxChannel : knxChannels.values()) {
+        for (KNXChannel knxChannel : groupAddressChannels.getOrDefault(destination, List.of())) {
             if (knxChannel.isControl()) {
                 OutboundSpec responseSpec = knxChannel.getResponseSpec(destination, RefreshType.REFRESH);
                 if (responseSpec != null) {
@@ -311,7 +322,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         logger.debug("onGroupWrite Thing '{}' received a GroupValueWrite telegram from '{}' for destination '{}'",
                 getThing().getUID(), source, destination);
 
-        for (KNXChannel knxChannel : knxChannels.values()) {
+        for (KNXChannel knxChannel : groupAddressChannels.getOrDefault(destination, List.of())) {
             InboundSpec listenSpec = knxChannel.getListenSpec(destination);
             if (listenSpec != null) {
                 logger.trace(
@@ -13,6 +13,8 @@
  */
 package org.smarthomej.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.smarthomej.binding.knx.internal.client.BusMessageListener;
 
@@ -29,9 +31,11 @@ import tuwien.auto.calimero.GroupAddress;
 public interface GroupAddressListener extends BusMessageListener {
 
     /**
-     * Called to verify if the GroupAddressListener has an interest in the given GroupAddress
+     * Get the GroupAddresses the GroupAddressListener has an interest in
+     *
+     * The addresses are evaluated when the listener is registered, a listener needs to register again if they change.
      *
-     * @param destination
+     * @return set of group addresses
      */
-    public boolean listensTo(GroupAddress destination);
+    public Set<GroupAddress> getGroupAddresses();
 }
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.smarthomej.binding.knx.internal.client.KNXClient.ReadPriority;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * The {@link ReadSchedulerTest} contains tests for the {@link ReadScheduler}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class ReadSchedulerTest {
+    private static final long PAUSE = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(10);
+
+    private final ReadScheduler readScheduler = new ReadScheduler(2, 50, 10);
+
+    @Test
+    public void requestsAreDeduplicated() throws KNXFormatException {
+        assertTrue(readScheduler.add(datapoint("1/0/1"), ReadPriority.LOW));
+        assertFalse(readScheduler.add(datapoint("1/0/1"), ReadPriority.LOW));
+        assertEquals(1, readScheduler.size());
+
+        ReadDatapoint readDatapoint = readScheduler.next(0);
+        assertNotNull(readDatapoint);
+        assertNull(readScheduler.next(PAUSE));
+    }
+
+    @Test
+    public void highPriorityRequestsAreSentFirst() throws KNXFormatException {
+        readScheduler.add(datapoint("1/0/1"), ReadPriority.LOW);
+        readScheduler.add(datapoint("1/0/2"), ReadPriority.LOW);
+        readScheduler.add(datapoint("1/0/3"), ReadPriority.HIGH);
+        // upgrade of a queued request
+        assertTrue(readScheduler.add(datapoint("1/0/2"), ReadPriority.HIGH));
+
+        assertEquals(new GroupAddress("1/0/3"), sendNext(0));
+        assertEquals(new GroupAddress("1/0/2"), sendNext(PAUSE));
+        assertEquals(new GroupAddress("1/0/1"), sendNext(2 * PAUSE));
+        assertNull(readScheduler.next(3 * PAUSE));
+    }
+
+    @Test
+    public void passivelyReceivedValuesAreNotRead() throws KNXFormatException {
+        readScheduler.add(datapoint("1/0/1"), ReadPriority.HIGH);
+        readScheduler.add(datapoint("1/0/2"), ReadPriority.HIGH);
+
+        readScheduler.valueReceived(new GroupAddress("1/0/1"));
+
+        assertEquals(new GroupAddress("1/0/2"), sendNext(0));
+        assertNull(readScheduler.next(PAUSE));
+    }
+
+    @Test
+    public void pauseFollowsLatency() throws KNXFormatException {
+        readScheduler.add(datapoint("1/0/1"), ReadPriority.HIGH);
+        readScheduler.add(datapoint("1/0/2"), ReadPriority.HIGH);
+
+        // confirmation took 100 ms, which is more than the configured pause
+        long latency = TimeUnit.MILLISECONDS.toNanos(100);
+        ReadDatapoint readDatapoint = readScheduler.next(0);
+        assertNotNull(readDatapoint);
+        readScheduler.sent(readDatapoint, 0, latency);
+
+        assertNull(readScheduler.next(PAUSE));
+        assertNull(readScheduler.next(ReadScheduler.LATENCY_FACTOR * latency - 1));
+        assertNotNull(readScheduler.next(ReadScheduler.LATENCY_FACTOR * latency));
+    }
+
+    @Test
+    public void responsesArePipelined() throws KNXFormatException {
+        for (int i = 0; i < ReadScheduler.MAX_AWAITING_RESPONSE + 1; i++) {
+            readScheduler.add(datapoint("1/0/" + i), ReadPriority.HIGH);
+        }
+
+        long now = 0;
+        for (int i = 0; i < ReadScheduler.MAX_AWAITING_RESPONSE; i++) {
+            assertNotNull(sendNext(now));
+            now += PAUSE;
+        }
+        // window is full until a response is received
+        assertNull(readScheduler.next(now));
+        readScheduler.valueReceived(new GroupAddress("1/0/0"));
+        assertNotNull(readScheduler.next(now));
+    }
+
+    @Test
+    public void missingResponsesAreRetried() throws KNXFormatException {
+        readScheduler.add(datapoint("1/0/1"), ReadPriority.HIGH);
+
+        assertEquals(new GroupAddress("1/0/1"), sendNext(0));
+        assertNull(readScheduler.next(TIMEOUT - 1));
+        assertEquals(new GroupAddress("1/0/1"), sendNext(TIMEOUT));
+
+        // limit is reached
+        assertNull(readScheduler.next(3 * TIMEOUT));
+        assertEquals(0, readScheduler.size());
+    }
+
+    @Test
+    public void failedRequestsAreRetried() throws KNXFormatException {
+        readScheduler.add(datapoint("1/0/1"), ReadPriority.HIGH);
+
+        ReadDatapoint readDatapoint = readScheduler.next(0);
+        assertNotNull(readDatapoint);
+        assertTrue(readScheduler.failed(readDatapoint));
+
+        readDatapoint = readScheduler.next(0);
+        assertNotNull(readDatapoint);
+        assertFalse(readScheduler.failed(readDatapoint));
+        assertEquals(0, readScheduler.size());
+    }
+
+    private @Nullable GroupAddress sendNext(long now) {
+        ReadDatapoint readDatapoint = readScheduler.next(now);
+        if (readDatapoint == null) {
+            return null;
+        }
+        readScheduler.sent(readDatapoint, now, now);
+        return readDatapoint.getDatapoint().getMainAddress();
+    }
+
+    private static Datapoint datapoint(String groupAddress) throws KNXFormatException {
+        return new CommandDP(new GroupAddress(groupAddress), "test", 0, "1.001");
+    }
+}
@@ -16,6 +16,7 @@ package org.smarthomej.binding.knx.internal.dpt;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -23,9 +24,14 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.UpDownType;
 
 /**
  *
@@ -51,6 +57,75 @@ public class DPTTest {
         assertEquals("23.1", ValueEncoder.encode(new QuantityType<>("23.1 °C"), "9.001"));
     }
 
+    @Test
+    public void dpt1Value() {
+        assertEquals(OnOffType.ON, ValueDecoder.decode("1.001", new byte[] { 1 }, OnOffType.class));
+        assertEquals(UpDownType.UP, ValueDecoder.decode("1.008", new byte[] { 0 }, UpDownType.class));
+        assertEquals(OpenClosedType.CLOSED, ValueDecoder.decode("1.009", new byte[] { 0 }, OpenClosedType.class));
+    }
+
+    @Test
+    public void dpt5Value() {
+        byte[] data = new byte[] { (byte) 0x80 };
+        assertEquals(new PercentType(50), ValueDecoder.decode("5.001", data, PercentType.class));
+        assertEquals(new QuantityType<>("50 %"), ValueDecoder.decode("5.001", data, QuantityType.class));
+        assertEquals(new QuantityType<>("128 %"), ValueDecoder.decode("5.004", data, QuantityType.class));
+        assertEquals(new DecimalType(128), ValueDecoder.decode("5.010", data, DecimalType.class));
+    }
+
+    @Test
+    public void dpt9Value() {
+        assertEquals(new QuantityType<>("21.4 °C"),
+                ValueDecoder.decode("9.001", new byte[] { 0x0c, 0x2e }, QuantityType.class));
+        assertEquals(new QuantityType<>("-0.5 °C"),
+                ValueDecoder.decode("9.001", new byte[] { (byte) 0x87, (byte) 0xce }, QuantityType.class));
+        // too short
+        assertNull(ValueDecoder.decode("9.001", new byte[] { 0x0c }, QuantityType.class));
+        // invalid data
+        assertNull(ValueDecoder.decode("9.001", new byte[] { 0x7f, (byte) 0xff }, QuantityType.class));
+        assertNull(ValueDecoder.decode("9.004", new byte[] { 0x7f, (byte) 0xff }, DecimalType.class));
+    }
+
+    @Test
+    public void dpt14Value() {
+        byte[] data = new byte[] { 0x44, (byte) 0x9a, 0x50, 0x00 };
+        assertEquals(new QuantityType<>("1234.5 W"), ValueDecoder.decode("14.056", data, QuantityType.class));
+        // NaN
+        assertNull(ValueDecoder.decode("14.056", new byte[] { 0x7f, (byte) 0xc0, 0x00, 0x00 }, QuantityType.class));
+    }
+
+    @Test
+    public void dpt11Value() {
+        DateTimeType dateTime = (DateTimeType) ValueDecoder.decode("11.001", new byte[] { 17, 5, 23 },
+                DateTimeType.class);
+
+        assertNotNull(dateTime);
+        assertEquals(LocalDateTime.of(2023, 5, 17, 0, 0, 0), dateTime.getZonedDateTime().toLocalDateTime());
+    }
+
+    @Test
+    public void dpt19Value() {
+        byte[] data = new byte[] { 123, 5, 17, (3 << 5) | 12, 30, 15, 0, 0 };
+        DateTimeType dateTime = (DateTimeType) ValueDecoder.decode("19.001", data, DateTimeType.class);
+
+        assertNotNull(dateTime);
+        assertEquals(LocalDateTime.of(2023, 5, 17, 12, 30, 15), dateTime.getZonedDateTime().toLocalDateTime());
+
+        // faulty clock
+        data[6] = (byte) 0x80;
+        assertNull(ValueDecoder.decode("19.001", data, DateTimeType.class));
+
+        // time only
+        data[6] = 0x10 | 0x08;
+        dateTime = (DateTimeType) ValueDecoder.decode("19.001", data, DateTimeType.class);
+        assertNotNull(dateTime);
+        assertEquals(LocalDateTime.of(1970, 1, 1, 12, 30, 15), dateTime.getZonedDateTime().toLocalDateTime());
+
+        // invalid minute
+        data[4] = 60;
+        assertNull(ValueDecoder.decode("19.001", data, DateTimeType.class));
+    }
+
     @Test
     public void dpt232RgbValue() {
         // input data
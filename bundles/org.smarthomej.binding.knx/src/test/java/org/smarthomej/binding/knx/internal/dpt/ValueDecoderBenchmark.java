@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.knx.internal.dpt;
+
+import static org.smarthomej.binding.knx.internal.KNXBindingConstants.DISABLE_UOM;
+
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+import tuwien.auto.calimero.dptxlator.DPTXlatorBoolean;
+import tuwien.auto.calimero.dptxlator.DPTXlatorDateTime;
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+
+/**
+ * The {@link ValueDecoderBenchmark} measures decoding of the most common DPTs. The {@code legacyDecode} benchmark
+ * is the baseline: it repeats the decoding before the DPT converters were introduced, which created a Calimero
+ * translator per value and converted its string value to the openHAB type.
+ *
+ * Run with {@code mvn test-compile} and {@link #main(String[])} on the test classpath.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueDecoderBenchmark {
+    // RGB: "r:123 g:123 b:123", the string value of the translator for DPT 232.600
+    private static final Pattern RGB_PATTERN = Pattern.compile("r:(?<r>\\d+) g:(?<g>\\d+) b:(?<b>\\d+)");
+
+    // DPT id, raw data and preferred type for each benchmarked DPT
+    private static final Map<String, byte[]> DATA = Map.of( //
+            "1.001", new byte[] { 0x01 }, //
+            "5.001", new byte[] { (byte) 0x80 }, //
+            "9.001", new byte[] { 0x0c, 0x2e }, //
+            "14.056", new byte[] { 0x44, (byte) 0x9a, 0x50, 0x00 }, //
+            "19.001", new byte[] { 0x7b, 0x05, 0x11, 0x6c, 0x1e, 0x0f, 0x00, 0x00 }, //
+            "232.600", new byte[] { 0x7b, 0x2d, 0x43 });
+    private static final Map<String, Class<? extends Type>> PREFERRED_TYPES = Map.of( //
+            "1.001", OnOffType.class, //
+            "5.001", PercentType.class, //
+            "9.001", QuantityType.class, //
+            "14.056", QuantityType.class, //
+            "19.001", DateTimeType.class, //
+            "232.600", HSBType.class);
+
+    @Param({ "1.001", "5.001", "9.001", "14.056", "19.001", "232.600" })
+    public String dptId = "";
+
+    private byte[] data = new byte[0];
+    private Class<? extends Type> preferredType = QuantityType.class;
+
+    @Setup
+    public void setup() {
+        data = Objects.requireNonNull(DATA.get(dptId));
+        preferredType = Objects.requireNonNull(PREFERRED_TYPES.get(dptId));
+    }
+
+    @Benchmark
+    public @Nullable Type decode() {
+        return ValueDecoder.decode(dptId, data, preferredType);
+    }
+
+    @Benchmark
+    public @Nullable Type legacyDecode() throws KNXException {
+        DPTXlator translator = TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+        translator.setData(data);
+        String value = translator.getValue();
+
+        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
+        if (!m.matches()) {
+            return null;
+        }
+        switch (m.group("main")) {
+            case "1":
+                return OnOffType.from(((DPTXlatorBoolean) translator).getValueBoolean());
+            case "19":
+                return legacyDecodeDpt19((DPTXlatorDateTime) translator);
+            case "232":
+                Matcher rgb = RGB_PATTERN.matcher(value);
+                if (!rgb.matches()) {
+                    return null;
+                }
+                return HSBType.fromRGB(Integer.parseInt(rgb.group("r")), Integer.parseInt(rgb.group("g")),
+                        Integer.parseInt(rgb.group("b")));
+            default:
+                return legacyDecodeNumericDpt(translator.getNumericValue());
+        }
+    }
+
+    private static @Nullable Type legacyDecodeDpt19(DPTXlatorDateTime translator) throws KNXException {
+        // the benchmarked value has a valid date and time, only this case is converted
+        if (translator.isFaultyClock() || !translator.isValidField(DPTXlatorDateTime.YEAR)
+                || !translator.isValidField(DPTXlatorDateTime.DATE)
+                || !translator.isValidField(DPTXlatorDateTime.TIME)) {
+            return null;
+        }
+        Calendar cal = Calendar.getInstance();
+        cal.setTimeInMillis(translator.getValueMilliseconds());
+        return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN).format(cal.getTime()));
+    }
+
+    private @Nullable Type legacyDecodeNumericDpt(double value) {
+        Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(dptId);
+        if (allowedTypes.contains(PercentType.class)
+                && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
+            return new PercentType(BigDecimal.valueOf(Math.round(value)));
+        }
+        if (allowedTypes.contains(QuantityType.class) && !DISABLE_UOM) {
+            String unit = DPTUnits.getUnitForDpt(dptId);
+            if (unit != null) {
+                return new QuantityType<>(value + " " + unit);
+            }
+        }
+        return allowedTypes.contains(DecimalType.class) ? new DecimalType(value) : null;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ValueDecoderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -53,6 +53,8 @@ public class OwBindingConstants {
     // List of all config options
     public static final String CONFIG_ADDRESS = "network-address";
     public static final String CONFIG_PORT = "port";
+    public static final String CONFIG_CONNECTIONS = "connections";
+    public static final String CONFIG_SIMULTANEOUS = "simultaneous";
 
     public static final String CONFIG_ID = "id";
     public static final String CONFIG_RESOLUTION = "resolution";
@@ -25,4 +25,6 @@ import org.eclipse.jdt.annotation.Nullable;
 public class BaseHandlerConfiguration {
     public @Nullable String id;
     public int refresh = 300;
+    public int maxrefresh = 0;
+    public double deadband = 0;
 }
@@ -41,9 +41,15 @@ import org.smarthomej.binding.onewire.internal.owserver.OwserverDeviceParameter;
 public class DS18x20 extends AbstractOwDevice {
     private final Logger logger = LoggerFactory.getLogger(DS18x20.class);
 
+    // result of the last conversion, does not trigger a new conversion
+    private static final OwserverDeviceParameter LATEST_TEMPERATURE_PARAMETER = new OwserverDeviceParameter(
+            "/latesttemp");
+
     private OwserverDeviceParameter temperatureParameter = new OwserverDeviceParameter("/temperature");
 
     private boolean ignorePOR = false;
+    // the resolution is stored on the sensor when reading the temperature, simultaneous conversions use it afterwards
+    private boolean resolutionSet = false;
 
     public DS18x20(SensorId sensorId, OwBaseThingHandler callback) {
         super(sensorId, callback);
@@ -71,15 +77,29 @@ public class DS18x20 extends AbstractOwDevice {
             throw new OwException(CHANNEL_TEMPERATURE + " not found");
         }
 
+        resolutionSet = false;
         isConfigured = true;
     }
 
+    /**
+     * check if the temperature of this sensor can be read after a simultaneous conversion
+     *
+     * @return true if the temperature channel is enabled and the resolution was set on the sensor
+     */
+    public boolean isSimultaneousConversionSupported() {
+        return isConfigured && resolutionSet && enabledChannels.contains(CHANNEL_TEMPERATURE);
+    }
+
     @Override
     public void refresh(OwserverBridgeHandler bridgeHandler, Boolean forcedRefresh) throws OwException {
         if (isConfigured && enabledChannels.contains(CHANNEL_TEMPERATURE)) {
             logger.trace("refresh of sensor {} started", sensorId);
+            OwserverDeviceParameter parameter = resolutionSet && bridgeHandler.isSimultaneousConversionDone(sensorId)
+                    ? LATEST_TEMPERATURE_PARAMETER
+                    : temperatureParameter;
             QuantityType<Temperature> temperature = new QuantityType<>(
-                    (DecimalType) bridgeHandler.readDecimalType(sensorId, temperatureParameter), SIUnits.CELSIUS);
+                    (DecimalType) bridgeHandler.readDecimalType(sensorId, parameter), SIUnits.CELSIUS);
+            resolutionSet = true;
             logger.trace("read temperature {} from {}", temperature, sensorId);
             if (ignorePOR && (Double.compare(temperature.doubleValue(), 85.0) == 0)) {
                 logger.trace("ignored POR value from sensor {}", sensorId);
@@ -126,8 +126,10 @@ public class AdvancedMultisensorThingHandler extends OwBaseThingHandler {
                 sensors.get(3).refresh(bridgeHandler, forcedRefresh);
             }
 
-            if (now >= (lastRefresh + refreshInterval)) {
+            if (isRefreshDue(now)) {
+                startChangeDetection();
                 if (!sensors.get(0).checkPresence(bridgeHandler)) {
+                    resetRefreshInterval();
                     return;
                 }
 
@@ -145,13 +147,23 @@ public class AdvancedMultisensorThingHandler extends OwBaseThingHandler {
                         sensors.get(i).refresh(bridgeHandler, forcedRefresh);
                     }
                 }
+                adaptRefreshInterval();
             }
         } catch (OwException e) {
+            resetRefreshInterval();
             logger.debug("{}: refresh exception '{}'", this.thing.getUID(), e.getMessage());
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "refresh exception");
         }
     }
 
+    @Override
+    public long getNextRefresh() {
+        if (thingType.equals(THING_TYPE_AMS)) {
+            return Math.min(super.getNextRefresh(), digitalLastRefresh + digitalRefreshInterval);
+        }
+        return super.getNextRefresh();
+    }
+
     @Override
     protected void configureThingChannels() {
         Configuration configuration = getConfig();
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -35,6 +36,7 @@ import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingStatusInfo;
 import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerCallback;
 import org.openhab.core.thing.binding.builder.ChannelBuilder;
 import org.openhab.core.thing.binding.builder.ThingBuilder;
@@ -76,6 +78,13 @@ public abstract class OwBaseThingHandler extends BaseThingHandler {
     protected long lastRefresh = 0;
     protected long refreshInterval = 300 * 1000;
 
+    // adaptive refresh: the interval is doubled after each refresh without a changed value (up to the maximum)
+    protected long currentRefreshInterval = refreshInterval;
+    protected long maxRefreshInterval = refreshInterval;
+    protected double deadband = 0;
+    private final Map<String, State> referenceStates = new ConcurrentHashMap<>();
+    private boolean valueChanged = false;
+
     protected boolean validConfig = false;
     protected boolean showPresence = false;
 
@@ -104,6 +113,7 @@ public abstract class OwBaseThingHandler extends BaseThingHandler {
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (command instanceof RefreshType) {
             lastRefresh = 0;
+            requestRefresh();
             logger.trace("scheduled {} for refresh", this.thing.getUID());
         }
     }
@@ -137,6 +147,10 @@ public abstract class OwBaseThingHandler extends BaseThingHandler {
         }
 
         refreshInterval = configuration.refresh * 1000;
+        maxRefreshInterval = Math.max(refreshInterval, configuration.maxrefresh * 1000L);
+        deadband = configuration.deadband;
+        resetRefreshInterval();
+        referenceStates.clear();
 
         // check if all required properties are present. update if not
         for (String property : requiredProperties) {
@@ -203,6 +217,65 @@ public abstract class OwBaseThingHandler extends BaseThingHandler {
                 && this.thing.getStatusInfo().getStatusDetail() != ThingStatusDetail.BRIDGE_OFFLINE;
     }
 
+    /**
+     * check if a refresh of this thing is due
+     *
+     * @param now current time
+     * @return true if the refresh interval elapsed
+     */
+    public boolean isRefreshDue(long now) {
+        return now >= (lastRefresh + currentRefreshInterval);
+    }
+
+    /**
+     * get the time of the next refresh
+     *
+     * @return the time at which the next refresh is due
+     */
+    public long getNextRefresh() {
+        return lastRefresh + currentRefreshInterval;
+    }
+
+    /**
+     * ask the bridge handler to refresh this thing as soon as possible
+     */
+    protected void requestRefresh() {
+        Bridge bridge = getBridge();
+        ThingHandler bridgeHandler = bridge != null ? bridge.getHandler() : null;
+        if (bridgeHandler instanceof OwserverBridgeHandler) {
+            ((OwserverBridgeHandler) bridgeHandler).scheduleRefresh(this);
+        }
+    }
+
+    /**
+     * start detecting value changes for adapting the refresh interval
+     */
+    protected void startChangeDetection() {
+        valueChanged = false;
+    }
+
+    /**
+     * adapt the refresh interval after a successful refresh
+     *
+     * The interval is reset to the configured refresh time if a value changed and doubled (up to the maximum refresh
+     * time) otherwise.
+     */
+    protected void adaptRefreshInterval() {
+        if (valueChanged) {
+            currentRefreshInterval = refreshInterval;
+        } else {
+            currentRefreshInterval = Math.min(2 * currentRefreshInterval, maxRefreshInterval);
+        }
+        logger.trace("{}: next refresh in {} ms", thing.getUID(), currentRefreshInterval);
+    }
+
+    /**
+     * reset the refresh interval to the configured refresh time (e.g. after a failed refresh)
+     */
+    protected void resetRefreshInterval() {
+        currentRefreshInterval = refreshInterval;
+    }
+
     /**
      * refresh this thing
      *
@@ -214,13 +287,15 @@ public abstract class OwBaseThingHandler extends BaseThingHandler {
     public void refresh(OwserverBridgeHandler bridgeHandler, long now) {
         try {
             Boolean forcedRefresh = lastRefresh == 0;
-            if (now >= (lastRefresh + refreshInterval)) {
+            if (isRefreshDue(now)) {
                 logger.trace("refreshing {}", this.thing.getUID());
 
                 lastRefresh = now;
+                startChangeDetection();
 
                 if (!sensors.get(0).checkPresence(bridgeHandler)) {
                     logger.trace("sensor not present");
+                    resetRefreshInterval();
                     return;
                 }
 
@@ -228,8 +303,10 @@ public abstract class OwBaseThingHandler extends BaseThingHandler {
                     logger.trace("refreshing sensor {} ({})", i, sensors.get(i).getSensorId());
                     sensors.get(i).refresh(bridgeHandler, forcedRefresh);
                 }
+                adaptRefreshInterval();
             }
         } catch (OwException e) {
+            resetRefreshInterval();
             logger.debug("{}: refresh exception {}", this.thing.getUID(), e.getMessage());
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "refresh exception");
         }
@@ -267,12 +344,31 @@ public abstract class OwBaseThingHandler extends BaseThingHandler {
      */
     public void postUpdate(String channelId, State state) {
         if (this.thing.getChannel(channelId) != null) {
+            State referenceState = referenceStates.get(channelId);
+            if (referenceState == null || isChanged(referenceState, state)) {
+                referenceStates.put(channelId, state);
+                valueChanged = true;
+            }
             updateState(channelId, state);
         } else {
             logger.warn("{} missing channel {} when posting update {}", this.thing.getUID(), channelId, state);
         }
     }
 
+    /**
+     * check if a state differs from the reference state (numbers are compared using the deadband)
+     *
+     * @param referenceState the state at the last detected change
+     * @param state the new state
+     * @return true if the state changed
+     */
+    protected boolean isChanged(State referenceState, State state) {
+        if (referenceState instanceof Number && state instanceof Number) {
+            return Math.abs(((Number) state).doubleValue() - ((Number) referenceState).doubleValue()) > deadband;
+        }
+        return !referenceState.equals(state);
+    }
+
     @Override
     public void bridgeStatusChanged(ThingStatusInfo bridgeStatusInfo) {
         if (bridgeStatusInfo.getStatus() == ThingStatus.ONLINE
@@ -20,16 +20,29 @@ import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.StringType;
@@ -41,6 +54,7 @@ import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
+import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerService;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
@@ -49,6 +63,8 @@ import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.onewire.internal.OwException;
 import org.smarthomej.binding.onewire.internal.OwPageBuffer;
 import org.smarthomej.binding.onewire.internal.SensorId;
+import org.smarthomej.binding.onewire.internal.device.AbstractOwDevice;
+import org.smarthomej.binding.onewire.internal.device.DS18x20;
 import org.smarthomej.binding.onewire.internal.device.OwSensorType;
 import org.smarthomej.binding.onewire.internal.discovery.OwDiscoveryService;
 import org.smarthomej.binding.onewire.internal.owserver.OwfsDirectChannelConfig;
@@ -59,6 +75,15 @@ import org.smarthomej.binding.onewire.internal.owserver.OwserverDeviceParameter;
 /**
  * The {@link OwserverBridgeHandler} class implements the refresher and the interface for reading from the bridge
  *
+ * Requests are distributed over a pool of owserver connections. Each work queue (all sensors behind the same hub
+ * branch or a single sensor on the main bus) is bound to one connection, the things of different connections are
+ * refreshed concurrently.
+ *
+ * Temperature sensors that are due are converted simultaneously (one conversion per bus segment) at the beginning of
+ * each refresh cycle, the sensors then only read the result of that conversion.
+ *
+ * Things are kept in a {@link RefreshQueue} ordered by their next refresh, only things that are due are refreshed.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -75,18 +100,44 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
     private final Queue<@Nullable Thing> thingPropertiesUpdateQueue = new ConcurrentLinkedQueue<>();
 
     private static final int RECONNECT_AFTER_FAIL_TIME = 5000; // in ms
+    private static final int DEFAULT_CONNECTIONS = 4;
+    private static final long CONVERSION_TIME = 750; // in ms, 12 bit resolution
+    private static final String REFRESH_THREAD_POOL_NAME = "SHJ-onewire";
+
+    // the main connection reports the bridge status and is used for discovery and the bridge channels
     private final OwserverConnection owserverConnection;
+    // creates the additional connections of the pool, the pool is disabled if null
+    private final @Nullable Function<Consumer<OwserverConnectionState>, OwserverConnection> poolConnectionFactory;
+    // all connections, starting with the main connection
+    private final List<OwserverConnection> connections = new CopyOnWriteArrayList<>();
+    private final Map<String, OwserverConnection> workQueueConnections = new ConcurrentHashMap<>();
+    private final AtomicInteger nextConnection = new AtomicInteger();
+    // refreshes the work queues of the pool connections in parallel, the pool is shared and never shut down
+    private final ExecutorService refreshExecutor = ThreadPoolManager.getPool(REFRESH_THREAD_POOL_NAME);
+
+    private boolean simultaneousConversion = true;
+    // bus segments (path of the hub branch or empty for the main bus) converted in the current refresh cycle
+    private volatile Set<String> convertedBusSegments = Set.of();
 
     private final List<OwfsDirectChannelConfig> channelConfigs = new ArrayList<>();
 
+    private final RefreshQueue<OwBaseThingHandler> refreshQueue = new RefreshQueue<>();
+
     public OwserverBridgeHandler(Bridge bridge) {
         super(bridge);
         this.owserverConnection = new OwserverConnection(this);
+        this.poolConnectionFactory = OwserverConnection::new;
     }
 
     public OwserverBridgeHandler(Bridge bridge, OwserverConnection owserverConnection) {
+        this(bridge, owserverConnection, null);
+    }
+
+    public OwserverBridgeHandler(Bridge bridge, OwserverConnection owserverConnection,
+            @Nullable Function<Consumer<OwserverConnectionState>, OwserverConnection> poolConnectionFactory) {
         super(bridge);
         this.owserverConnection = owserverConnection;
+        this.poolConnectionFactory = poolConnectionFactory;
     }
 
     @Override
@@ -97,13 +148,36 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
     public void initialize() {
         Configuration configuration = getConfig();
 
-        if (configuration.get(CONFIG_ADDRESS) != null) {
-            owserverConnection.setHost((String) configuration.get(CONFIG_ADDRESS));
+        connections.clear();
+        workQueueConnections.clear();
+        connections.add(owserverConnection);
+        Function<Consumer<OwserverConnectionState>, OwserverConnection> factory = this.poolConnectionFactory;
+        if (factory != null) {
+            Object connectionsConfig = configuration.get(CONFIG_CONNECTIONS);
+            int poolSize = connectionsConfig != null ? Math.max(1, ((BigDecimal) connectionsConfig).intValue())
+                    : DEFAULT_CONNECTIONS;
+            for (int i = 1; i < poolSize; i++) {
+                final int connectionNo = i;
+                AtomicReference<@Nullable OwserverConnection> connectionRef = new AtomicReference<>();
+                OwserverConnection connection = factory
+                        .apply(state -> reportPoolConnectionState(connectionNo, connectionRef.get(), state));
+                connectionRef.set(connection);
+                connections.add(connection);
+            }
         }
-        if (configuration.get(CONFIG_PORT) != null) {
-            owserverConnection.setPort(((BigDecimal) configuration.get(CONFIG_PORT)).intValue());
+
+        for (OwserverConnection connection : connections) {
+            if (configuration.get(CONFIG_ADDRESS) != null) {
+                connection.setHost((String) configuration.get(CONFIG_ADDRESS));
+            }
+            if (configuration.get(CONFIG_PORT) != null) {
+                connection.setPort(((BigDecimal) configuration.get(CONFIG_PORT)).intValue());
+            }
         }
 
+        Object simultaneousConfig = configuration.get(CONFIG_SIMULTANEOUS);
+        simultaneousConversion = simultaneousConfig == null || (Boolean) simultaneousConfig;
+
         for (Channel channel : thing.getChannels()) {
             if (CHANNEL_TYPE_UID_OWFS_NUMBER.equals(channel.getChannelTypeUID())
                     || CHANNEL_TYPE_UID_OWFS_STRING.equals(channel.getChannelTypeUID())) {
@@ -117,13 +191,22 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
             }
         }
 
+        for (Thing childThing : getThing().getThings()) {
+            ThingHandler childHandler = childThing.getHandler();
+            if (childHandler instanceof OwBaseThingHandler) {
+                refreshQueue.schedule((OwBaseThingHandler) childHandler, 0);
+            }
+        }
+
         // makes it possible for unit tests to differentiate direct update and
         // postponed update through the owserverConnection:
         updateStatus(ThingStatus.UNKNOWN);
 
         scheduler.execute(() -> {
-            synchronized (owserverConnection) {
-                owserverConnection.start();
+            for (OwserverConnection connection : connections) {
+                synchronized (connection) {
+                    connection.start();
+                }
             }
         });
 
@@ -144,28 +227,43 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
                 return;
             }
 
-            // refresh thing channels
-            List<Thing> thingList = getThing().getThings();
-            int thingCount = thingList.size();
-            Iterator<Thing> childListIterator = thingList.iterator();
-            logger.trace("refreshTask with thread ID {} starts at {}, {} childs", Thread.currentThread().getId(), now,
-                    thingCount);
-            while (childListIterator.hasNext() && refreshable) {
-                Thing owThing = childListIterator.next();
-
-                logger.trace("refresh: getting handler for {} ({} to go)", owThing.getUID(), thingCount);
-                OwBaseThingHandler owHandler = (OwBaseThingHandler) owThing.getHandler();
-                if (owHandler != null) {
-                    if (owHandler.isRefreshable()) {
-                        logger.trace("{} initialized, refreshing", owThing.getUID());
-                        owHandler.refresh(OwserverBridgeHandler.this, now);
-                    } else {
-                        logger.trace("{} not initialized, skipping refresh", owThing.getUID());
-                    }
+            // refresh due things, one work queue per connection
+            List<OwBaseThingHandler> dueHandlers = refreshQueue.pollDue(now);
+            logger.trace("refreshTask with thread ID {} starts at {}, {} of {} childs due",
+                    Thread.currentThread().getId(), now, dueHandlers.size(), refreshQueue.size());
+            Map<OwserverConnection, List<OwBaseThingHandler>> workQueues = new LinkedHashMap<>();
+            for (OwBaseThingHandler owHandler : dueHandlers) {
+                if (owHandler.isRefreshable()) {
+                    SensorId sensorId = owHandler.sensorId;
+                    OwserverConnection connection = sensorId != null ? getConnection(sensorId) : owserverConnection;
+                    workQueues.computeIfAbsent(connection, c -> new ArrayList<>()).add(owHandler);
                 } else {
-                    logger.debug("{} handler missing", owThing.getUID());
+                    logger.trace("{} not initialized, skipping refresh", owHandler.getThing().getUID());
                 }
-                thingCount--;
+            }
+
+            try {
+                if (simultaneousConversion) {
+                    convertedBusSegments = startSimultaneousConversion(workQueues.values(), now);
+                }
+                if (workQueues.size() < 2) {
+                    workQueues.values().forEach(workQueue -> refreshThings(workQueue, now));
+                } else {
+                    List<Future<?>> futures = new ArrayList<>();
+                    workQueues.values().forEach(
+                            workQueue -> futures.add(refreshExecutor.submit(() -> refreshThings(workQueue, now))));
+                    for (Future<?> future : futures) {
+                        try {
+                            future.get();
+                        } catch (ExecutionException e) {
+                            logger.error("refresh encountered exception of {}: {}, please report bug",
+                                    e.getCause().getClass(), e.getCause().getMessage());
+                        }
+                    }
+                }
+            } finally {
+                convertedBusSegments = Set.of();
+                dueHandlers.forEach(owHandler -> refreshQueue.reschedule(owHandler, owHandler.getNextRefresh()));
             }
 
             if (!refreshable) {
@@ -200,19 +298,147 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
                 }
             }
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (RuntimeException e) {
             // catching RuntimeException because scheduled tasks finish once an exception occurs
             logger.error("refresh encountered exception of {}: {}, please report bug", e.getClass(), e.getMessage());
         }
     }
 
+    /**
+     * start a simultaneous temperature conversion on all bus segments with temperature sensors that are due and wait
+     * until the conversion is finished
+     *
+     * @param workQueues the handlers of all things that are refreshed in this cycle
+     * @param now current time
+     * @return the bus segments that were converted
+     * @throws InterruptedException if interrupted while waiting for the conversion
+     */
+    private Set<String> startSimultaneousConversion(Collection<List<OwBaseThingHandler>> workQueues, long now)
+            throws InterruptedException {
+        Set<String> busSegments = new HashSet<>();
+        for (List<OwBaseThingHandler> workQueue : workQueues) {
+            for (OwBaseThingHandler owHandler : workQueue) {
+                if (owHandler.isRefreshDue(now)) {
+                    for (AbstractOwDevice sensor : owHandler.sensors) {
+                        if (sensor instanceof DS18x20 && ((DS18x20) sensor).isSimultaneousConversionSupported()) {
+                            busSegments.add(sensor.getSensorId().getPath());
+                        }
+                    }
+                }
+            }
+        }
+        if (busSegments.isEmpty()) {
+            return Set.of();
+        }
+
+        long conversionStart = System.currentTimeMillis();
+        Set<String> convertedBusSegments = new HashSet<>();
+        for (String busSegment : busSegments) {
+            try {
+                synchronized (owserverConnection) {
+                    owserverConnection.writeDecimalType("/" + busSegment + "simultaneous/temperature",
+                            new DecimalType(1));
+                }
+                convertedBusSegments.add(busSegment);
+            } catch (OwException e) {
+                logger.debug("could not start simultaneous conversion on '/{}': {}", busSegment, e.getMessage());
+            }
+        }
+        if (!convertedBusSegments.isEmpty()) {
+            long remaining = conversionStart + CONVERSION_TIME - System.currentTimeMillis();
+            if (remaining > 0) {
+                Thread.sleep(remaining);
+            }
+            logger.trace("simultaneous conversion finished on {}", convertedBusSegments);
+        }
+        return convertedBusSegments;
+    }
+
+    /**
+     * check if the bus segment of a sensor was converted simultaneously in the current refresh cycle
+     *
+     * @param sensorId the sensor's full ID
+     * @return true if the result of the conversion can be read from the sensor
+     */
+    public boolean isSimultaneousConversionDone(SensorId sensorId) {
+        return convertedBusSegments.contains(sensorId.getPath());
+    }
+
+    /**
+     * refresh the things of a single work queue
+     *
+     * @param owHandlers the handlers of the things
+     * @param now current time
+     */
+    private void refreshThings(List<OwBaseThingHandler> owHandlers, long now) {
+        int thingCount = owHandlers.size();
+        Iterator<OwBaseThingHandler> handlerIterator = owHandlers.iterator();
+        while (handlerIterator.hasNext() && refreshable) {
+            OwBaseThingHandler owHandler = handlerIterator.next();
+            logger.trace("{} initialized, refreshing ({} to go)", owHandler.getThing().getUID(), thingCount);
+            owHandler.refresh(OwserverBridgeHandler.this, now);
+            thingCount--;
+        }
+    }
+
     @Override
     public void dispose() {
         refreshable = false;
         if (!refreshTask.isCancelled()) {
             refreshTask.cancel(false);
         }
+        for (OwserverConnection connection : connections) {
+            if (connection != owserverConnection) {
+                connection.stop();
+            }
+        }
         owserverConnection.stop();
+        workQueueConnections.clear();
+        refreshQueue.clear();
+    }
+
+    /**
+     * get the connection for a sensor
+     *
+     * All sensors behind the same hub branch share a work queue, sensors on the main bus have their own. Work queues
+     * are assigned to the connections round-robin when they are first seen.
+     *
+     * @param sensorId the sensor's full ID
+     * @return the connection
+     */
+    private OwserverConnection getConnection(SensorId sensorId) {
+        List<OwserverConnection> connections = this.connections;
+        if (connections.size() < 2) {
+            return owserverConnection;
+        }
+        String workQueue = sensorId.getPath().isEmpty() ? sensorId.getId() : sensorId.getPath();
+        return workQueueConnections.computeIfAbsent(workQueue,
+                k -> connections.get(Math.floorMod(nextConnection.getAndIncrement(), connections.size())));
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof OwBaseThingHandler) {
+            refreshQueue.schedule((OwBaseThingHandler) childHandler, 0);
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof OwBaseThingHandler) {
+            refreshQueue.remove((OwBaseThingHandler) childHandler);
+        }
+    }
+
+    /**
+     * schedules a thing for an immediate refresh
+     *
+     * @param owHandler the handler of the thing
+     */
+    public void scheduleRefresh(OwBaseThingHandler owHandler) {
+        refreshQueue.schedule(owHandler, 0);
     }
 
     /**
@@ -243,8 +469,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public State checkPresence(SensorId sensorId) throws OwException {
-        synchronized (owserverConnection) {
-            return owserverConnection.checkPresence(sensorId.getFullPath());
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            return connection.checkPresence(sensorId.getFullPath());
         }
     }
 
@@ -257,9 +484,10 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      */
     public OwSensorType getType(SensorId sensorId) throws OwException {
         OwSensorType sensorType = OwSensorType.UNKNOWN;
-        synchronized (owserverConnection) {
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
             try {
-                sensorType = OwSensorType.valueOf(owserverConnection.readString(sensorId + "/type"));
+                sensorType = OwSensorType.valueOf(connection.readString(sensorId + "/type"));
             } catch (IllegalArgumentException e) {
             }
         }
@@ -274,8 +502,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public OwPageBuffer readPages(SensorId sensorId) throws OwException {
-        synchronized (owserverConnection) {
-            return owserverConnection.readPages(sensorId.getFullPath());
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            return connection.readPages(sensorId.getFullPath());
         }
     }
 
@@ -288,8 +517,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public State readDecimalType(SensorId sensorId, OwserverDeviceParameter parameter) throws OwException {
-        synchronized (owserverConnection) {
-            return owserverConnection.readDecimalType(parameter.getPath(sensorId));
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            return connection.readDecimalType(parameter.getPath(sensorId));
         }
     }
 
@@ -314,8 +544,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public List<State> readDecimalTypeArray(SensorId sensorId, OwserverDeviceParameter parameter) throws OwException {
-        synchronized (owserverConnection) {
-            return owserverConnection.readDecimalTypeArray(parameter.getPath(sensorId));
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            return connection.readDecimalTypeArray(parameter.getPath(sensorId));
         }
     }
 
@@ -328,8 +559,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public String readString(SensorId sensorId, OwserverDeviceParameter parameter) throws OwException {
-        synchronized (owserverConnection) {
-            return owserverConnection.readString(parameter.getPath(sensorId));
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            return connection.readString(parameter.getPath(sensorId));
         }
     }
 
@@ -342,8 +574,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      */
     public void writeDecimalType(SensorId sensorId, OwserverDeviceParameter parameter, DecimalType value)
             throws OwException {
-        synchronized (owserverConnection) {
-            owserverConnection.writeDecimalType(parameter.getPath(sensorId), value);
+        OwserverConnection connection = getConnection(sensorId);
+        synchronized (connection) {
+            connection.writeDecimalType(parameter.getPath(sensorId), value);
         }
     }
 
@@ -395,6 +628,29 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * handles state changes of the additional connections of the pool (only the main connection changes the bridge
+     * status)
+     *
+     * @param connectionNo number of the connection in the pool
+     * @param connection the connection reporting the state (null if it is not created yet)
+     * @param connectionState current connection state
+     */
+    private void reportPoolConnectionState(int connectionNo, @Nullable OwserverConnection connection,
+            OwserverConnectionState connectionState) {
+        logger.debug("Updating state of owserverconnection {} to {}", connectionNo, connectionState);
+        if (connection != null && connectionState == OwserverConnectionState.FAILED) {
+            scheduler.schedule(() -> {
+                // the connection is not restarted if it has been replaced by a new initialization in the meantime
+                if (connections.contains(connection) && !refreshTask.isCancelled()) {
+                    synchronized (connection) {
+                        connection.start();
+                    }
+                }
+            }, RECONNECT_AFTER_FAIL_TIME, TimeUnit.MILLISECONDS);
+        }
+    }
+
     /**
      * refreshes channels attached to the bridge
      *
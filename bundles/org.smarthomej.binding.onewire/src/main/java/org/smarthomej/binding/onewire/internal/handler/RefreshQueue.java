@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.onewire.internal.handler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link RefreshQueue} keeps the things of a bridge ordered by the time of their next refresh
+ *
+ * Rescheduling a thing replaces its entry, outdated entries are skipped when they are polled.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+class RefreshQueue<T> {
+    private final PriorityQueue<Entry<T>> queue = new PriorityQueue<>(Comparator.comparingLong(e -> e.due));
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+
+    /**
+     * add a thing or change the time of its next refresh
+     *
+     * @param thing the thing
+     * @param due time of the next refresh
+     */
+    synchronized void schedule(T thing, long due) {
+        Entry<T> entry = new Entry<>(thing, due);
+        entries.put(thing, entry);
+        queue.add(entry);
+    }
+
+    /**
+     * change the time of the next refresh of a thing that was polled before (ignored if the thing was removed in the
+     * meantime)
+     *
+     * @param thing the thing
+     * @param due time of the next refresh
+     */
+    synchronized void reschedule(T thing, long due) {
+        if (entries.containsKey(thing)) {
+            schedule(thing, due);
+        }
+    }
+
+    /**
+     * remove a thing
+     *
+     * @param thing the thing
+     */
+    synchronized void remove(T thing) {
+        entries.remove(thing);
+    }
+
+    /**
+     * remove all things
+     */
+    synchronized void clear() {
+        entries.clear();
+        queue.clear();
+    }
+
+    /**
+     * get all things that are due, they stay known to the queue and need to be rescheduled
+     *
+     * @param now current time
+     * @return the things that are due (ordered by time)
+     */
+    synchronized List<T> pollDue(long now) {
+        List<T> dueThings = new ArrayList<>();
+        Entry<T> entry;
+        while ((entry = queue.peek()) != null && entry.due <= now) {
+            queue.poll();
+            if (entries.get(entry.thing) == entry) {
+                dueThings.add(entry.thing);
+            }
+        }
+        return dueThings;
+    }
+
+    /**
+     * get the number of things in this queue
+     *
+     * @return number of things
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry<T> {
+        private final T thing;
+        private final long due;
+
+        private Entry(T thing, long due) {
+            this.thing = thing;
+            this.due = due;
+        }
+    }
+}
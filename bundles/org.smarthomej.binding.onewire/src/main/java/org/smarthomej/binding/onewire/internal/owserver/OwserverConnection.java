@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -64,7 +65,7 @@ public class OwserverConnection {
 
     private final Logger logger = LoggerFactory.getLogger(OwserverConnection.class);
 
-    private final OwserverBridgeHandler thingHandlerCallback;
+    private final Consumer<OwserverConnectionState> thingHandlerCallback;
     private String owserverAddress = "";
     private int owserverPort = DEFAULT_PORT;
 
@@ -78,7 +79,16 @@ public class OwserverConnection {
     private int connectionErrorCounter = 0;
 
     public OwserverConnection(OwserverBridgeHandler owBaseBridgeHandler) {
-        this.thingHandlerCallback = owBaseBridgeHandler;
+        this.thingHandlerCallback = owBaseBridgeHandler::reportConnectionState;
+    }
+
+    /**
+     * create a connection that reports its state to the given callback instead of a bridge handler
+     *
+     * @param connectionStateCallback called whenever the connection state changes
+     */
+    public OwserverConnection(Consumer<OwserverConnectionState> connectionStateCallback) {
+        this.thingHandlerCallback = connectionStateCallback;
     }
 
     /**
@@ -128,7 +138,7 @@ public class OwserverConnection {
     public void stop() {
         close();
         owserverConnectionState = OwserverConnectionState.STOPPED;
-        thingHandlerCallback.reportConnectionState(owserverConnectionState);
+        thingHandlerCallback.accept(owserverConnectionState);
     }
 
     /**
@@ -342,7 +352,7 @@ public class OwserverConnection {
                 owserverOutputStream = new DataOutputStream(owserverSocket.getOutputStream());
 
                 owserverConnectionState = OwserverConnectionState.OPENED;
-                thingHandlerCallback.reportConnectionState(owserverConnectionState);
+                thingHandlerCallback.accept(owserverConnectionState);
 
                 logger.debug("OW connection state: opened to {}:{}", owserverAddress, owserverPort);
                 return true;
@@ -399,7 +409,7 @@ public class OwserverConnection {
         this.owserverOutputStream = null;
 
         if (reportConnectionState) {
-            thingHandlerCallback.reportConnectionState(owserverConnectionState);
+            thingHandlerCallback.accept(owserverConnectionState);
         }
     }
 
@@ -428,10 +438,10 @@ public class OwserverConnection {
             logger.debug("OW connection state: set to failed as max retries exceeded.");
             owserverConnectionState = OwserverConnectionState.FAILED;
             tryingConnectionRecovery = false;
-            thingHandlerCallback.reportConnectionState(owserverConnectionState);
+            thingHandlerCallback.accept(owserverConnectionState);
         } else if (!tryingConnectionRecovery) {
             // as close did not report connections state and we are not trying to recover ...
-            thingHandlerCallback.reportConnectionState(owserverConnectionState);
+            thingHandlerCallback.accept(owserverConnectionState);
         }
     }
 
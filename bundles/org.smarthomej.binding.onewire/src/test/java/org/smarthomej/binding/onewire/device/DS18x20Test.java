@@ -13,6 +13,7 @@
  */
 package org.smarthomej.binding.onewire.device;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.times;
 import static org.smarthomej.binding.onewire.internal.OwBindingConstants.*;
@@ -31,6 +32,7 @@ import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
 import org.smarthomej.binding.onewire.internal.OwException;
 import org.smarthomej.binding.onewire.internal.device.DS18x20;
+import org.smarthomej.binding.onewire.internal.owserver.OwserverDeviceParameter;
 
 /**
  * Tests cases for {@link DS18x20}.
@@ -80,4 +82,28 @@ public class DS18x20Test extends DeviceTestParent<DS18x20> {
         inOrder.verify(mockBridgeHandler, times(1)).readDecimalType(eq(testSensorId), any());
         inOrder.verify(mockThingHandler, times(0)).postUpdate(eq(CHANNEL_TEMPERATURE), any());
     }
+
+    @Test
+    public void temperatureSimultaneousConversionTest() throws OwException {
+        final DS18x20 testDevice = instantiateDevice();
+        final InOrder inOrder = Mockito.inOrder(mockThingHandler, mockBridgeHandler);
+
+        Mockito.when(mockBridgeHandler.isSimultaneousConversionDone(testSensorId)).thenReturn(true);
+        Mockito.when(mockBridgeHandler.readDecimalType(eq(testSensorId), any())).thenReturn(new DecimalType(15.0));
+
+        testDevice.enableChannel(CHANNEL_TEMPERATURE);
+        testDevice.configureChannels();
+        assertFalse(testDevice.isSimultaneousConversionSupported());
+
+        // first read sets the resolution
+        testDevice.refresh(mockBridgeHandler, true);
+        inOrder.verify(mockBridgeHandler).readDecimalType(eq(testSensorId),
+                eq(new OwserverDeviceParameter("/temperature")));
+        assertTrue(testDevice.isSimultaneousConversionSupported());
+
+        testDevice.refresh(mockBridgeHandler, true);
+        inOrder.verify(mockBridgeHandler).readDecimalType(eq(testSensorId),
+                eq(new OwserverDeviceParameter("/latesttemp")));
+        inOrder.verify(mockThingHandler).postUpdate(eq(CHANNEL_TEMPERATURE), eq(new QuantityType<>("15.0 °C")));
+    }
 }
@@ -20,8 +20,12 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.smarthomej.binding.onewire.internal.OwBindingConstants.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -59,8 +63,12 @@ public class OwserverBridgeHandlerTest extends JavaTest {
     Map<String, Object> bridgeProperties = new HashMap<>();
 
     private @Mock @NonNullByDefault({}) OwserverConnection owserverConnection;
+    private @Mock @NonNullByDefault({}) OwserverConnection poolConnection1;
+    private @Mock @NonNullByDefault({}) OwserverConnection poolConnection2;
     private @Mock @NonNullByDefault({}) ThingHandlerCallback thingHandlerCallback;
 
+    private final List<Consumer<OwserverConnectionState>> poolConnectionCallbacks = new ArrayList<>();
+
     private @Nullable OwserverBridgeHandler bridgeHandler;
     private @Nullable Bridge bridge;
 
@@ -90,6 +98,24 @@ public class OwserverBridgeHandlerTest extends JavaTest {
         this.bridgeHandler = bridgeHandler;
     }
 
+    private OwserverBridgeHandler createPoolBridgeHandler(int connections) {
+        bridgeProperties.put(CONFIG_CONNECTIONS, connections);
+        final Bridge bridge = BridgeBuilder.create(THING_TYPE_OWSERVER, "owserver").withLabel("owserver")
+                .withConfiguration(new Configuration(bridgeProperties)).build();
+        this.bridge = bridge;
+
+        Iterator<OwserverConnection> poolConnections = List.of(poolConnection1, poolConnection2).iterator();
+        final OwserverBridgeHandler bridgeHandler = new OwserverBridgeHandler(bridge, owserverConnection,
+                callback -> {
+                    poolConnectionCallbacks.add(callback);
+                    return poolConnections.next();
+                });
+        bridgeHandler.getThing().setHandler(bridgeHandler);
+        bridgeHandler.setCallback(thingHandlerCallback);
+        this.bridgeHandler = bridgeHandler;
+        return bridgeHandler;
+    }
+
     @AfterEach
     public void tearDown() {
         final OwserverBridgeHandler bridgeHandler = this.bridgeHandler;
@@ -163,4 +189,44 @@ public class OwserverBridgeHandlerTest extends JavaTest {
 
         waitForAssert(() -> assertFalse(bridgeHandler.isRefreshable()));
     }
+
+    @Test
+    public void testWorkQueuesAreAssignedToPoolConnections() throws OwException {
+        final OwserverBridgeHandler bridgeHandler = createPoolBridgeHandler(3);
+
+        bridgeHandler.initialize();
+
+        // sensors on the main bus have their own work queue, all sensors behind a hub branch share one
+        bridgeHandler.checkPresence(new SensorId("/28.000000000001"));
+        bridgeHandler.checkPresence(new SensorId("/1F.000000000010/main/28.000000000002"));
+        bridgeHandler.checkPresence(new SensorId("/28.000000000003"));
+        bridgeHandler.checkPresence(new SensorId("/1F.000000000010/main/28.000000000004"));
+        bridgeHandler.checkPresence(new SensorId("/28.000000000001"));
+
+        verify(owserverConnection, times(2)).checkPresence("/28.000000000001");
+        verify(poolConnection1).checkPresence("/1F.000000000010/main/28.000000000002");
+        verify(poolConnection1).checkPresence("/1F.000000000010/main/28.000000000004");
+        verify(poolConnection2).checkPresence("/28.000000000003");
+        verify(owserverConnection, never()).checkPresence(startsWith("/1F."));
+    }
+
+    @Test
+    public void testFailedPoolConnectionIsRestarted() {
+        final OwserverBridgeHandler bridgeHandler = createPoolBridgeHandler(2);
+
+        Mockito.doAnswer(answer -> {
+            poolConnectionCallbacks.get(0).accept(OwserverConnectionState.FAILED);
+            return null;
+        }).doNothing().when(poolConnection1).start();
+
+        bridgeHandler.initialize();
+
+        assertEquals(1, poolConnectionCallbacks.size());
+        verify(poolConnection1, timeout(10000).times(2)).start();
+        verify(owserverConnection).start();
+
+        // only the main connection changes the bridge status
+        verify(thingHandlerCallback, never()).statusUpdated(eq(bridge),
+                argThat(statusInfo -> statusInfo.getStatus() == ThingStatus.OFFLINE));
+    }
 }
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.onewire.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link RefreshQueue}.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshQueueTest {
+    private final RefreshQueue<String> refreshQueue = new RefreshQueue<>();
+
+    @Test
+    public void dueThingsAreReturnedInOrder() {
+        refreshQueue.schedule("a", 300);
+        refreshQueue.schedule("b", 100);
+        refreshQueue.schedule("c", 200);
+
+        assertEquals(List.of(), refreshQueue.pollDue(50));
+        assertEquals(List.of("b", "c"), refreshQueue.pollDue(200));
+        assertEquals(List.of("a"), refreshQueue.pollDue(1000));
+        assertEquals(3, refreshQueue.size());
+    }
+
+    @Test
+    public void rescheduleReplacesEntry() {
+        refreshQueue.schedule("a", 100);
+        refreshQueue.schedule("a", 500);
+
+        assertEquals(List.of(), refreshQueue.pollDue(200));
+        assertEquals(List.of("a"), refreshQueue.pollDue(500));
+
+        refreshQueue.reschedule("a", 600);
+        assertEquals(List.of("a"), refreshQueue.pollDue(600));
+    }
+
+    @Test
+    public void removedThingsAreNotRescheduled() {
+        refreshQueue.schedule("a", 100);
+        assertEquals(List.of("a"), refreshQueue.pollDue(100));
+
+        refreshQueue.remove("a");
+        refreshQueue.reschedule("a", 200);
+
+        assertEquals(List.of(), refreshQueue.pollDue(1000));
+        assertEquals(0, refreshQueue.size());
+    }
+}
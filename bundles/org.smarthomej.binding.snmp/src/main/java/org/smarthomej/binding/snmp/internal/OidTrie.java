@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.snmp.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.snmp4j.smi.OID;
+
+/**
+ * The {@link OidTrie} maps OIDs to values, lookups only depend on the length of the OID and not on the number of
+ * values
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+class OidTrie<T> {
+    private final Node<T> root = new Node<>();
+
+    /**
+     * create a trie from a collection of values
+     *
+     * @param values the values
+     * @param oidFunction function to get the OID of a value
+     * @return the trie
+     */
+    static <T> OidTrie<T> of(Collection<T> values, Function<T, OID> oidFunction) {
+        OidTrie<T> trie = new OidTrie<>();
+        values.forEach(value -> trie.put(oidFunction.apply(value), value));
+        return trie;
+    }
+
+    /**
+     * add a value
+     *
+     * @param oid the OID of the value
+     * @param value the value
+     */
+    void put(OID oid, T value) {
+        Node<T> node = root;
+        for (int i = 0; i < oid.size(); i++) {
+            node = node.children.computeIfAbsent(oid.get(i), k -> new Node<>());
+        }
+        node.values.add(value);
+    }
+
+    /**
+     * get all values for an OID
+     *
+     * @param oid the OID
+     * @return list of values (empty if no value was added for this OID)
+     */
+    List<T> get(OID oid) {
+        @Nullable
+        Node<T> node = root;
+        for (int i = 0; i < oid.size() && node != null; i++) {
+            node = node.children.get(oid.get(i));
+        }
+        return node != null ? node.values : List.of();
+    }
+
+    /**
+     * get the values of the longest OID that is a prefix of (and not equal to) the given OID
+     *
+     * @param oid the OID
+     * @return list of values (empty if no value was added for any prefix of this OID)
+     */
+    List<T> getPrefix(OID oid) {
+        List<T> values = List.of();
+        @Nullable
+        Node<T> node = root;
+        for (int i = 0; i < oid.size() - 1; i++) {
+            node = node.children.get(oid.get(i));
+            if (node == null) {
+                break;
+            }
+            if (!node.values.isEmpty()) {
+                values = node.values;
+            }
+        }
+        return values;
+    }
+
+    private static class Node<T> {
+        private final Map<Integer, Node<T>> children = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+    }
+}
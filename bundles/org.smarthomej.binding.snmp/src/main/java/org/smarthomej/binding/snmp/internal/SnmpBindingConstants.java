@@ -35,4 +35,7 @@ public class SnmpBindingConstants {
     public static final ChannelTypeUID CHANNEL_TYPE_UID_NUMBER = new ChannelTypeUID(BINDING_ID, "number");
     public static final ChannelTypeUID CHANNEL_TYPE_UID_STRING = new ChannelTypeUID(BINDING_ID, "string");
     public static final ChannelTypeUID CHANNEL_TYPE_UID_SWITCH = new ChannelTypeUID(BINDING_ID, "switch");
+
+    // channel property of table row channels, contains the id of the table channel
+    public static final String PROPERTY_TABLE_CHANNEL = "tableChannel";
 }
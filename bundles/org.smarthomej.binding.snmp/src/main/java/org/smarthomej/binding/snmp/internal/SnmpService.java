@@ -34,10 +34,25 @@ import org.snmp4j.event.ResponseListener;
 @NonNullByDefault
 public interface SnmpService {
 
-    void addCommandResponder(CommandResponder listener);
+    /**
+     * add a listener for traps received from an address (replaces a previous registration of this listener)
+     *
+     * @param address the host address of the target
+     * @param listener the listener
+     */
+    void addCommandResponder(String address, CommandResponder listener);
 
     void removeCommandResponder(CommandResponder listener);
 
+    /**
+     * send a PDU to a target
+     *
+     * @param pdu the PDU
+     * @param target the target
+     * @param userHandle an object that is passed to the listener with the response
+     * @param listener the listener for the response
+     * @throws IOException if the PDU could not be sent (the listener will not be called in that case)
+     */
     void send(PDU pdu, Target target, @Nullable Object userHandle, ResponseListener listener) throws IOException;
 
     void addUser(String userName, SnmpAuthProtocol snmpAuthProtocol, @Nullable String authPassphrase,
@@ -14,11 +14,12 @@
 package org.smarthomej.binding.snmp.internal;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,7 +34,9 @@ import org.smarthomej.binding.snmp.internal.config.SnmpServiceConfiguration;
 import org.smarthomej.binding.snmp.internal.types.SnmpAuthProtocol;
 import org.smarthomej.binding.snmp.internal.types.SnmpPrivProtocol;
 import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
 import org.snmp4j.PDU;
+import org.snmp4j.PDUv1;
 import org.snmp4j.Snmp;
 import org.snmp4j.Target;
 import org.snmp4j.event.ResponseListener;
@@ -43,6 +46,8 @@ import org.snmp4j.security.SecurityModels;
 import org.snmp4j.security.SecurityProtocols;
 import org.snmp4j.security.USM;
 import org.snmp4j.security.UsmUser;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.IpAddress;
 import org.snmp4j.smi.OctetString;
 import org.snmp4j.smi.UdpAddress;
 import org.snmp4j.transport.DefaultUdpTransportMapping;
@@ -56,7 +61,7 @@ import org.snmp4j.transport.DefaultUdpTransportMapping;
 
 @NonNullByDefault
 @Component(configurationPid = "binding.snmp", service = SnmpService.class)
-public class SnmpServiceImpl implements SnmpService {
+public class SnmpServiceImpl implements SnmpService, CommandResponder {
     private final Logger logger = LoggerFactory.getLogger(SnmpServiceImpl.class);
 
     private final OctetString localEngineId;
@@ -65,7 +70,9 @@ public class SnmpServiceImpl implements SnmpService {
     private @Nullable Snmp snmp;
     private @Nullable DefaultUdpTransportMapping transport;
 
-    private final List<CommandResponder> listeners = new ArrayList<>();
+    // trap listeners by host address of their target
+    private final Map<String, List<CommandResponder>> listeners = new ConcurrentHashMap<>();
+    private final Map<CommandResponder, String> listenerAddresses = new ConcurrentHashMap<>();
     private final Set<UserEntry> userEntries = new HashSet<>();
 
     @Activate
@@ -95,7 +102,7 @@ public class SnmpServiceImpl implements SnmpService {
             }
 
             final Snmp snmp = new Snmp(transport);
-            listeners.forEach(listener -> snmp.addCommandResponder(listener));
+            snmp.addCommandResponder(this);
             snmp.listen();
 
             // re-add user entries
@@ -134,21 +141,60 @@ public class SnmpServiceImpl implements SnmpService {
     }
 
     @Override
-    public void addCommandResponder(CommandResponder listener) {
-        Snmp snmp = this.snmp;
-        if (snmp != null) {
-            snmp.addCommandResponder(listener);
+    public synchronized void addCommandResponder(String address, CommandResponder listener) {
+        removeCommandResponder(listener);
+        listeners.computeIfAbsent(address, k -> new CopyOnWriteArrayList<>()).add(listener);
+        listenerAddresses.put(listener, address);
+    }
+
+    @Override
+    public synchronized void removeCommandResponder(CommandResponder listener) {
+        String address = listenerAddresses.remove(listener);
+        if (address != null) {
+            List<CommandResponder> addressListeners = listeners.get(address);
+            if (addressListeners != null) {
+                addressListeners.remove(listener);
+                if (addressListeners.isEmpty()) {
+                    listeners.remove(address);
+                }
+            }
         }
-        listeners.add(listener);
     }
 
     @Override
-    public void removeCommandResponder(CommandResponder listener) {
-        Snmp snmp = this.snmp;
-        if (snmp != null) {
-            snmp.removeCommandResponder(listener);
+    public void processPdu(@Nullable CommandResponderEvent event) {
+        if (event == null) {
+            return;
+        }
+        String address = getHostAddress(event.getPeerAddress());
+        if (address != null) {
+            processPdu(address, event);
+        }
+        PDU pdu = event.getPDU();
+        if (pdu instanceof PDUv1) {
+            // the agent address of v1 traps can differ from the sender (e.g. if the trap was forwarded)
+            String agentAddress = ((PDUv1) pdu).getAgentAddress().getInetAddress().getHostAddress();
+            if (!agentAddress.equals(address)) {
+                processPdu(agentAddress, event);
+            }
+        }
+    }
+
+    private void processPdu(String address, CommandResponderEvent event) {
+        List<CommandResponder> addressListeners = listeners.get(address);
+        if (addressListeners != null) {
+            addressListeners.forEach(listener -> listener.processPdu(event));
+        } else {
+            logger.trace("no listener for PDU from {}", address);
+        }
+    }
+
+    private static @Nullable String getHostAddress(@Nullable Address address) {
+        // also covers UdpAddress and TcpAddress
+        if (address instanceof IpAddress) {
+            return ((IpAddress) address).getInetAddress().getHostAddress();
         }
-        listeners.remove(listener);
+        return null;
     }
 
     @Override
@@ -159,7 +205,7 @@ public class SnmpServiceImpl implements SnmpService {
             snmp.send(pdu, target, userHandle, listener);
             logger.trace("send {} to {}", pdu, target);
         } else {
-            logger.warn("SNMP service not initialized, can't send {} to {}", pdu, target);
+            throw new IOException("SNMP service not initialized");
         }
     }
 
@@ -18,7 +18,14 @@ import static org.smarthomej.binding.snmp.internal.SnmpBindingConstants.*;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
@@ -31,6 +38,7 @@ import javax.measure.Unit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -41,6 +49,8 @@ import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.thing.util.ThingHandlerHelper;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
@@ -104,6 +114,18 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> readChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> writeChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> trapChannelSet;
+    private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> tableChannelSet;
+    private @NonNullByDefault({}) OidTrie<SnmpInternalChannelConfiguration> readChannelsByOid;
+    private @NonNullByDefault({}) OidTrie<SnmpInternalChannelConfiguration> trapChannelsByOid;
+    private @NonNullByDefault({}) OidTrie<SnmpInternalChannelConfiguration> tableChannelsByOid;
+
+    // requests of the current refresh cycle, sent with at most config.maxRequests in flight
+    private final Deque<Request> pendingRequests = new ArrayDeque<>();
+    // requests that were sent and the time they were sent at
+    private final Map<PDU, Long> requestsInFlight = new IdentityHashMap<>();
+    // reduced if the target responds with tooBig
+    private int maxVarbinds;
+    private int maxRepetitions;
 
     public SnmpTargetHandler(Thing thing, SnmpService snmpService) {
         super(thing);
@@ -119,12 +141,14 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
 
         try {
             if (command instanceof RefreshType) {
-                SnmpInternalChannelConfiguration channel = readChannelSet.stream()
-                        .filter(c -> channelUID.equals(c.channelUID)).findFirst()
-                        .orElseThrow(() -> new IllegalArgumentException("no readable channel found"));
+                OID oid = readChannelSet.stream().filter(c -> channelUID.equals(c.channelUID)).map(c -> c.oid)
+                        .findFirst().orElseGet(() -> getTableRowOid(channelUID));
+                if (oid == null) {
+                    throw new IllegalArgumentException("no readable channel found");
+                }
                 PDU pdu = getPDU();
                 pdu.setType(PDU.GET);
-                pdu.add(new VariableBinding(channel.oid));
+                pdu.add(new VariableBinding(oid));
                 snmpService.send(pdu, target, null, this);
             } else if (command instanceof DecimalType || command instanceof QuantityType
                     || command instanceof StringType || command instanceof OnOffType) {
@@ -170,8 +194,11 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     @Override
     public void initialize() {
         config = getConfigAs(SnmpTargetConfiguration.class);
+        maxVarbinds = Math.max(1, config.maxVarbinds);
+        maxRepetitions = Math.max(1, config.maxRepetitions);
 
         generateChannelConfigs();
+        removeOrphanedTableRowChannels();
 
         if (thing.getThingTypeUID().equals(THING_TYPE_TARGET3)) {
             // override default for target3 things
@@ -223,8 +250,6 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
 
-            snmpService.addCommandResponder(this);
-
             target.setRetries(config.retries);
             target.setTimeout(config.timeout);
             target.setVersion(config.protocol.toInteger());
@@ -248,6 +273,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         if (r != null && !r.isCancelled()) {
             r.cancel(true);
         }
+        clearRequests();
         snmpService.removeCommandResponder(this);
     }
 
@@ -265,6 +291,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             ((Snmp) event.getSource()).cancel(event.getRequest(), this);
         }
 
+        PDU request = event.getRequest();
         PDU response = event.getResponse();
         if (response == null) {
             Exception e = event.getError();
@@ -273,10 +300,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 if (timeoutCounter > config.retries) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "request timed out");
                     target.setAddress(null);
+                    clearRequests();
+                    return;
                 }
-                return;
+            } else {
+                logger.warn("{} requested {} and got error: {}", thing.getUID(), request, e.getMessage());
             }
-            logger.warn("{} requested {} and got error: {}", thing.getUID(), event.getRequest(), e.getMessage());
+            requestFinished(request);
             return;
         }
         timeoutCounter = 0;
@@ -285,11 +315,31 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
         logger.trace("{} received {}", thing.getUID(), response);
 
-        response.getVariableBindings().forEach(variable -> {
-            if (variable != null) {
-                updateChannels(variable.getOid(), variable.getVariable(), readChannelSet);
-            }
-        });
+        Object userObject = event.getUserObject();
+        if (response.getErrorStatus() == PDU.tooBig && request != null && splitRequest(request, userObject)) {
+            requestFinished(request);
+            return;
+        }
+
+        if (userObject instanceof SnmpInternalChannelConfiguration) {
+            processTableResponse((SnmpInternalChannelConfiguration) userObject, response);
+        } else {
+            response.getVariableBindings().forEach(variable -> {
+                if (variable != null) {
+                    OID oid = variable.getOid();
+                    SnmpInternalChannelConfiguration tableChannelConfig = getTableChannelConfig(oid);
+                    if (tableChannelConfig != null && readChannelsByOid.get(oid).isEmpty()) {
+                        ChannelUID rowChannelUID = getTableRowChannelUID(tableChannelConfig, oid);
+                        if (thing.getChannel(rowChannelUID) != null) {
+                            updateChannel(tableChannelConfig, rowChannelUID, oid, variable.getVariable());
+                        }
+                    } else {
+                        updateChannels(oid, variable.getVariable(), readChannelsByOid);
+                    }
+                }
+            });
+        }
+        requestFinished(request);
     }
 
     @Override
@@ -311,13 +361,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             if (trapValue == PDUv1.ENTERPRISE_SPECIFIC) {
                 trapValue = pduv1.getSpecificTrap();
             }
-            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelSet);
+            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelsByOid);
         }
         if ((pdu.getType() == PDU.TRAP || pdu.getType() == PDU.V1TRAP) && config.community.equals(community)
                 && targetAddressString.equals(address)) {
             pdu.getVariableBindings().forEach(variable -> {
                 if (variable != null) {
-                    updateChannels(variable.getOid(), variable.getVariable(), trapChannelSet);
+                    updateChannels(variable.getOid(), variable.getVariable(), trapChannelsByOid);
                 }
             });
         }
@@ -396,9 +446,11 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     }
 
     private void generateChannelConfigs() {
-        Set<SnmpInternalChannelConfiguration> channelConfigs = Collections
-                .unmodifiableSet(thing.getChannels().stream().map(channel -> getChannelConfigFromChannel(channel))
-                        .filter(Objects::nonNull).collect(Collectors.toSet()));
+        // table row channels are updated from their table channel
+        Set<SnmpInternalChannelConfiguration> channelConfigs = Collections.unmodifiableSet(thing.getChannels()
+                .stream().filter(channel -> !channel.getProperties().containsKey(PROPERTY_TABLE_CHANNEL))
+                .map(channel -> getChannelConfigFromChannel(channel)).filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
         this.readChannelSet = channelConfigs.stream()
                 .filter(c -> c.mode == SnmpChannelMode.READ || c.mode == SnmpChannelMode.READ_WRITE)
                 .collect(Collectors.toSet());
@@ -407,89 +459,191 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 .collect(Collectors.toSet());
         this.trapChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TRAP)
                 .collect(Collectors.toSet());
+        this.tableChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TABLE)
+                .collect(Collectors.toSet());
+        this.readChannelsByOid = OidTrie.of(readChannelSet, c -> c.oid);
+        this.trapChannelsByOid = OidTrie.of(trapChannelSet, c -> c.oid);
+        this.tableChannelsByOid = OidTrie.of(tableChannelSet, c -> c.oid);
+    }
+
+    private void removeOrphanedTableRowChannels() {
+        Set<String> tableChannelIds = tableChannelSet.stream().map(c -> c.channelUID.getId())
+                .collect(Collectors.toSet());
+        List<Channel> orphanedChannels = thing.getChannels().stream().filter(channel -> {
+            String tableChannelId = channel.getProperties().get(PROPERTY_TABLE_CHANNEL);
+            return tableChannelId != null && !tableChannelIds.contains(tableChannelId);
+        }).collect(Collectors.toList());
+        if (!orphanedChannels.isEmpty()) {
+            updateThing(editThing().withoutChannels(orphanedChannels).build());
+        }
+    }
+
+    private @Nullable SnmpInternalChannelConfiguration getTableChannelConfig(OID oid) {
+        return tableChannelsByOid.getPrefix(oid).stream().findFirst().orElse(null);
+    }
+
+    private ChannelUID getTableRowChannelUID(SnmpInternalChannelConfiguration tableChannelConfig, OID oid) {
+        return new ChannelUID(thing.getUID(), tableChannelConfig.channelUID.getId() + "_"
+                + getTableRowIndex(tableChannelConfig, oid).toDottedString().replace('.', '_'));
+    }
+
+    private OID getTableRowIndex(SnmpInternalChannelConfiguration tableChannelConfig, OID oid) {
+        int columnLength = tableChannelConfig.oid.size();
+        return new OID(oid.getValue(), columnLength, oid.size() - columnLength);
+    }
+
+    private @Nullable OID getTableRowOid(ChannelUID channelUID) {
+        Channel channel = thing.getChannel(channelUID);
+        if (channel == null || !channel.getProperties().containsKey(PROPERTY_TABLE_CHANNEL)) {
+            return null;
+        }
+        Object oid = channel.getConfiguration().get("oid");
+        return oid != null ? new OID(oid.toString()) : null;
     }
 
-    private void updateChannels(OID oid, Variable value, Set<SnmpInternalChannelConfiguration> channelConfigs) {
-        Set<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigs.stream()
-                .filter(c -> c.oid.equals(oid)).collect(Collectors.toSet());
+    private void processTableResponse(SnmpInternalChannelConfiguration tableChannelConfig, PDU response) {
+        if (response.getErrorStatus() != PDU.noError) {
+            // SNMPv1 agents report the end of the MIB view as noSuchName
+            logger.debug("{} finished walking table {}: {}", thing.getUID(), tableChannelConfig.oid,
+                    response.getErrorStatusText());
+            return;
+        }
+        Map<OID, Variable> rows = new LinkedHashMap<>();
+        OID lastOid = null;
+        boolean complete = response.getVariableBindings().isEmpty();
+        for (VariableBinding variable : response.getVariableBindings()) {
+            OID oid = variable.getOid();
+            if (variable.isException() || oid.size() <= tableChannelConfig.oid.size()
+                    || !oid.startsWith(tableChannelConfig.oid)) {
+                // endOfMibView or first OID after the table column
+                complete = true;
+                break;
+            }
+            rows.put(oid, variable.getVariable());
+            lastOid = oid;
+        }
+
+        addTableRowChannels(tableChannelConfig, rows.keySet());
+        rows.forEach((oid, value) -> updateChannel(tableChannelConfig,
+                getTableRowChannelUID(tableChannelConfig, oid), oid, value));
+
+        if (!complete && lastOid != null) {
+            addRequest(getTableWalkPDU(lastOid), tableChannelConfig);
+        }
+    }
+
+    private synchronized void addTableRowChannels(SnmpInternalChannelConfiguration tableChannelConfig,
+            Set<OID> rowOids) {
+        Channel tableChannel = thing.getChannel(tableChannelConfig.channelUID);
+        if (tableChannel == null) {
+            return;
+        }
+        String tableLabel = Objects.requireNonNullElse(tableChannel.getLabel(), tableChannel.getUID().getId());
+        ThingBuilder thingBuilder = null;
+        for (OID oid : rowOids) {
+            ChannelUID rowChannelUID = getTableRowChannelUID(tableChannelConfig, oid);
+            if (thing.getChannel(rowChannelUID) != null) {
+                continue;
+            }
+            if (thingBuilder == null) {
+                thingBuilder = editThing();
+            }
+            String index = getTableRowIndex(tableChannelConfig, oid).toDottedString();
+            Configuration configuration = new Configuration(tableChannel.getConfiguration().getProperties());
+            configuration.put("oid", oid.toDottedString());
+            thingBuilder.withChannel(ChannelBuilder.create(rowChannelUID, tableChannel.getAcceptedItemType())
+                    .withType(tableChannel.getChannelTypeUID()).withLabel(tableLabel + " " + index)
+                    .withConfiguration(configuration)
+                    .withProperties(Map.of(PROPERTY_TABLE_CHANNEL, tableChannelConfig.channelUID.getId())).build());
+        }
+        if (thingBuilder != null) {
+            updateThing(thingBuilder.build());
+        }
+    }
+
+    private void updateChannels(OID oid, Variable value, OidTrie<SnmpInternalChannelConfiguration> channelConfigs) {
+        List<SnmpInternalChannelConfiguration> updateChannelConfigs = channelConfigs.get(oid);
         if (!updateChannelConfigs.isEmpty()) {
-            updateChannelConfigs.forEach(channelConfig -> {
-                ChannelUID channelUID = channelConfig.channelUID;
-                final Channel channel = thing.getChannel(channelUID);
-                State state;
-                if (channel == null) {
-                    logger.warn("channel uid {} in channel config set but channel not found", channelUID);
-                    return;
-                }
-                if (value.isException()) {
-                    if (!channelConfig.doNotLogException) {
-                        logger.info("SNMP Exception: request {} returned '{}'", oid, value);
-                    }
-                    state = channelConfig.exceptionValue;
-                } else if (CHANNEL_TYPE_UID_NUMBER.equals(channel.getChannelTypeUID())) {
-                    try {
-                        if (channelConfig.datatype == SnmpDatatype.FLOAT) {
-                            if (value instanceof Opaque) {
-                                Opaque o = (Opaque) value;
-                                byte[] octets = o.toByteArray();
-                                if (octets.length < 3) {
-                                    // two bytes identifier and one byte length should always be present
-                                    throw new UnsupportedOperationException("Not enough octets");
-                                }
-                                if (octets.length != (3 + octets[2])) {
-                                    // octet 3 contains the lengths of the value
-                                    throw new UnsupportedOperationException("Not enough octets");
-                                }
-                                if (octets[0] == (byte) 0x9f && octets[1] == 0x78 && octets[2] == 0x04) {
-                                    // floating point value
-                                    Unit<?> channelUnit = channelConfig.unit;
-                                    float floatValue = Float.intBitsToFloat(
-                                            octets[3] << 24 | octets[4] << 16 | octets[5] << 8 | octets[6]);
-                                    state = channelUnit == null ? new DecimalType(floatValue)
-                                            : new QuantityType<>(floatValue, channelUnit);
-
-                                } else {
-                                    throw new UnsupportedOperationException("Unknown opaque datatype" + value);
-                                }
-                            } else {
-                                Unit<?> channelUnit = channelConfig.unit;
-                                state = channelUnit == null ? new DecimalType(value.toString())
-                                        : new QuantityType<>(value + channelUnit.getSymbol());
-                            }
-                        } else {
+            updateChannelConfigs
+                    .forEach(channelConfig -> updateChannel(channelConfig, channelConfig.channelUID, oid, value));
+        } else {
+            logger.debug("received value {} for unknown OID {}, skipping", value, oid);
+        }
+    }
+
+    private void updateChannel(SnmpInternalChannelConfiguration channelConfig, ChannelUID channelUID, OID oid,
+            Variable value) {
+        final Channel channel = thing.getChannel(channelUID);
+        State state;
+        if (channel == null) {
+            logger.warn("channel uid {} in channel config set but channel not found", channelUID);
+            return;
+        }
+        if (value.isException()) {
+            if (!channelConfig.doNotLogException) {
+                logger.info("SNMP Exception: request {} returned '{}'", oid, value);
+            }
+            state = channelConfig.exceptionValue;
+        } else if (CHANNEL_TYPE_UID_NUMBER.equals(channel.getChannelTypeUID())) {
+            try {
+                if (channelConfig.datatype == SnmpDatatype.FLOAT) {
+                    if (value instanceof Opaque) {
+                        Opaque o = (Opaque) value;
+                        byte[] octets = o.toByteArray();
+                        if (octets.length < 3) {
+                            // two bytes identifier and one byte length should always be present
+                            throw new UnsupportedOperationException("Not enough octets");
+                        }
+                        if (octets.length != (3 + octets[2])) {
+                            // octet 3 contains the lengths of the value
+                            throw new UnsupportedOperationException("Not enough octets");
+                        }
+                        if (octets[0] == (byte) 0x9f && octets[1] == 0x78 && octets[2] == 0x04) {
+                            // floating point value
                             Unit<?> channelUnit = channelConfig.unit;
-                            state = channelUnit == null ? new DecimalType(value.toLong())
-                                    : new QuantityType<>(value.toLong(), channelUnit);
+                            float floatValue = Float.intBitsToFloat(
+                                    octets[3] << 24 | octets[4] << 16 | octets[5] << 8 | octets[6]);
+                            state = channelUnit == null ? new DecimalType(floatValue)
+                                    : new QuantityType<>(floatValue, channelUnit);
+
+                        } else {
+                            throw new UnsupportedOperationException("Unknown opaque datatype" + value);
                         }
-                    } catch (UnsupportedOperationException e) {
-                        logger.warn("could not convert {} to number for channel {}", value, channelUID);
-                        return;
-                    }
-                } else if (CHANNEL_TYPE_UID_STRING.equals(channel.getChannelTypeUID())) {
-                    if (channelConfig.datatype == SnmpDatatype.HEXSTRING) {
-                        String rawString = ((OctetString) value).toHexString(' ');
-                        state = new StringType(rawString.toLowerCase());
-                    } else {
-                        state = new StringType(value.toString());
-                    }
-                } else if (CHANNEL_TYPE_UID_SWITCH.equals(channel.getChannelTypeUID())) {
-                    if (value.equals(channelConfig.onValue)) {
-                        state = OnOffType.ON;
-                    } else if (value.equals(channelConfig.offValue)) {
-                        state = OnOffType.OFF;
                     } else {
-                        logger.debug("channel {} received unmapped value {} ", channelUID, value);
-                        return;
+                        Unit<?> channelUnit = channelConfig.unit;
+                        state = channelUnit == null ? new DecimalType(value.toString())
+                                : new QuantityType<>(value + channelUnit.getSymbol());
                     }
                 } else {
-                    logger.warn("channel {} has unknown ChannelTypeUID", channelUID);
-                    return;
+                    Unit<?> channelUnit = channelConfig.unit;
+                    state = channelUnit == null ? new DecimalType(value.toLong())
+                            : new QuantityType<>(value.toLong(), channelUnit);
                 }
-                updateState(channelUID, state);
-            });
+            } catch (UnsupportedOperationException e) {
+                logger.warn("could not convert {} to number for channel {}", value, channelUID);
+                return;
+            }
+        } else if (CHANNEL_TYPE_UID_STRING.equals(channel.getChannelTypeUID())) {
+            if (channelConfig.datatype == SnmpDatatype.HEXSTRING) {
+                String rawString = ((OctetString) value).toHexString(' ');
+                state = new StringType(rawString.toLowerCase());
+            } else {
+                state = new StringType(value.toString());
+            }
+        } else if (CHANNEL_TYPE_UID_SWITCH.equals(channel.getChannelTypeUID())) {
+            if (value.equals(channelConfig.onValue)) {
+                state = OnOffType.ON;
+            } else if (value.equals(channelConfig.offValue)) {
+                state = OnOffType.OFF;
+            } else {
+                logger.debug("channel {} received unmapped value {} ", channelUID, value);
+                return;
+            }
         } else {
-            logger.debug("received value {} for unknown OID {}, skipping", value, oid);
+            logger.warn("channel {} has unknown ChannelTypeUID", channelUID);
+            return;
         }
+        updateState(channelUID, state);
     }
 
     private Variable convertDatatype(Command command, SnmpDatatype datatype) {
@@ -547,6 +701,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         try {
             target.setAddress(new UdpAddress(InetAddress.getByName(config.hostname), config.port));
             targetAddressString = ((UdpAddress) target.getAddress()).getInetAddress().getHostAddress();
+            snmpService.addCommandResponder(targetAddressString, this);
             return true;
         } catch (UnknownHostException e) {
             target.setAddress(null);
@@ -556,20 +711,147 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     }
 
     private void refresh() {
+        boolean busy = false;
         if (target.getAddress() == null) {
             if (!renewTargetAddress()) {
                 logger.info("failed to renew target address, waiting for next refresh cycle");
                 return;
             }
         }
+        synchronized (pendingRequests) {
+            expireRequests();
+            if (!pendingRequests.isEmpty() || !requestsInFlight.isEmpty()) {
+                logger.debug("{} skips refresh, previous refresh still in progress", thing.getUID());
+                busy = true;
+            }
+        }
+        if (busy) {
+            // continue sending if expired requests freed up slots
+            sendRequests();
+            return;
+        }
+        getGetPDUs(readChannelSet.stream().map(c -> new VariableBinding(c.oid)).collect(Collectors.toList()))
+                .forEach(pdu -> addRequest(pdu, null));
+        tableChannelSet.forEach(c -> addRequest(getTableWalkPDU(c.oid), c));
+        sendRequests();
+    }
+
+    /**
+     * split variable bindings into GET PDUs that contain at most maxVarbinds variable bindings
+     *
+     * @param variables the variable bindings
+     * @return list of PDUs
+     */
+    private List<PDU> getGetPDUs(List<? extends VariableBinding> variables) {
+        List<PDU> pdus = new ArrayList<>();
+        for (int i = 0; i < variables.size(); i += maxVarbinds) {
+            PDU pdu = getPDU();
+            pdu.setType(PDU.GET);
+            variables.subList(i, Math.min(i + maxVarbinds, variables.size()))
+                    .forEach(v -> pdu.add(new VariableBinding(v.getOid())));
+            pdus.add(pdu);
+        }
+        return pdus;
+    }
+
+    /**
+     * get a PDU that requests the next OIDs of a table walk (GETNEXT for SNMPv1, GETBULK otherwise)
+     *
+     * @param oid the last OID that was received (or the table column OID)
+     * @return the PDU
+     */
+    private PDU getTableWalkPDU(OID oid) {
         PDU pdu = getPDU();
-        pdu.setType(PDU.GET);
-        readChannelSet.stream().map(c -> new VariableBinding(c.oid)).forEach(pdu::add);
-        if (!pdu.getVariableBindings().isEmpty()) {
+        if (config.protocol.toInteger() == SnmpConstants.version1) {
+            pdu.setType(PDU.GETNEXT);
+        } else {
+            pdu.setType(PDU.GETBULK);
+            pdu.setNonRepeaters(0);
+            pdu.setMaxRepetitions(maxRepetitions);
+        }
+        pdu.add(new VariableBinding(oid));
+        return pdu;
+    }
+
+    /**
+     * split a request that was answered with tooBig and queue the resulting smaller requests
+     *
+     * @param request the original request
+     * @param userObject the user object of the original request
+     * @return true if the request could be split, false otherwise
+     */
+    private boolean splitRequest(PDU request, @Nullable Object userObject) {
+        if (request.getType() == PDU.GETBULK) {
+            if (request.getMaxRepetitions() <= 1) {
+                return false;
+            }
+            maxRepetitions = Math.min(maxRepetitions, request.getMaxRepetitions() / 2);
+            logger.debug("{} reduced max-repetitions to {} after tooBig response", thing.getUID(), maxRepetitions);
+            addRequest(getTableWalkPDU(request.get(0).getOid()), userObject);
+            return true;
+        } else if (request.getType() == PDU.GET && request.size() > 1) {
+            maxVarbinds = Math.min(maxVarbinds, (request.size() + 1) / 2);
+            logger.debug("{} reduced max-varbinds to {} after tooBig response", thing.getUID(), maxVarbinds);
+            getGetPDUs(request.getVariableBindings()).forEach(pdu -> addRequest(pdu, userObject));
+            return true;
+        }
+        return false;
+    }
+
+    private void addRequest(PDU pdu, @Nullable Object userObject) {
+        synchronized (pendingRequests) {
+            pendingRequests.add(new Request(pdu, userObject));
+        }
+    }
+
+    private void requestFinished(@Nullable PDU request) {
+        synchronized (pendingRequests) {
+            requestsInFlight.remove(request);
+        }
+        sendRequests();
+    }
+
+    /**
+     * remove requests that did not finish although all retries timed out (e.g. because the response listener was
+     * never called), must be called while holding the lock on pendingRequests
+     */
+    private void expireRequests() {
+        long expired = System.currentTimeMillis() - (long) config.timeout * (config.retries + 1);
+        if (requestsInFlight.values().removeIf(sent -> sent < expired)) {
+            logger.debug("{} removed expired requests", thing.getUID());
+        }
+    }
+
+    private void clearRequests() {
+        synchronized (pendingRequests) {
+            pendingRequests.clear();
+            requestsInFlight.clear();
+        }
+    }
+
+    /**
+     * send pending requests until the maximum number of requests in flight is reached
+     */
+    private void sendRequests() {
+        while (true) {
+            Request request;
+            synchronized (pendingRequests) {
+                if (requestsInFlight.size() >= Math.max(1, config.maxRequests)) {
+                    return;
+                }
+                request = pendingRequests.poll();
+                if (request == null) {
+                    return;
+                }
+                requestsInFlight.put(request.pdu, System.currentTimeMillis());
+            }
             try {
-                snmpService.send(pdu, target, null, this);
+                snmpService.send(request.pdu, target, request.userObject, this);
             } catch (IOException e) {
                 logger.info("Could not send PDU", e);
+                synchronized (pendingRequests) {
+                    requestsInFlight.remove(request.pdu);
+                }
             }
         }
     }
@@ -581,4 +863,14 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             return new PDU();
         }
     }
+
+    private static class Request {
+        public final PDU pdu;
+        public final @Nullable Object userObject;
+
+        public Request(PDU pdu, @Nullable Object userObject) {
+            this.pdu = pdu;
+            this.userObject = userObject;
+        }
+    }
 }
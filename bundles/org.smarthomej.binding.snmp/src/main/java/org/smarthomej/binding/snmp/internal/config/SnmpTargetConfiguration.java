@@ -36,6 +36,10 @@ public class SnmpTargetConfiguration {
     public int timeout = 1500;
     public int retries = 2;
 
+    public int maxVarbinds = 20;
+    public int maxRepetitions = 20;
+    public int maxRequests = 4;
+
     // v1/v2c only
     public String community = "public";
 
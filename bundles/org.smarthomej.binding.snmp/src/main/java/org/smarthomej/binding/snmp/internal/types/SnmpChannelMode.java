@@ -25,5 +25,6 @@ public enum SnmpChannelMode {
     READ,
     WRITE,
     READ_WRITE,
-    TRAP
+    TRAP,
+    TABLE
 }
@@ -155,7 +155,7 @@ public abstract class AbstractSnmpTargetHandlerTest extends JavaTest {
         setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, channelMode);
 
         verifyStatus(ThingStatus.UNKNOWN);
-        verify(snmpService).addCommandResponder(any());
+        verify(snmpService, timeout(500)).addCommandResponder(any(), any());
 
         if (refresh) {
             ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.snmp.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.smi.OID;
+
+/**
+ * Tests cases for {@link OidTrie}.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class OidTrieTest {
+    private final OidTrie<String> trie = OidTrie.of(List.of("1.2.3.4", "1.2.3.4", "1.2.3.5", "1.2", "1.2.3.4.1"),
+            OID::new);
+
+    @Test
+    public void exactMatch() {
+        assertEquals(List.of("1.2.3.4", "1.2.3.4"), trie.get(new OID("1.2.3.4")));
+        assertEquals(List.of("1.2"), trie.get(new OID(".1.2")));
+        assertEquals(List.of(), trie.get(new OID("1.2.3")));
+        assertEquals(List.of(), trie.get(new OID("1.2.3.6")));
+        assertEquals(List.of(), trie.get(new OID("1.2.3.4.1.1")));
+    }
+
+    @Test
+    public void longestPrefixMatch() {
+        assertEquals(List.of("1.2.3.4.1"), trie.getPrefix(new OID("1.2.3.4.1.7")));
+        assertEquals(List.of("1.2.3.4", "1.2.3.4"), trie.getPrefix(new OID("1.2.3.4.2")));
+        assertEquals(List.of("1.2.3.4", "1.2.3.4"), trie.getPrefix(new OID("1.2.3.4.1")));
+        assertEquals(List.of("1.2"), trie.getPrefix(new OID("1.2.3.6.1")));
+        assertEquals(List.of(), trie.getPrefix(new OID("1.2")));
+        assertEquals(List.of(), trie.getPrefix(new OID("1.3.1")));
+    }
+}
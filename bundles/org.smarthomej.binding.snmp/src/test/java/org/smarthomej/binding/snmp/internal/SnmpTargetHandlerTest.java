@@ -14,20 +14,26 @@
 package org.smarthomej.binding.snmp.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.ThingStatus;
 import org.smarthomej.binding.snmp.internal.types.SnmpChannelMode;
 import org.smarthomej.binding.snmp.internal.types.SnmpDatatype;
@@ -168,6 +174,54 @@ public class SnmpTargetHandlerTest extends AbstractSnmpTargetHandlerTest {
         verifyStatus(ThingStatus.ONLINE);
     }
 
+    @Test
+    public void testTooBigResponseSplitsRequest() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, SnmpChannelMode.READ);
+        verify(snmpService, timeout(500)).send(any(), any(), eq(null), eq(thingHandler));
+
+        PDU requestPDU = new PDU(PDU.GET,
+                List.of(new VariableBinding(new OID(TEST_OID)), new VariableBinding(new OID("1.2.3.5")),
+                        new VariableBinding(new OID("1.2.3.6")), new VariableBinding(new OID("1.2.3.7"))));
+        PDU responsePDU = new PDU(PDU.RESPONSE, List.of());
+        responsePDU.setErrorStatus(PDU.tooBig);
+        thingHandler.onResponse(new ResponseEvent("test", null, requestPDU, responsePDU, null));
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        verify(snmpService, times(3)).send(pduCaptor.capture(), any(), eq(null), eq(thingHandler));
+        List<PDU> pdus = pduCaptor.getAllValues();
+        assertEquals(List.of(new OID(TEST_OID), new OID("1.2.3.5")),
+                List.of(pdus.get(1).get(0).getOid(), pdus.get(1).get(1).getOid()));
+        assertEquals(List.of(new OID("1.2.3.6"), new OID("1.2.3.7")),
+                List.of(pdus.get(2).get(0).getOid(), pdus.get(2).get(1).getOid()));
+    }
+
+    @Test
+    public void testTableChannelIsWalked() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_NUMBER, SnmpChannelMode.TABLE);
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        ArgumentCaptor<Object> userObjectCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(snmpService, timeout(500)).send(pduCaptor.capture(), any(), userObjectCaptor.capture(),
+                eq(thingHandler));
+        PDU requestPDU = pduCaptor.getValue();
+        // SNMPv1 has no GETBULK
+        assertEquals(PDU.GETNEXT, requestPDU.getType());
+        assertEquals(new OID(TEST_OID), requestPDU.get(0).getOid());
+
+        PDU responsePDU = new PDU(PDU.RESPONSE,
+                List.of(new VariableBinding(new OID(TEST_OID + ".5"), new Integer32(42))));
+        thingHandler.onResponse(
+                new ResponseEvent("test", null, requestPDU, responsePDU, userObjectCaptor.getValue()));
+
+        ChannelUID rowChannelUID = new ChannelUID(THING_UID, CHANNEL_UID.getId() + "_5");
+        assertNotNull(thingHandler.getThing().getChannel(rowChannelUID));
+        verify(thingHandlerCallback).stateUpdated(eq(rowChannelUID), eq(new DecimalType(42)));
+
+        // walk continues after the received OID
+        verify(snmpService, times(2)).send(pduCaptor.capture(), any(), any(), eq(thingHandler));
+        assertEquals(new OID(TEST_OID + ".5"), pduCaptor.getValue().get(0).getOid());
+    }
+
     static class SnmpMock extends Snmp {
         public int cancelCallCounter = 0;
 
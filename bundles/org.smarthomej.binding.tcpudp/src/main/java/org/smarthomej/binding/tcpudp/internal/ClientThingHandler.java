@@ -12,14 +12,10 @@
  */
 package org.smarthomej.binding.tcpudp.internal;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
-import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -46,8 +42,10 @@ import org.openhab.core.types.StateDescription;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.tcpudp.internal.client.TcpClientConnection;
 import org.smarthomej.binding.tcpudp.internal.config.ClientConfiguration;
 import org.smarthomej.binding.tcpudp.internal.config.TcpUdpChannelConfig;
+import org.smarthomej.binding.tcpudp.internal.framing.FrameCodec;
 import org.smarthomej.commons.SimpleDynamicStateDescriptionProvider;
 import org.smarthomej.commons.itemvalueconverter.ChannelMode;
 import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
@@ -71,6 +69,9 @@ public class ClientThingHandler extends BaseThingHandler {
     private Function<String, Optional<ContentWrapper>> doSyncRequest = this::doTcpSyncRequest;
     private ItemValueConverterFactory itemValueConverterFactory;
     private @Nullable ScheduledFuture<?> refreshJob = null;
+    private @Nullable FrameCodec frameCodec = null;
+    // only used for persistent connections
+    private @Nullable TcpClientConnection tcpConnection = null;
 
     protected ClientConfiguration config = new ClientConfiguration();
 
@@ -126,6 +127,13 @@ public class ClientThingHandler extends BaseThingHandler {
             itemValueConverterFactory.setSendValue(this::doUdpAsyncSend);
             logger.debug("Configured '{}' for UDP connections.", thing.getUID());
         } else if (config.protocol == ClientConfiguration.Protocol.TCP) {
+            try {
+                frameCodec = new FrameCodec(config.framing, config.delimiter, config.lengthFieldSize,
+                        config.frameSize, config.bufferSize);
+            } catch (IllegalArgumentException e) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+                return;
+            }
             doSyncRequest = this::doTcpSyncRequest;
             itemValueConverterFactory.setSendValue(this::doTcpAsyncSend);
             logger.debug("Configured '{}' for TCP connections.", thing.getUID());
@@ -160,6 +168,12 @@ public class ClientThingHandler extends BaseThingHandler {
     public void dispose() {
         stopRefresh();
 
+        TcpClientConnection tcpConnection = this.tcpConnection;
+        if (tcpConnection != null) {
+            tcpConnection.close();
+            this.tcpConnection = null;
+        }
+
         channels.clear();
         readCommands.clear();
 
@@ -219,52 +233,59 @@ public class ClientThingHandler extends BaseThingHandler {
         return Objects.requireNonNullElse(config.encoding, StandardCharsets.UTF_8.name());
     }
 
+    /**
+     * get the connection for a TCP request
+     *
+     * @return the persistent connection or a new connection if connections are not persistent
+     */
+    private synchronized TcpClientConnection getTcpConnection() {
+        TcpClientConnection tcpConnection = this.tcpConnection;
+        if (tcpConnection == null) {
+            tcpConnection = new TcpClientConnection(config.host, config.port, config.timeout, config.bufferSize,
+                    Objects.requireNonNull(frameCodec));
+            if (config.persistent) {
+                this.tcpConnection = tcpConnection;
+            }
+        }
+        return tcpConnection;
+    }
+
+    private void releaseTcpConnection(TcpClientConnection tcpConnection) {
+        if (!config.persistent) {
+            tcpConnection.close();
+        }
+    }
+
     protected void doTcpAsyncSend(String command) {
         scheduler.execute(() -> {
-            try (Socket socket = new Socket(config.host, config.port); OutputStream out = socket.getOutputStream()) {
-                socket.setSoTimeout(config.timeout);
-                out.write(command.getBytes(getEncoding()));
-                out.flush();
+            TcpClientConnection tcpConnection = getTcpConnection();
+            try {
+                tcpConnection.send(command.getBytes(getEncoding()));
 
                 updateStatus(ThingStatus.ONLINE);
-            } catch (IOException e) {
+            } catch (IOException | IllegalArgumentException e) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
                 logger.debug("Failed sending '{}' in thing '{}': {}", command, thing.getUID(), e.getMessage());
+            } finally {
+                releaseTcpConnection(tcpConnection);
             }
         });
     }
 
     protected Optional<ContentWrapper> doTcpSyncRequest(String request) {
-        try (Socket socket = new Socket(config.host, config.port);
-                OutputStream out = socket.getOutputStream();
-                InputStream in = socket.getInputStream();
-                ByteArrayOutputStream outputByteArrayStream = new ByteArrayOutputStream()) {
-            socket.setSoTimeout(config.timeout);
-            out.write(request.getBytes(getEncoding()));
-            out.flush();
-            byte[] buffer = new byte[config.bufferSize];
-            int len;
-
-            do {
-                len = in.read(buffer);
-                if (len != -1) {
-                    outputByteArrayStream.write(buffer, 0, len);
-                }
-                if (len < buffer.length) {
-                    Thread.sleep(100);
-                }
-            } while (in.available() > 0);
-
-            outputByteArrayStream.flush();
+        TcpClientConnection tcpConnection = getTcpConnection();
+        try {
+            byte[] response = tcpConnection.request(request.getBytes(getEncoding()));
 
-            ContentWrapper contentWrapper = new ContentWrapper(outputByteArrayStream.toByteArray(),
-                    Objects.requireNonNullElse(config.encoding, StandardCharsets.UTF_8.name()), null);
+            ContentWrapper contentWrapper = new ContentWrapper(response, getEncoding(), null);
 
             updateStatus(ThingStatus.ONLINE);
             return Optional.of(contentWrapper);
         } catch (Exception e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
             logger.debug("Failed to request '{}' in thing '{}': {}", request, thing.getUID(), e.getMessage());
+        } finally {
+            releaseTcpConnection(tcpConnection);
         }
 
         return Optional.empty();
@@ -36,6 +36,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.smarthomej.binding.tcpudp.internal.config.ReceiverConfiguration;
 import org.smarthomej.binding.tcpudp.internal.config.TcpUdpChannelConfig;
+import org.smarthomej.binding.tcpudp.internal.framing.FrameCodec;
 import org.smarthomej.binding.tcpudp.internal.receiver.Receiver;
 import org.smarthomej.binding.tcpudp.internal.receiver.TcpReceiver;
 import org.smarthomej.binding.tcpudp.internal.receiver.UdpReceiver;
@@ -94,7 +95,15 @@ public class ReceiverThingHandler extends BaseThingHandler implements Receiver.R
             receiver = new UdpReceiver(this, config.localAddress, config.port, config.bufferSize);
         } else if (config.protocol == ReceiverConfiguration.Protocol.TCP) {
             logger.debug("Configured '{}' for TCP connections.", thing.getUID());
-            receiver = new TcpReceiver(this, config.localAddress, config.port, config.bufferSize);
+            FrameCodec frameCodec;
+            try {
+                frameCodec = new FrameCodec(config.framing, config.delimiter, config.lengthFieldSize,
+                        config.frameSize, config.bufferSize);
+            } catch (IllegalArgumentException e) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
+                return;
+            }
+            receiver = new TcpReceiver(this, config.localAddress, config.port, config.bufferSize, frameCodec);
         } else {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                     "Protocol for connection not set!");
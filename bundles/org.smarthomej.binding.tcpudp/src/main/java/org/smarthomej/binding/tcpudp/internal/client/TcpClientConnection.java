@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.tcpudp.internal.framing.FrameCodec;
+import org.smarthomej.binding.tcpudp.internal.framing.FrameDecoder;
+import org.smarthomej.binding.tcpudp.internal.framing.Framing;
+
+/**
+ * The {@link TcpClientConnection} is a TCP connection to a remote host that is opened on first use and kept open
+ * until it is closed or fails
+ *
+ * Requests are processed one after the other, the first frame received after a request is its response. Data that is
+ * received while no request is waiting for a response is discarded.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class TcpClientConnection {
+    // time to wait for more data if no framing is used
+    private static final int IDLE_WAIT = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(TcpClientConnection.class);
+
+    private final String host;
+    private final int port;
+    private final int timeout;
+    private final FrameCodec frameCodec;
+    private final FrameDecoder frameDecoder;
+    private final byte[] buffer;
+
+    private @Nullable Socket socket;
+
+    public TcpClientConnection(String host, int port, int timeout, int bufferSize, FrameCodec frameCodec) {
+        this.host = host;
+        this.port = port;
+        this.timeout = timeout;
+        this.frameCodec = frameCodec;
+        this.frameDecoder = frameCodec.createDecoder();
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * send a request and wait for the response
+     *
+     * @param request the request (without framing)
+     * @return the response (without framing)
+     * @throws IOException if the request failed
+     */
+    public synchronized byte[] request(byte[] request) throws IOException {
+        byte[] frame = frameCodec.encode(request);
+        boolean reused = socket != null;
+        try {
+            return doRequest(frame);
+        } catch (SocketTimeoutException e) {
+            close();
+            throw e;
+        } catch (IOException e) {
+            close();
+            if (!reused) {
+                return handleClosedConnection(e);
+            }
+            // the remote host may have closed the idle connection
+            logger.debug("Request to {}:{} failed on existing connection, retrying: {}", host, port, e.getMessage());
+            try {
+                return doRequest(frame);
+            } catch (IOException e1) {
+                close();
+                return handleClosedConnection(e1);
+            }
+        }
+    }
+
+    /**
+     * handle a failed request on a new connection
+     *
+     * Without framing, a connection that is closed by the remote host before it sends any data is an empty response
+     * (e.g. from devices that accept a command and close the connection without replying).
+     *
+     * @param e the exception of the failed request
+     * @return an empty response
+     * @throws IOException the given exception, if it is not a connection that was closed without response
+     */
+    private byte[] handleClosedConnection(IOException e) throws IOException {
+        if (e instanceof NoResponseException) {
+            logger.trace("Connection to {}:{} closed by remote host without response", host, port);
+            return new byte[0];
+        }
+        throw e;
+    }
+
+    /**
+     * send data without waiting for a response
+     *
+     * @param data the data (without framing)
+     * @throws IOException if sending failed
+     */
+    public synchronized void send(byte[] data) throws IOException {
+        byte[] frame = frameCodec.encode(data);
+        boolean reused = socket != null;
+        try {
+            write(connect(), frame);
+        } catch (IOException e) {
+            close();
+            if (!reused) {
+                throw e;
+            }
+            logger.debug("Sending to {}:{} failed on existing connection, retrying: {}", host, port, e.getMessage());
+            try {
+                write(connect(), frame);
+            } catch (IOException e1) {
+                close();
+                throw e1;
+            }
+        }
+    }
+
+    /**
+     * close the connection (it is re-opened on the next request)
+     */
+    public synchronized void close() {
+        Socket socket = this.socket;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.debug("Could not close connection to {}:{}: {}", host, port, e.getMessage());
+            }
+            this.socket = null;
+        }
+        frameDecoder.clear();
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = this.socket;
+        if (socket == null || socket.isClosed()) {
+            socket = new Socket();
+            this.socket = socket;
+            socket.connect(new InetSocketAddress(host, port), timeout);
+            socket.setSoTimeout(timeout);
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(true);
+            frameDecoder.clear();
+            logger.trace("Opened connection to {}:{}", host, port);
+        }
+        return socket;
+    }
+
+    private byte[] doRequest(byte[] frame) throws IOException {
+        Socket socket = connect();
+        InputStream in = socket.getInputStream();
+
+        // discard everything that was received before the request, it can't be the response
+        int available;
+        while ((available = in.available()) > 0) {
+            in.skip(available);
+        }
+        frameDecoder.clear();
+
+        write(socket, frame);
+        return frameCodec.getFraming() == Framing.NONE ? readUnframed(in) : readFrame(in);
+    }
+
+    private void write(Socket socket, byte[] frame) throws IOException {
+        OutputStream out = socket.getOutputStream();
+        out.write(frame);
+        out.flush();
+    }
+
+    private byte[] readFrame(InputStream in) throws IOException {
+        byte[] frame;
+        while ((frame = frameDecoder.decode()) == null) {
+            int len = in.read(buffer);
+            if (len == -1) {
+                throw new EOFException("Connection closed by remote host.");
+            }
+            frameDecoder.feed(buffer, 0, len);
+        }
+        return frame;
+    }
+
+    private byte[] readUnframed(InputStream in) throws IOException {
+        // everything received until no more data arrives is the response
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int len;
+        do {
+            len = in.read(buffer);
+            if (len == -1) {
+                if (out.size() == 0) {
+                    throw new NoResponseException();
+                }
+                break;
+            }
+            out.write(buffer, 0, len);
+            if (len < buffer.length) {
+                try {
+                    Thread.sleep(IDLE_WAIT);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+        } while (in.available() > 0);
+        return out.toByteArray();
+    }
+
+    /**
+     * the connection was closed by the remote host before any data of the response was received
+     */
+    private static class NoResponseException extends EOFException {
+        private static final long serialVersionUID = 1L;
+
+        public NoResponseException() {
+            super("Connection closed by remote host without response.");
+        }
+    }
+}
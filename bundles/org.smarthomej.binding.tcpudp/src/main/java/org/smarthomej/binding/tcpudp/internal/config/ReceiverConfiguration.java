@@ -14,6 +14,7 @@ package org.smarthomej.binding.tcpudp.internal.config;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.smarthomej.binding.tcpudp.internal.framing.Framing;
 
 /**
  * The {@link ReceiverConfiguration} class contains fields mapping thing configuration parameters.
@@ -31,6 +32,12 @@ public class ReceiverConfiguration {
 
     public @Nullable String encoding = null;
 
+    // TCP only
+    public Framing framing = Framing.NONE;
+    public String delimiter = "\\n";
+    public int lengthFieldSize = 2;
+    public int frameSize = 0;
+
     public enum Protocol {
         UDP,
         TCP
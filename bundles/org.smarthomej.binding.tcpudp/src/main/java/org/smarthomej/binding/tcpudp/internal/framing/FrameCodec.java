@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.framing;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link FrameCodec} adds the framing to outgoing messages and creates decoders for incoming data
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class FrameCodec {
+    private final Framing framing;
+    private final byte[] delimiter;
+    private final int lengthFieldSize;
+    private final int frameSize;
+    private final int maxFrameSize;
+
+    /**
+     * create a new codec
+     *
+     * @param framing the framing method
+     * @param delimiter the delimiter (escape sequences are allowed, only used for {@link Framing#DELIMITER})
+     * @param lengthFieldSize the size of the length field in bytes (1, 2 or 4, only used for {@link Framing#LENGTH})
+     * @param frameSize the size of a frame in bytes (only used for {@link Framing#FIXED})
+     * @param maxFrameSize the maximum size of a received frame in bytes
+     * @throws IllegalArgumentException if the parameters are not valid for the framing method
+     */
+    public FrameCodec(Framing framing, String delimiter, int lengthFieldSize, int frameSize, int maxFrameSize) {
+        this.framing = framing;
+        this.delimiter = parseDelimiter(delimiter);
+        this.lengthFieldSize = lengthFieldSize;
+        this.frameSize = frameSize;
+        this.maxFrameSize = maxFrameSize;
+
+        if (framing == Framing.DELIMITER && this.delimiter.length == 0) {
+            throw new IllegalArgumentException("Delimiter must not be empty.");
+        } else if (framing == Framing.LENGTH && lengthFieldSize != 1 && lengthFieldSize != 2
+                && lengthFieldSize != 4) {
+            throw new IllegalArgumentException("Length field size must be 1, 2 or 4.");
+        } else if (framing == Framing.FIXED && frameSize <= 0) {
+            throw new IllegalArgumentException("Frame size must be greater than 0.");
+        }
+    }
+
+    public Framing getFraming() {
+        return framing;
+    }
+
+    /**
+     * add the framing to a message
+     *
+     * @param message the message
+     * @return the framed message
+     * @throws IllegalArgumentException if the message is too long for the length field
+     */
+    public byte[] encode(byte[] message) {
+        switch (framing) {
+            case DELIMITER: {
+                byte[] frame = new byte[message.length + delimiter.length];
+                System.arraycopy(message, 0, frame, 0, message.length);
+                System.arraycopy(delimiter, 0, frame, message.length, delimiter.length);
+                return frame;
+            }
+            case LENGTH: {
+                if (lengthFieldSize < 4 && message.length >= 1 << (8 * lengthFieldSize)) {
+                    throw new IllegalArgumentException(
+                            "Message with " + message.length + " bytes exceeds length field size.");
+                }
+                byte[] frame = new byte[message.length + lengthFieldSize];
+                for (int i = 0; i < lengthFieldSize; i++) {
+                    frame[i] = (byte) (message.length >> (8 * (lengthFieldSize - 1 - i)));
+                }
+                System.arraycopy(message, 0, frame, lengthFieldSize, message.length);
+                return frame;
+            }
+            default:
+                return message;
+        }
+    }
+
+    /**
+     * create a decoder (decoders keep the state of a single connection and are not thread-safe)
+     *
+     * @return a new decoder
+     */
+    public FrameDecoder createDecoder() {
+        return new FrameDecoder(framing, delimiter, lengthFieldSize, frameSize, maxFrameSize);
+    }
+
+    /**
+     * convert a delimiter to bytes
+     *
+     * Supported escape sequences are {@code \r}, {@code \n}, {@code \t}, {@code \0}, {@code \\} and {@code \xHH} (a
+     * byte in hexadecimal notation). All other characters are converted with their UTF-8 representation.
+     *
+     * @param delimiter the delimiter
+     * @return the delimiter bytes
+     * @throws IllegalArgumentException if the delimiter contains an invalid escape sequence
+     */
+    static byte[] parseDelimiter(String delimiter) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int i = 0;
+        while (i < delimiter.length()) {
+            char c = delimiter.charAt(i++);
+            if (c != '\\') {
+                out.writeBytes(String.valueOf(c).getBytes(StandardCharsets.UTF_8));
+                continue;
+            }
+            if (i >= delimiter.length()) {
+                throw new IllegalArgumentException("Incomplete escape sequence in delimiter '" + delimiter + "'.");
+            }
+            c = delimiter.charAt(i++);
+            switch (c) {
+                case 'r':
+                    out.write('\r');
+                    break;
+                case 'n':
+                    out.write('\n');
+                    break;
+                case 't':
+                    out.write('\t');
+                    break;
+                case '0':
+                    out.write(0);
+                    break;
+                case '\\':
+                    out.write('\\');
+                    break;
+                case 'x':
+                    int high = i < delimiter.length() ? Character.digit(delimiter.charAt(i), 16) : -1;
+                    int low = i + 1 < delimiter.length() ? Character.digit(delimiter.charAt(i + 1), 16) : -1;
+                    if (high < 0 || low < 0) {
+                        throw new IllegalArgumentException(
+                                "Invalid escape sequence in delimiter '" + delimiter + "'.");
+                    }
+                    out.write(high << 4 | low);
+                    i += 2;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid escape sequence in delimiter '" + delimiter + "'.");
+            }
+        }
+        return out.toByteArray();
+    }
+}
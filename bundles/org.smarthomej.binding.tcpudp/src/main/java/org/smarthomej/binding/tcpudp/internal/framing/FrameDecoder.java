@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.framing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link FrameDecoder} collects the received data of a single connection and splits it into frames
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class FrameDecoder {
+    private final Framing framing;
+    private final byte[] delimiter;
+    private final int lengthFieldSize;
+    private final int frameSize;
+    private final int maxFrameSize;
+
+    private byte[] buffer = new byte[256];
+    private int start = 0;
+    private int end = 0;
+    // position up to which no delimiter was found
+    private int searched = 0;
+
+    FrameDecoder(Framing framing, byte[] delimiter, int lengthFieldSize, int frameSize, int maxFrameSize) {
+        this.framing = framing;
+        this.delimiter = delimiter;
+        this.lengthFieldSize = lengthFieldSize;
+        this.frameSize = frameSize;
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * add received data
+     *
+     * @param data array containing the data
+     * @param offset offset of the data in the array
+     * @param length length of the data
+     */
+    public void feed(byte[] data, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(data, offset, buffer, end, length);
+        end += length;
+    }
+
+    /**
+     * add received data
+     *
+     * @param data buffer containing the data (all remaining bytes are consumed)
+     */
+    public void feed(ByteBuffer data) {
+        int length = data.remaining();
+        ensureCapacity(length);
+        data.get(buffer, end, length);
+        end += length;
+    }
+
+    /**
+     * get the next complete frame
+     *
+     * @return the frame (without framing information) or {@code null} if no complete frame is available
+     * @throws IOException if the received data is not a valid frame (the buffered data is discarded)
+     */
+    public byte @Nullable [] decode() throws IOException {
+        int available = end - start;
+        switch (framing) {
+            case DELIMITER:
+                for (int i = Math.max(start, searched); i <= end - delimiter.length; i++) {
+                    if (isDelimiterAt(i)) {
+                        byte[] frame = Arrays.copyOfRange(buffer, start, i);
+                        start = i + delimiter.length;
+                        searched = start;
+                        return frame;
+                    }
+                }
+                searched = Math.max(start, end - delimiter.length + 1);
+                if (available > maxFrameSize + delimiter.length) {
+                    clear();
+                    throw new IOException("No delimiter found within " + maxFrameSize + " bytes.");
+                }
+                return null;
+            case LENGTH:
+                if (available < lengthFieldSize) {
+                    return null;
+                }
+                long length = 0;
+                for (int i = 0; i < lengthFieldSize; i++) {
+                    length = length << 8 | (buffer[start + i] & 0xff);
+                }
+                if (length > maxFrameSize) {
+                    clear();
+                    throw new IOException("Frame length " + length + " exceeds maximum of " + maxFrameSize + " bytes.");
+                }
+                if (available < lengthFieldSize + length) {
+                    return null;
+                }
+                start += lengthFieldSize;
+                return take((int) length);
+            case FIXED:
+                return available >= frameSize ? take(frameSize) : null;
+            default:
+                return available > 0 ? take(available) : null;
+        }
+    }
+
+    /**
+     * discard all buffered data
+     */
+    public void clear() {
+        start = 0;
+        end = 0;
+        searched = 0;
+    }
+
+    /**
+     * check if data is buffered
+     *
+     * @return true if no data is buffered
+     */
+    public boolean isEmpty() {
+        return start == end;
+    }
+
+    /**
+     * get the number of buffered bytes
+     *
+     * @return number of bytes
+     */
+    public int size() {
+        return end - start;
+    }
+
+    private byte[] take(int length) {
+        byte[] frame = Arrays.copyOfRange(buffer, start, start + length);
+        start += length;
+        return frame;
+    }
+
+    private boolean isDelimiterAt(int position) {
+        for (int i = 0; i < delimiter.length; i++) {
+            if (buffer[position + i] != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int length) {
+        if (end + length <= buffer.length) {
+            return;
+        }
+        // move the unprocessed data to the beginning and grow the buffer if necessary
+        int available = end - start;
+        byte[] target = available + length <= buffer.length ? buffer
+                : new byte[Math.max(buffer.length * 2, available + length)];
+        System.arraycopy(buffer, start, target, 0, available);
+        searched = Math.max(0, searched - start);
+        buffer = target;
+        start = 0;
+        end = available;
+    }
+}
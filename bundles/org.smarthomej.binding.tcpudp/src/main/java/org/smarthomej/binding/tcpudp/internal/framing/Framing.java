@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.framing;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link Framing} enum contains the supported methods to split a byte stream into messages
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public enum Framing {
+    // all data that is available at once is one message
+    NONE,
+    // messages end with a delimiter
+    DELIMITER,
+    // messages are prefixed with their length
+    LENGTH,
+    // all messages have the same size
+    FIXED
+}
@@ -13,38 +13,58 @@
 package org.smarthomej.binding.tcpudp.internal.receiver;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.InetSocketAddress;
-import java.net.ServerSocket;
-import java.net.Socket;
 import java.net.SocketAddress;
-import java.util.Arrays;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.binding.tcpudp.internal.framing.FrameCodec;
+import org.smarthomej.binding.tcpudp.internal.framing.FrameDecoder;
+import org.smarthomej.binding.tcpudp.internal.framing.Framing;
 
 /**
  * The {@link TcpReceiver} is a receiver for TCP connections
  *
+ * All connections are handled by a single thread using a selector. If a framing is configured, connections are kept
+ * open and can transport any number of messages. Without framing, each connection transports a single message, which
+ * is complete if the client closes the connection or no more data is received.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class TcpReceiver implements Receiver {
+    // time to wait for more data if no framing is used
+    private static final long IDLE_WAIT = 100;
+
     private final Logger logger = LoggerFactory.getLogger(TcpReceiver.class);
 
-    private @Nullable ServerSocket socket;
     private final SocketAddress socketAddress;
     private final ReceiverListener receiverListener;
-    private byte[] buf;
+    private final FrameCodec frameCodec;
+    private final int bufferSize;
+    private final ByteBuffer buf;
 
-    private boolean reconnect;
+    private @Nullable Selector selector;
+    private volatile boolean reconnect;
 
-    public TcpReceiver(ReceiverListener receiverListener, String localAddress, int port, int bufferSize) {
+    public TcpReceiver(ReceiverListener receiverListener, String localAddress, int port, int bufferSize,
+            FrameCodec frameCodec) {
         this.socketAddress = new InetSocketAddress(localAddress, port);
         this.receiverListener = receiverListener;
-        this.buf = new byte[bufferSize];
+        this.frameCodec = frameCodec;
+        this.bufferSize = bufferSize;
+        this.buf = ByteBuffer.allocate(bufferSize);
         reconnect = true;
     }
 
@@ -55,23 +75,39 @@ public class TcpReceiver implements Receiver {
     @Override
     public void run() {
         while (enabled()) {
-            try (ServerSocket serverSocket = new ServerSocket()) {
-                this.socket = serverSocket;
-                serverSocket.setReuseAddress(true);
-                serverSocket.bind(socketAddress);
-                receiverListener.reportConnectionState(true, null);
-                while (enabled()) {
-                    try (Socket clientSocket = serverSocket.accept(); InputStream in = clientSocket.getInputStream()) {
-                        String sender = clientSocket.getInetAddress().getHostAddress() + ":" + clientSocket.getPort();
-
-                        int byteCount = in.read(buf);
-                        if (byteCount == -1) {
-                            logger.warn("Did not receive data from {}", sender);
-                        } else {
-                            byte[] data = Arrays.copyOfRange(buf, 0, byteCount);
-
-                            logger.trace("Received {} bytes from {}: {}", byteCount, sender, data);
-                            receiverListener.onReceive(sender, data);
+            try (Selector selector = Selector.open(); ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+                this.selector = selector;
+                try {
+                    serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+                    serverChannel.bind(socketAddress);
+                    serverChannel.configureBlocking(false);
+                    serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+                    receiverListener.reportConnectionState(true, null);
+                    while (enabled()) {
+                        selector.select(IDLE_WAIT);
+                        Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                        while (iterator.hasNext()) {
+                            SelectionKey key = iterator.next();
+                            iterator.remove();
+                            if (!key.isValid()) {
+                                continue;
+                            }
+                            if (key.isAcceptable()) {
+                                accept(serverChannel, selector);
+                            } else if (key.isReadable()) {
+                                read(key);
+                            }
+                        }
+                        if (frameCodec.getFraming() == Framing.NONE) {
+                            completeIdleConnections(selector);
+                        }
+                    }
+                } finally {
+                    this.selector = null;
+                    // closing the selector does not close the client connections
+                    for (SelectionKey key : selector.keys()) {
+                        if (key.channel() instanceof SocketChannel) {
+                            close(key);
                         }
                     }
                 }
@@ -81,16 +117,133 @@ public class TcpReceiver implements Receiver {
         }
     }
 
+    private void accept(ServerSocketChannel serverChannel, Selector selector) throws IOException {
+        SocketChannel clientChannel = serverChannel.accept();
+        if (clientChannel == null) {
+            return;
+        }
+        try {
+            InetSocketAddress remoteAddress = (InetSocketAddress) clientChannel.getRemoteAddress();
+            String sender = remoteAddress.getAddress().getHostAddress() + ":" + remoteAddress.getPort();
+            clientChannel.configureBlocking(false);
+            clientChannel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+            clientChannel.register(selector, SelectionKey.OP_READ,
+                    new Connection(sender, frameCodec.createDecoder()));
+            logger.trace("Accepted connection from {}", sender);
+        } catch (IOException e) {
+            logger.debug("Failed to accept connection: {}", e.getMessage());
+            clientChannel.close();
+        }
+    }
+
+    private void read(SelectionKey key) {
+        SocketChannel clientChannel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+        FrameDecoder frameDecoder = connection.frameDecoder;
+
+        int byteCount;
+        buf.clear();
+        try {
+            byteCount = clientChannel.read(buf);
+        } catch (IOException e) {
+            logger.debug("Failed to read from {}: {}", connection.sender, e.getMessage());
+            close(key);
+            return;
+        }
+
+        if (byteCount == -1) {
+            if (frameCodec.getFraming() == Framing.NONE) {
+                complete(key);
+            } else {
+                if (!frameDecoder.isEmpty()) {
+                    logger.debug("Discarding {} bytes of incomplete frame from {}", frameDecoder.size(),
+                            connection.sender);
+                }
+                close(key);
+            }
+            return;
+        }
+
+        buf.flip();
+        logger.trace("Received {} bytes from {}", byteCount, connection.sender);
+        frameDecoder.feed(buf);
+        connection.lastActivity = System.currentTimeMillis();
+
+        if (frameCodec.getFraming() == Framing.NONE) {
+            if (frameDecoder.size() >= bufferSize) {
+                complete(key);
+            }
+            return;
+        }
+
+        try {
+            byte[] frame;
+            while ((frame = frameDecoder.decode()) != null) {
+                receiverListener.onReceive(connection.sender, frame);
+            }
+        } catch (IOException e) {
+            logger.warn("Closing connection from {}: {}", connection.sender, e.getMessage());
+            close(key);
+        }
+    }
+
+    private void completeIdleConnections(Selector selector) {
+        long idleSince = System.currentTimeMillis() - IDLE_WAIT;
+        List<SelectionKey> idleKeys = new ArrayList<>();
+        for (SelectionKey key : selector.keys()) {
+            Object attachment = key.attachment();
+            if (attachment instanceof Connection && !((Connection) attachment).frameDecoder.isEmpty()
+                    && ((Connection) attachment).lastActivity <= idleSince) {
+                idleKeys.add(key);
+            }
+        }
+        idleKeys.forEach(this::complete);
+    }
+
+    /**
+     * report all received data of a connection without framing and close it
+     */
+    private void complete(SelectionKey key) {
+        Connection connection = (Connection) key.attachment();
+        try {
+            byte[] data = connection.frameDecoder.decode();
+            if (data != null) {
+                receiverListener.onReceive(connection.sender, data);
+            } else {
+                logger.warn("Did not receive data from {}", connection.sender);
+            }
+        } catch (IOException e) {
+            // can't happen without framing
+        }
+        close(key);
+    }
+
+    private void close(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            logger.debug("Could not close connection: {}", e.getMessage());
+        }
+    }
+
     @Override
     public void stop() {
         reconnect = false;
-        ServerSocket socket = this.socket;
-        if (socket != null) {
-            try {
-                socket.close();
-            } catch (IOException e) {
-                logger.warn("Could not close connection: {}", e.getMessage());
-            }
+        Selector selector = this.selector;
+        if (selector != null) {
+            selector.wakeup();
+        }
+    }
+
+    private static class Connection {
+        private final String sender;
+        private final FrameDecoder frameDecoder;
+        private long lastActivity = System.currentTimeMillis();
+
+        private Connection(String sender, FrameDecoder frameDecoder) {
+            this.sender = sender;
+            this.frameDecoder = frameDecoder;
         }
     }
 }
@@ -38,7 +38,7 @@ public class UdpReceiver implements Receiver {
     private final ReceiverListener receiverListener;
     private byte[] buf;
 
-    private boolean reconnect;
+    private volatile boolean reconnect;
 
     public UdpReceiver(ReceiverListener receiverListener, String localAddress, int port, int bufferSize) {
         this.socketAddress = new InetSocketAddress(localAddress, port);
@@ -67,6 +67,9 @@ public class UdpReceiver implements Receiver {
                     byte[] data = Arrays.copyOfRange(packet.getData(), 0, packet.getLength());
 
                     logger.trace("Received {} bytes from {}: {}", packet.getLength(), sender, data);
+                    if (packet.getLength() == buf.length) {
+                        logger.debug("Datagram from {} filled the receive buffer and might be truncated", sender);
+                    }
                     receiverListener.onReceive(sender, data);
                 }
             } catch (IOException e) {
@@ -49,6 +49,7 @@ import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.thing.type.ChannelTypeUID;
 import org.smarthomej.binding.tcpudp.internal.config.ClientConfiguration;
 import org.smarthomej.binding.tcpudp.internal.config.TcpUdpChannelConfig;
+import org.smarthomej.binding.tcpudp.internal.framing.Framing;
 import org.smarthomej.binding.tcpudp.internal.test.EchoServer;
 import org.smarthomej.binding.tcpudp.internal.test.TestUtil;
 import org.smarthomej.commons.SimpleDynamicStateDescriptionProvider;
@@ -95,6 +96,37 @@ public class ClientThingHandlerTest extends JavaTest {
         requestTest(ClientConfiguration.Protocol.UDP);
     }
 
+    @Test
+    public void tcpPersistentRequestTest() {
+        EchoServer echoServer = new EchoServer(ClientConfiguration.Protocol.TCP, true);
+        waitForAssert(() -> assertNotEquals(0, echoServer.getPort(), "Could not start EchoServer"));
+
+        ClientConfiguration clientConfiguration = new ClientConfiguration();
+        clientConfiguration.host = "127.0.0.1";
+        clientConfiguration.port = echoServer.getPort();
+        clientConfiguration.refresh = 1;
+        clientConfiguration.protocol = ClientConfiguration.Protocol.TCP;
+        clientConfiguration.persistent = true;
+        clientConfiguration.framing = Framing.DELIMITER;
+
+        TcpUdpChannelConfig tcpUdpChannelConfig = new TcpUdpChannelConfig();
+        tcpUdpChannelConfig.stateContent = TEST_STATE_CONTENT;
+
+        ClientThingHandler clientThingHandler = getClientThingHandler(clientConfiguration, tcpUdpChannelConfig);
+
+        // the delimiter is added to the request and removed from the response
+        waitForAssert(() -> assertEquals(3, echoServer.getReceivedValues().size()));
+        verify(thingHandlerCallback, timeout(200).times(3)).stateUpdated(eq(TEST_CHANNEL_UID),
+                eq(new StringType(TEST_STATE_CONTENT)));
+        assertTrue(echoServer.getReceivedValues().stream().allMatch((TEST_STATE_CONTENT + "\n")::equals));
+
+        // all requests used the same connection
+        assertEquals(1, echoServer.getConnectionCount());
+
+        clientThingHandler.dispose();
+        echoServer.stop();
+    }
+
     @Test
     public void udpSendTest() {
         sendTest(ClientConfiguration.Protocol.UDP);
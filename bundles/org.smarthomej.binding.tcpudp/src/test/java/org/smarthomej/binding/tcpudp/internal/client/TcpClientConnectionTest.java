@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.smarthomej.binding.tcpudp.internal.framing.FrameCodec;
+import org.smarthomej.binding.tcpudp.internal.framing.Framing;
+
+/**
+ * The {@link TcpClientConnectionTest} contains tests for the {@link TcpClientConnection}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class TcpClientConnectionTest {
+    private @NonNullByDefault({}) ServerSocket serverSocket;
+    private @NonNullByDefault({}) Thread serverThread;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        // accepts a command and closes the connection without replying
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        serverThread = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    InputStream in = socket.getInputStream();
+                    in.read(new byte[1024]);
+                } catch (IOException e) {
+                    // server socket closed
+                }
+            }
+        });
+        serverThread.start();
+    }
+
+    @AfterEach
+    public void stopServer() throws IOException, InterruptedException {
+        serverSocket.close();
+        serverThread.join(1000);
+    }
+
+    @Test
+    public void connectionClosedWithoutResponseIsEmptyResponse() throws IOException {
+        TcpClientConnection connection = new TcpClientConnection("127.0.0.1", serverSocket.getLocalPort(), 2000,
+                1024, new FrameCodec(Framing.NONE, "", 2, 0, 1024));
+
+        assertArrayEquals(new byte[0], connection.request(bytes("ON")));
+        assertArrayEquals(new byte[0], connection.request(bytes("OFF")));
+        connection.close();
+    }
+
+    @Test
+    public void connectionClosedWithoutFrameFails() {
+        TcpClientConnection connection = new TcpClientConnection("127.0.0.1", serverSocket.getLocalPort(), 2000,
+                1024, new FrameCodec(Framing.DELIMITER, "\\n", 2, 0, 1024));
+
+        assertThrows(EOFException.class, () -> connection.request(bytes("ON")));
+        connection.close();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
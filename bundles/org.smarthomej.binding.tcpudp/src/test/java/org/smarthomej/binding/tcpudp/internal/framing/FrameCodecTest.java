@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.framing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link FrameCodecTest} contains tests for the {@link FrameCodec} and {@link FrameDecoder}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class FrameCodecTest {
+
+    @Test
+    public void delimiterIsParsed() {
+        assertArrayEquals(new byte[] { '\r', '\n' }, FrameCodec.parseDelimiter("\\r\\n"));
+        assertArrayEquals(new byte[] { 0, (byte) 0xff, '\\', ';' }, FrameCodec.parseDelimiter("\\0\\xff\\\\;"));
+        assertThrows(IllegalArgumentException.class, () -> FrameCodec.parseDelimiter("\\q"));
+        assertThrows(IllegalArgumentException.class, () -> FrameCodec.parseDelimiter("\\x-1"));
+        assertThrows(IllegalArgumentException.class, () -> FrameCodec.parseDelimiter("\\"));
+    }
+
+    @Test
+    public void delimiterFraming() throws IOException {
+        FrameCodec frameCodec = new FrameCodec(Framing.DELIMITER, "\\r\\n", 2, 0, 16);
+        assertEquals("abc\r\n", string(frameCodec.encode(bytes("abc"))));
+
+        FrameDecoder frameDecoder = frameCodec.createDecoder();
+        feed(frameDecoder, "first\r");
+        assertNull(frameDecoder.decode());
+        feed(frameDecoder, "\nsecond\r\nthi");
+        assertEquals("first", string(frameDecoder.decode()));
+        assertEquals("second", string(frameDecoder.decode()));
+        assertNull(frameDecoder.decode());
+        feed(frameDecoder, "rd\r\n");
+        assertEquals("third", string(frameDecoder.decode()));
+        assertTrue(frameDecoder.isEmpty());
+
+        // frame without delimiter exceeds maximum frame size
+        feed(frameDecoder, "0123456789abcdefghij");
+        assertThrows(IOException.class, frameDecoder::decode);
+        assertTrue(frameDecoder.isEmpty());
+    }
+
+    @Test
+    public void lengthFraming() throws IOException {
+        FrameCodec frameCodec = new FrameCodec(Framing.LENGTH, "", 2, 0, 16);
+        assertArrayEquals(new byte[] { 0, 3, 'a', 'b', 'c' }, frameCodec.encode(bytes("abc")));
+
+        FrameDecoder frameDecoder = frameCodec.createDecoder();
+        frameDecoder.feed(new byte[] { 0 }, 0, 1);
+        assertNull(frameDecoder.decode());
+        frameDecoder.feed(new byte[] { 2, 'a', 'b', 0, 0 }, 0, 5);
+        assertEquals("ab", string(frameDecoder.decode()));
+        assertEquals("", string(frameDecoder.decode()));
+        assertNull(frameDecoder.decode());
+
+        // frame length 256 exceeds maximum frame size
+        frameDecoder.feed(new byte[] { 1, 0 }, 0, 2);
+        assertThrows(IOException.class, frameDecoder::decode);
+
+        FrameCodec byteLengthCodec = new FrameCodec(Framing.LENGTH, "", 1, 0, 1024);
+        assertThrows(IllegalArgumentException.class, () -> byteLengthCodec.encode(new byte[256]));
+        assertThrows(IllegalArgumentException.class, () -> new FrameCodec(Framing.LENGTH, "", 3, 0, 16));
+    }
+
+    @Test
+    public void fixedFraming() throws IOException {
+        FrameCodec frameCodec = new FrameCodec(Framing.FIXED, "", 2, 3, 16);
+        assertEquals("abcd", string(frameCodec.encode(bytes("abcd"))));
+
+        FrameDecoder frameDecoder = frameCodec.createDecoder();
+        feed(frameDecoder, "abcd");
+        assertEquals("abc", string(frameDecoder.decode()));
+        assertNull(frameDecoder.decode());
+        feed(frameDecoder, "ef");
+        assertEquals("def", string(frameDecoder.decode()));
+    }
+
+    @Test
+    public void largeDataIsBuffered() throws IOException {
+        FrameCodec frameCodec = new FrameCodec(Framing.DELIMITER, ";", 2, 0, 4096);
+        FrameDecoder frameDecoder = frameCodec.createDecoder();
+        String message = "x".repeat(1000);
+        for (int i = 0; i < 3; i++) {
+            feed(frameDecoder, message);
+            assertNull(frameDecoder.decode());
+        }
+        feed(frameDecoder, ";");
+        assertEquals(message.repeat(3), string(frameDecoder.decode()));
+    }
+
+    private static void feed(FrameDecoder frameDecoder, String data) {
+        byte[] bytes = bytes(data);
+        frameDecoder.feed(bytes, 0, bytes.length);
+    }
+
+    private static byte[] bytes(String data) {
+        return data.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte @Nullable [] data) {
+        assertNotNull(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tcpudp.internal.receiver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.smarthomej.binding.tcpudp.internal.framing.FrameCodec;
+import org.smarthomej.binding.tcpudp.internal.framing.Framing;
+
+/**
+ * The {@link TcpReceiverTest} contains tests for the {@link TcpReceiver}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class TcpReceiverTest implements Receiver.ReceiverListener {
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Boolean> connectionStates = new LinkedBlockingQueue<>();
+
+    private @Nullable TcpReceiver receiver;
+    private @Nullable Thread receiverThread;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        TcpReceiver receiver = this.receiver;
+        if (receiver != null) {
+            receiver.stop();
+        }
+        Thread receiverThread = this.receiverThread;
+        if (receiverThread != null) {
+            receiverThread.join(1000);
+        }
+    }
+
+    @Test
+    public void multipleClientsShareConnection() throws IOException, InterruptedException {
+        int port = startReceiver(new FrameCodec(Framing.DELIMITER, "\\n", 2, 0, 64));
+
+        try (Socket client1 = new Socket("127.0.0.1", port); Socket client2 = new Socket("127.0.0.1", port)) {
+            OutputStream out1 = client1.getOutputStream();
+            OutputStream out2 = client2.getOutputStream();
+            write(out1, "one\ntw");
+            write(out2, "three\n");
+            write(out1, "o\n");
+            write(out2, "four\nfive\n");
+
+            List<String> messages = Stream.of(poll(), poll(), poll(), poll(), poll()).sorted()
+                    .collect(Collectors.toList());
+            assertEquals(List.of("five", "four", "one", "three", "two"), messages);
+
+            // connections are still open
+            write(out1, "six\n");
+            assertEquals("six", poll());
+        }
+    }
+
+    @Test
+    public void unframedMessageIsCompleteWhenIdle() throws IOException, InterruptedException {
+        int port = startReceiver(new FrameCodec(Framing.NONE, "", 2, 0, 64));
+
+        try (Socket client = new Socket("127.0.0.1", port)) {
+            OutputStream out = client.getOutputStream();
+            write(out, "split ");
+            write(out, "message");
+
+            assertEquals("split message", poll());
+            // connection is closed by the receiver
+            assertEquals(-1, client.getInputStream().read());
+        }
+
+        try (Socket client = new Socket("127.0.0.1", port)) {
+            write(client.getOutputStream(), "closed by sender");
+        }
+        assertEquals("closed by sender", poll());
+    }
+
+    private int startReceiver(FrameCodec frameCodec) throws IOException, InterruptedException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+        TcpReceiver receiver = new TcpReceiver(this, "127.0.0.1", port, 16, frameCodec);
+        Thread receiverThread = new Thread(receiver);
+        receiverThread.start();
+        this.receiver = receiver;
+        this.receiverThread = receiverThread;
+
+        assertEquals(true, connectionStates.poll(1, TimeUnit.SECONDS));
+        return port;
+    }
+
+    private void write(OutputStream out, String content) throws IOException, InterruptedException {
+        out.write(content.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+        Thread.sleep(20);
+    }
+
+    private @Nullable String poll() throws InterruptedException {
+        return received.poll(1, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void reportConnectionState(boolean state, @Nullable String message) {
+        connectionStates.add(state);
+    }
+
+    @Override
+    public void onReceive(String sender, byte[] content) {
+        received.add(new String(content, StandardCharsets.UTF_8));
+    }
+}
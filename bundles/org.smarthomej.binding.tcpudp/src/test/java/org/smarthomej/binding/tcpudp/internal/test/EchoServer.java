@@ -42,6 +42,8 @@ public class EchoServer {
 
     private final List<String> receivedValues = new ArrayList<>();
     private final Thread thread;
+    private final boolean keepAlive;
+    private int connectionCount = 0;
 
     private @Nullable ServerSocket tcpSocket;
     private @Nullable DatagramSocket udpSocket;
@@ -50,6 +52,17 @@ public class EchoServer {
     private byte[] buf = new byte[2048];
 
     public EchoServer(ClientConfiguration.Protocol protocol) {
+        this(protocol, false);
+    }
+
+    /**
+     * create an echo server
+     *
+     * @param protocol the protocol
+     * @param keepAlive if true, TCP connections are kept open until the client closes them
+     */
+    public EchoServer(ClientConfiguration.Protocol protocol, boolean keepAlive) {
+        this.keepAlive = keepAlive;
         if (protocol == ClientConfiguration.Protocol.TCP) {
             thread = new Thread(this::runTcp);
         } else {
@@ -71,6 +84,15 @@ public class EchoServer {
         return receivedValues;
     }
 
+    /**
+     * get the number of accepted TCP connections
+     *
+     * @return the number of connections
+     */
+    public int getConnectionCount() {
+        return connectionCount;
+    }
+
     private void runUdp() {
         try (DatagramSocket socket = new DatagramSocket(null)) {
             this.udpSocket = socket;
@@ -98,15 +120,21 @@ public class EchoServer {
                 try (Socket clientSocket = serverSocket.accept();
                         InputStream in = clientSocket.getInputStream();
                         OutputStream out = clientSocket.getOutputStream()) {
-                    int byteCount = in.read(buf);
-                    if (byteCount == -1) {
-                        logger.warn("Did not receive data");
-                    } else {
-                        byte[] data = Arrays.copyOfRange(buf, 0, byteCount);
-                        receivedValues.add(new String(data));
-                        out.write(data);
-                        out.flush();
-                    }
+                    connectionCount++;
+                    do {
+                        int byteCount = in.read(buf);
+                        if (byteCount == -1) {
+                            if (!keepAlive) {
+                                logger.warn("Did not receive data");
+                            }
+                            break;
+                        } else {
+                            byte[] data = Arrays.copyOfRange(buf, 0, byteCount);
+                            receivedValues.add(new String(data));
+                            out.write(data);
+                            out.flush();
+                        }
+                    } while (keepAlive);
                 }
             }
         } catch (IOException e) {
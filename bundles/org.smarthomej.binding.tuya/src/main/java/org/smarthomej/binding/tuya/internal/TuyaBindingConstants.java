@@ -12,22 +12,10 @@
  */
 package org.smarthomej.binding.tuya.internal;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.util.Map;
-import java.util.Objects;
-
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.type.ChannelTypeUID;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.smarthomej.binding.tuya.internal.util.SchemaDp;
-
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import org.smarthomej.binding.tuya.internal.util.SchemaStore;
 
 /**
  * The {@link TuyaBindingConstants} class defines common constants, which are
@@ -37,7 +25,6 @@ import com.google.gson.reflect.TypeToken;
  */
 @NonNullByDefault
 public class TuyaBindingConstants {
-    private static final Logger LOGGER = LoggerFactory.getLogger(TuyaBindingConstants.class);
     private static final String BINDING_ID = "tuya";
 
     // List of all Thing Type UIDs
@@ -61,23 +48,5 @@ public class TuyaBindingConstants {
     public static final int TCP_CONNECTION_TIMEOUT = 60; // in s;
     public static final int TCP_CONNECTION_MAXIMUM_MISSED_HEARTBEATS = 3;
 
-    public static final Map<String, Map<String, SchemaDp>> SCHEMAS = getSchemas();
-
-    private static Map<String, Map<String, SchemaDp>> getSchemas() {
-        InputStream resource = Thread.currentThread().getContextClassLoader().getResourceAsStream("schema.json");
-        if (resource == null) {
-            LOGGER.warn("Could not read resource file 'schema.json', discovery might fail");
-            return Map.of();
-        }
-
-        try (InputStreamReader reader = new InputStreamReader(resource)) {
-            Gson gson = new Gson();
-            Type schemaListType = TypeToken.getParameterized(Map.class, String.class, SchemaDp.class).getType();
-            Type schemaType = TypeToken.getParameterized(Map.class, String.class, schemaListType).getType();
-            return Objects.requireNonNull(gson.fromJson(reader, schemaType));
-        } catch (IOException e) {
-            LOGGER.warn("Failed to read 'schema.json', discovery might fail");
-            return Map.of();
-        }
-    }
+    public static final SchemaStore SCHEMAS = new SchemaStore("schema.json");
 }
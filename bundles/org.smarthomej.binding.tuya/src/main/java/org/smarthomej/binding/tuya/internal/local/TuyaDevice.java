@@ -35,6 +35,7 @@ import org.smarthomej.binding.tuya.internal.local.handlers.TuyaEncoder;
 import org.smarthomej.binding.tuya.internal.local.handlers.TuyaMessageHandler;
 import org.smarthomej.binding.tuya.internal.local.handlers.UserEventHandler;
 import org.smarthomej.binding.tuya.internal.util.CryptoUtil;
+import org.smarthomej.binding.tuya.internal.util.SessionCrypto;
 
 import com.google.gson.Gson;
 
@@ -168,16 +169,21 @@ public class TuyaDevice implements ChannelFutureListener {
     public static class KeyStore {
         private final byte[] deviceKey;
         private byte[] sessionKey;
+        private SessionCrypto sessionCrypto;
         private byte[] random;
 
         public KeyStore(byte[] deviceKey) {
             this.deviceKey = deviceKey;
             this.sessionKey = deviceKey;
+            this.sessionCrypto = new SessionCrypto(deviceKey);
             this.random = CryptoUtil.generateRandom(16).clone();
         }
 
         public void reset() {
-            this.sessionKey = this.deviceKey;
+            if (this.sessionKey != this.deviceKey) {
+                this.sessionKey = this.deviceKey;
+                this.sessionCrypto = new SessionCrypto(deviceKey);
+            }
             this.random = CryptoUtil.generateRandom(16).clone();
         }
 
@@ -191,6 +197,16 @@ public class TuyaDevice implements ChannelFutureListener {
 
         public void setSessionKey(byte[] sessionKey) {
             this.sessionKey = sessionKey;
+            this.sessionCrypto = new SessionCrypto(sessionKey);
+        }
+
+        /**
+         * get the (cached) ciphers for the current session key
+         *
+         * @return the {@link SessionCrypto} for the session key
+         */
+        public SessionCrypto getSessionCrypto() {
+            return sessionCrypto;
         }
 
         public byte[] getRandom() {
@@ -22,6 +22,7 @@ import static org.smarthomej.binding.tuya.internal.local.ProtocolVersion.V3_3;
 import static org.smarthomej.binding.tuya.internal.local.ProtocolVersion.V3_4;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
@@ -39,11 +40,13 @@ import org.smarthomej.binding.tuya.internal.local.TuyaDevice;
 import org.smarthomej.binding.tuya.internal.local.dto.DiscoveryMessage;
 import org.smarthomej.binding.tuya.internal.local.dto.TcpStatusPayload;
 import org.smarthomej.binding.tuya.internal.util.CryptoUtil;
+import org.smarthomej.binding.tuya.internal.util.SessionCrypto;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 
@@ -56,6 +59,9 @@ import io.netty.handler.codec.ByteToMessageDecoder;
  */
 @NonNullByDefault
 public class TuyaDecoder extends ByteToMessageDecoder {
+    // protects against allocating huge buffers for corrupted length fields
+    private static final int MAX_PAYLOAD_LENGTH = 65536;
+
     private final Logger logger = LoggerFactory.getLogger(TuyaDecoder.class);
 
     private final TuyaDevice.KeyStore keyStore;
@@ -78,53 +84,48 @@ public class TuyaDecoder extends ByteToMessageDecoder {
             return;
         }
 
-        // we need to take a copy first so the buffer stays intact if we exit early
-        ByteBuf inCopy = in.copy();
-        byte[] bytes = new byte[inCopy.readableBytes()];
-        inCopy.readBytes(bytes);
-        inCopy.release();
-
-        if (logger.isTraceEnabled()) {
-            logger.trace("{}{}: Received encoded '{}'", deviceId,
-                    Objects.requireNonNullElse(ctx.channel().remoteAddress(), ""), HexUtils.bytesToHex(bytes));
+        // the length field does not include the 16 bytes header
+        int payloadLength = in.getInt(in.readerIndex() + 12);
+        int minimumPayloadLength = version == V3_4 ? 36 : 8;
+        if (payloadLength < minimumPayloadLength || payloadLength > MAX_PAYLOAD_LENGTH) {
+            logger.warn("{}{}: Decoding failed: Invalid payload length {}, discarding received data.", deviceId,
+                    Objects.requireNonNullElse(ctx.channel().remoteAddress(), ""), payloadLength);
+            in.skipBytes(in.readableBytes());
+            return;
         }
 
-        ByteBuffer buffer = ByteBuffer.wrap(bytes);
-        int prefix = buffer.getInt();
-        int sequenceNumber = buffer.getInt();
-        CommandType commandType = CommandType.fromCode(buffer.getInt());
-        int payloadLength = buffer.getInt();
-
-        //
-        if (buffer.limit() < payloadLength + 16) {
+        if (in.readableBytes() < payloadLength + 16) {
             // there are less bytes than needed, exit early
             logger.trace("Did not receive enough bytes from '{}', exiting early", deviceId);
             return;
-        } else {
-            // we have enough bytes, skip them from the input buffer and proceed processing
-            in.skipBytes(payloadLength + 16);
         }
 
-        int returnCode = buffer.getInt();
-
-        byte[] payload;
-        if ((returnCode & 0xffffff00) != 0) {
-            // rewind if no return code is present
-            buffer.position(buffer.position() - 4);
-            payload = version == V3_4 ? new byte[payloadLength - 32] : new byte[payloadLength - 8];
-        } else {
-            payload = version == V3_4 ? new byte[payloadLength - 32 - 8] : new byte[payloadLength - 8 - 4];
+        // the slice shares the content of the input buffer, it is only valid until this method returns
+        ByteBuf frame = in.readSlice(payloadLength + 16);
+        if (logger.isTraceEnabled()) {
+            logger.trace("{}{}: Received encoded '{}'", deviceId,
+                    Objects.requireNonNullElse(ctx.channel().remoteAddress(), ""), ByteBufUtil.hexDump(frame));
         }
 
-        buffer.get(payload);
+        ByteBuffer buffer = frame.nioBuffer();
+        int prefix = buffer.getInt(0);
+        CommandType commandType = CommandType.fromCode(buffer.getInt(8));
+        int returnCode = buffer.getInt(16);
+
+        // checksum (CRC or HMAC) and suffix
+        int payloadEnd = 16 + payloadLength - (version == V3_4 ? 36 : 8);
+        int payloadStart = 16;
+        if ((returnCode & 0xffffff00) == 0 && payloadEnd >= 20) {
+            // skip return code if present
+            payloadStart = 20;
+        }
 
+        SessionCrypto sessionCrypto = keyStore.getSessionCrypto();
         if (version == V3_4 && commandType != UDP && commandType != UDP_NEW) {
-            byte[] fullMessage = new byte[buffer.position()];
-            buffer.position(0);
-            buffer.get(fullMessage);
             byte[] expectedHmac = new byte[32];
+            buffer.position(payloadEnd);
             buffer.get(expectedHmac);
-            byte[] calculatedHmac = CryptoUtil.hmac(fullMessage, keyStore.getSessionKey());
+            byte[] calculatedHmac = sessionCrypto.hmac(buffer.duplicate().position(0).limit(payloadEnd));
             if (!Arrays.equals(expectedHmac, calculatedHmac)) {
                 logger.warn("{}{}: Checksum failed for message: calculated {}, found {}", deviceId,
                         Objects.requireNonNullElse(ctx.channel().remoteAddress(), ""),
@@ -133,9 +134,9 @@ public class TuyaDecoder extends ByteToMessageDecoder {
                 return;
             }
         } else {
-            int crc = buffer.getInt();
+            int crc = buffer.getInt(payloadEnd);
             // header + payload without suffix and checksum
-            int calculatedCrc = CryptoUtil.calculateChecksum(bytes, 0, 16 + payloadLength - 8);
+            int calculatedCrc = CryptoUtil.calculateChecksum(buffer, 0, payloadEnd);
             if (calculatedCrc != crc) {
                 logger.warn("{}{}: Checksum failed for message: calculated {}, found {}", deviceId,
                         Objects.requireNonNullElse(ctx.channel().remoteAddress(), ""), calculatedCrc, crc);
@@ -143,30 +144,30 @@ public class TuyaDecoder extends ByteToMessageDecoder {
             }
         }
 
-        int suffix = buffer.getInt();
+        int suffix = buffer.getInt(payloadLength + 12);
         if (prefix != 0x000055aa || suffix != 0x0000aa55) {
             logger.warn("{}{}: Decoding failed: Prefix or suffix invalid.", deviceId,
                     Objects.requireNonNullElse(ctx.channel().remoteAddress(), ""));
             return;
         }
 
-        if (Arrays.equals(Arrays.copyOfRange(payload, 0, version.getBytes().length), version.getBytes())) {
+        ByteBuffer payload = buffer.duplicate().position(payloadStart).limit(payloadEnd);
+        if (startsWithVersion(payload)) {
             if (version == V3_3) {
                 // Remove 3.3 header
-                payload = Arrays.copyOfRange(payload, 15, payload.length);
+                payload.position(payloadStart + 15);
             } else {
-                payload = Base64.getDecoder().decode(Arrays.copyOfRange(payload, 19, payload.length));
+                payload = Base64.getDecoder().decode(payload.position(payloadStart + 19));
             }
         }
 
         MessageWrapper<?> m;
         if (commandType == UDP) {
             // UDP is unencrypted
-            m = new MessageWrapper<>(commandType,
-                    Objects.requireNonNull(gson.fromJson(new String(payload), DiscoveryMessage.class)));
+            m = new MessageWrapper<>(commandType, Objects.requireNonNull(
+                    gson.fromJson(StandardCharsets.UTF_8.decode(payload).toString(), DiscoveryMessage.class)));
         } else {
-            byte[] decodedMessage = version == V3_4 ? CryptoUtil.decryptAesEcb(payload, keyStore.getSessionKey(), true)
-                    : CryptoUtil.decryptAesEcb(payload, keyStore.getDeviceKey(), false);
+            byte[] decodedMessage = sessionCrypto.decryptAesEcb(payload, version == V3_4);
             if (decodedMessage == null) {
                 return;
             }
@@ -210,4 +211,17 @@ public class TuyaDecoder extends ByteToMessageDecoder {
         logger.debug("{}{}: Received {}", deviceId, Objects.requireNonNullElse(ctx.channel().remoteAddress(), ""), m);
         out.add(m);
     }
+
+    private boolean startsWithVersion(ByteBuffer payload) {
+        byte[] versionBytes = version.getBytes();
+        if (payload.remaining() < versionBytes.length) {
+            return false;
+        }
+        for (int i = 0; i < versionBytes.length; i++) {
+            if (payload.get(payload.position() + i) != versionBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
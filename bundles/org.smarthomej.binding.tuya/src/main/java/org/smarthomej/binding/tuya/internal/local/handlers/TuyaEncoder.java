@@ -136,7 +136,7 @@ public class TuyaEncoder extends MessageToByteEncoder<MessageWrapper<?>> {
         byte[] payloadBytes = payload;
         if (version == V3_3) {
             // Always encrypted
-            payloadBytes = CryptoUtil.encryptAesEcb(payloadBytes, keyStore.getDeviceKey(), true);
+            payloadBytes = keyStore.getSessionCrypto().encryptAesEcb(payloadBytes, true);
             if (payloadBytes == null) {
                 return Optional.empty();
             }
@@ -151,7 +151,7 @@ public class TuyaEncoder extends MessageToByteEncoder<MessageWrapper<?>> {
             }
         } else if (CommandType.CONTROL.equals(commandType)) {
             // Protocol 3.1 and below, only encrypt data if necessary
-            byte[] encryptedPayload = CryptoUtil.encryptAesEcb(payloadBytes, keyStore.getDeviceKey(), true);
+            byte[] encryptedPayload = keyStore.getSessionCrypto().encryptAesEcb(payloadBytes, true);
             if (encryptedPayload == null) {
                 return Optional.empty();
             }
@@ -202,7 +202,7 @@ public class TuyaEncoder extends MessageToByteEncoder<MessageWrapper<?>> {
         Arrays.fill(padded, padding);
         System.arraycopy(rawPayload, 0, padded, 0, rawPayload.length);
 
-        byte[] encryptedPayload = CryptoUtil.encryptAesEcb(padded, keyStore.getSessionKey(), false);
+        byte[] encryptedPayload = keyStore.getSessionCrypto().encryptAesEcb(padded, false);
         if (encryptedPayload == null) {
             return Optional.empty();
         }
@@ -219,9 +219,7 @@ public class TuyaEncoder extends MessageToByteEncoder<MessageWrapper<?>> {
         buffer.put(encryptedPayload);
 
         // Calculate and add checksum
-        byte[] checksumContent = new byte[encryptedPayload.length + 16];
-        System.arraycopy(buffer.array(), 0, checksumContent, 0, encryptedPayload.length + 16);
-        byte[] checksum = CryptoUtil.hmac(checksumContent, this.keyStore.getSessionKey());
+        byte[] checksum = keyStore.getSessionCrypto().hmac(buffer.array(), 0, encryptedPayload.length + 16);
         if (checksum == null) {
             return Optional.empty();
         }
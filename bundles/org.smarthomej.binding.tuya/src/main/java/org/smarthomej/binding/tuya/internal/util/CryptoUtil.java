@@ -12,13 +12,13 @@
  */
 package org.smarthomej.binding.tuya.internal.util;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.Random;
 
@@ -103,6 +103,24 @@ public class CryptoUtil {
         return ~crc;
     }
 
+    /**
+     * Compute a Tuya compatible checksum
+     *
+     * @param buffer a {@link ByteBuffer} containing the input data
+     * @param start the start position of the checksum calculation (absolute index in the buffer)
+     * @param end the end position of the checksum position (absolute index in the buffer)
+     * @return the calculated checksum
+     */
+    public static int calculateChecksum(ByteBuffer buffer, int start, int end) {
+        int crc = 0xffffffff;
+
+        for (int i = start; i < end; i++) {
+            crc = (crc >>> 8) ^ CRC_32_TABLE[(crc ^ buffer.get(i)) & 0xff];
+        }
+
+        return ~crc;
+    }
+
     /**
      * Calculate an SHA-256 hash of the input data
      *
@@ -188,36 +206,6 @@ public class CryptoUtil {
         return null;
     }
 
-    /**
-     * Decrypt an AES-ECB encoded message
-     *
-     * @param data the message as array of bytes
-     * @param key the key as array of bytes
-     * @param unpad remove padding (for protocol 3.4)
-     * @return the decrypted message as String (or null if decryption failed)
-     */
-    public static byte @Nullable [] decryptAesEcb(byte[] data, byte[] key, boolean unpad) {
-        if (data.length == 0) {
-            return data.clone();
-        }
-        try {
-            SecretKey secretKey = new SecretKeySpec(key, "AES");
-            final Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            byte[] decrypted = cipher.doFinal(data);
-            if (unpad) {
-                int padlength = decrypted[decrypted.length - 1];
-                return Arrays.copyOf(decrypted, decrypted.length - padlength);
-            }
-            return decrypted;
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException
-                | BadPaddingException e) {
-            LOGGER.warn("Decryption of MQ failed: {}", e.getMessage());
-        }
-
-        return null;
-    }
-
     /**
      * Encrypt an AES-ECB encoded message
      *
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tuya.internal.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * The {@link SchemaStore} provides the stored product schemas
+ *
+ * The schema resource contains one product per line (sorted by product id, see src/main/tool/convert.js). On first
+ * access only the product ids and the position of their schema are indexed, a schema is decoded when it is requested
+ * and cached afterwards.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class SchemaStore {
+    private static final Type SCHEMA_TYPE = TypeToken.getParameterized(Map.class, String.class, SchemaDp.class)
+            .getType();
+    private static final int MAX_PRODUCT_ID_LENGTH = 64;
+
+    private final Logger logger = LoggerFactory.getLogger(SchemaStore.class);
+    private final Gson gson = new Gson();
+    private final String resourceName;
+    private final Map<String, Map<String, SchemaDp>> schemas = new ConcurrentHashMap<>();
+
+    private @Nullable Index index;
+
+    public SchemaStore(String resourceName) {
+        this.resourceName = resourceName;
+    }
+
+    /**
+     * get the stored schema of a product
+     *
+     * @param productId the product id
+     * @return the schema (map of data point code to {@link SchemaDp}) or {@code null} if no schema is stored
+     */
+    public @Nullable Map<String, SchemaDp> get(String productId) {
+        return schemas.computeIfAbsent(productId, this::load);
+    }
+
+    private @Nullable Map<String, SchemaDp> load(String productId) {
+        Index index = getIndex();
+        int i = Arrays.binarySearch(index.productIds, productId);
+        if (i < 0) {
+            return null;
+        }
+
+        try (InputStream in = openResource()) {
+            skipFully(in, index.offsets[i]);
+            byte[] schema = in.readNBytes(index.lengths[i]);
+            if (schema.length != index.lengths[i]) {
+                throw new EOFException("Unexpected end of resource");
+            }
+            return gson.fromJson(new String(schema, StandardCharsets.UTF_8), SCHEMA_TYPE);
+        } catch (IOException | JsonParseException e) {
+            logger.warn("Failed to read schema for product '{}' from '{}': {}", productId, resourceName,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    private synchronized Index getIndex() {
+        Index index = this.index;
+        if (index == null) {
+            try {
+                index = buildIndex();
+                logger.debug("Indexed {} product schemas in '{}'", index.count, resourceName);
+            } catch (IOException e) {
+                logger.warn("Failed to read '{}', discovery might fail: {}", resourceName, e.getMessage());
+                index = new Index();
+            }
+            this.index = index;
+        }
+        return index;
+    }
+
+    private Index buildIndex() throws IOException {
+        Index index = new Index();
+
+        try (InputStream in = openResource()) {
+            byte[] buffer = new byte[8192];
+            // the beginning of the current line, enough to extract the product id
+            byte[] head = new byte[MAX_PRODUCT_ID_LENGTH + 3];
+            int headLength = 0;
+            int lineStart = 0;
+            int contentEnd = 0;
+            int position = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++, position++) {
+                    byte b = buffer[i];
+                    if (b == '\n') {
+                        addLine(index, head, headLength, lineStart, contentEnd);
+                        lineStart = position + 1;
+                        headLength = 0;
+                    } else {
+                        if (headLength < head.length) {
+                            head[headLength++] = b;
+                        }
+                        if (b != ',' && b != '\r' && b != ' ' && b != '\t') {
+                            contentEnd = position + 1;
+                        }
+                    }
+                }
+            }
+            addLine(index, head, headLength, lineStart, contentEnd);
+        }
+
+        index.sort();
+        return index;
+    }
+
+    /**
+     * add a line of the format "&lt;productId&gt;":&lt;schema&gt;[,] to the index, other lines are ignored
+     */
+    private void addLine(Index index, byte[] head, int headLength, int lineStart, int contentEnd) {
+        if (headLength == 0 || head[0] != '"') {
+            return;
+        }
+        int idEnd = 1;
+        while (idEnd < headLength && head[idEnd] != '"') {
+            idEnd++;
+        }
+        if (idEnd + 1 >= headLength || head[idEnd + 1] != ':') {
+            logger.debug("Ignoring unexpected line at position {} in '{}'", lineStart, resourceName);
+            return;
+        }
+        int offset = lineStart + idEnd + 2;
+        index.add(new String(head, 1, idEnd - 1, StandardCharsets.UTF_8), offset, contentEnd - offset);
+    }
+
+    private InputStream openResource() throws IOException {
+        InputStream resource = SchemaStore.class.getClassLoader().getResourceAsStream(resourceName);
+        if (resource == null) {
+            throw new IOException("Could not find resource file");
+        }
+        return resource;
+    }
+
+    private static void skipFully(InputStream in, long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                if (in.read() == -1) {
+                    throw new EOFException("Unexpected end of resource");
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * product ids and position of the corresponding schema in the resource
+     */
+    private static class Index {
+        private String[] productIds = new String[0];
+        private int[] offsets = new int[0];
+        private int[] lengths = new int[0];
+        private int count = 0;
+
+        private void add(String productId, int offset, int length) {
+            if (count == productIds.length) {
+                int capacity = Math.max(2 * count, 1024);
+                productIds = Arrays.copyOf(productIds, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            productIds[count] = productId;
+            offsets[count] = offset;
+            lengths[count] = length;
+            count++;
+        }
+
+        /**
+         * sort by product id (the resource is usually sorted already)
+         */
+        private void sort() {
+            productIds = Arrays.copyOf(productIds, count);
+            offsets = Arrays.copyOf(offsets, count);
+            lengths = Arrays.copyOf(lengths, count);
+
+            boolean sorted = true;
+            for (int i = 1; i < count && sorted; i++) {
+                sorted = productIds[i - 1].compareTo(productIds[i]) < 0;
+            }
+            if (sorted) {
+                return;
+            }
+            Integer[] order = new Integer[count];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.comparing(i -> productIds[i]));
+
+            String[] sortedIds = new String[count];
+            int[] sortedOffsets = new int[count];
+            int[] sortedLengths = new int[count];
+            for (int i = 0; i < count; i++) {
+                sortedIds[i] = productIds[order[i]];
+                sortedOffsets[i] = offsets[order[i]];
+                sortedLengths[i] = lengths[order[i]];
+            }
+            productIds = sortedIds;
+            offsets = sortedOffsets;
+            lengths = sortedLengths;
+        }
+    }
+}
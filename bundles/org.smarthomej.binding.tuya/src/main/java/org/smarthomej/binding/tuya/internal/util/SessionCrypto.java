@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tuya.internal.util;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.Mac;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SessionCrypto} encrypts/decrypts and authenticates messages with a fixed key
+ *
+ * The {@link Cipher} and {@link Mac} instances are created on first use and re-used for all following messages. Like
+ * these instances, this class is not thread-safe and should only be used by the handlers of a single connection.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class SessionCrypto {
+    private final Logger logger = LoggerFactory.getLogger(SessionCrypto.class);
+
+    private final SecretKeySpec aesKey;
+    private final SecretKeySpec hmacKey;
+
+    private @Nullable Cipher decryptCipher;
+    private @Nullable Cipher encryptCipher;
+    private @Nullable Cipher encryptPaddingCipher;
+    private @Nullable Mac mac;
+
+    public SessionCrypto(byte[] key) {
+        this.aesKey = new SecretKeySpec(key, "AES");
+        this.hmacKey = new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    /**
+     * Decrypt an AES-ECB encoded message
+     *
+     * @param data the message, all remaining bytes are decrypted
+     * @param unpad remove padding (for protocol 3.4)
+     * @return the decrypted message as array of bytes (or null if decryption failed)
+     */
+    public byte @Nullable [] decryptAesEcb(ByteBuffer data, boolean unpad) {
+        if (!data.hasRemaining()) {
+            return new byte[0];
+        }
+        try {
+            Cipher cipher = decryptCipher;
+            if (cipher == null) {
+                cipher = Cipher.getInstance("AES/ECB/NoPadding");
+                cipher.init(Cipher.DECRYPT_MODE, aesKey);
+                decryptCipher = cipher;
+            }
+            byte[] decrypted = new byte[cipher.getOutputSize(data.remaining())];
+            int length = cipher.doFinal(data, ByteBuffer.wrap(decrypted));
+            if (unpad) {
+                int padlength = decrypted[length - 1];
+                if (padlength < 1 || padlength > length) {
+                    logger.warn("Decryption of MQ failed: invalid padding");
+                    return null;
+                }
+                length -= padlength;
+            }
+            return length == decrypted.length ? decrypted : Arrays.copyOf(decrypted, length);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException
+                | BadPaddingException | ShortBufferException e) {
+            // the state of the cipher is undefined after an exception
+            decryptCipher = null;
+            logger.warn("Decryption of MQ failed: {}", e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Encrypt an AES-ECB encoded message
+     *
+     * @param data the message as array of bytes
+     * @param padding add PKCS5 padding
+     * @return the encrypted message as array of bytes (or null if encryption failed)
+     */
+    public byte @Nullable [] encryptAesEcb(byte[] data, boolean padding) {
+        try {
+            Cipher cipher = padding ? encryptPaddingCipher : encryptCipher;
+            if (cipher == null) {
+                cipher = Cipher.getInstance(padding ? "AES/ECB/PKCS5Padding" : "AES/ECB/NoPadding");
+                cipher.init(Cipher.ENCRYPT_MODE, aesKey);
+                if (padding) {
+                    encryptPaddingCipher = cipher;
+                } else {
+                    encryptCipher = cipher;
+                }
+            }
+            return cipher.doFinal(data);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException | IllegalBlockSizeException
+                | BadPaddingException e) {
+            // the state of the cipher is undefined after an exception
+            encryptPaddingCipher = null;
+            encryptCipher = null;
+            logger.warn("Encryption of MQ failed: {}", e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Calculate the HMAC-SHA256 of a message
+     *
+     * @param data the message, all remaining bytes are used
+     * @return the HMAC as array of bytes (or null if the calculation failed)
+     */
+    public byte @Nullable [] hmac(ByteBuffer data) {
+        Mac mac = getMac();
+        if (mac == null) {
+            return null;
+        }
+        mac.update(data);
+        return mac.doFinal();
+    }
+
+    /**
+     * Calculate the HMAC-SHA256 of a part of a message
+     *
+     * @param data the message as array of bytes
+     * @param offset the start of the part
+     * @param length the length of the part
+     * @return the HMAC as array of bytes (or null if the calculation failed)
+     */
+    public byte @Nullable [] hmac(byte[] data, int offset, int length) {
+        return hmac(ByteBuffer.wrap(data, offset, length));
+    }
+
+    private @Nullable Mac getMac() {
+        Mac mac = this.mac;
+        if (mac == null) {
+            try {
+                mac = Mac.getInstance("HmacSHA256");
+                mac.init(hmacKey);
+                this.mac = mac;
+            } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+                logger.warn("Creating HMAC hash failed: {}", e.getMessage());
+            }
+        }
+        return mac;
+    }
+}
@@ -60,7 +60,10 @@ http.get("https://raw.githubusercontent.com/Apollon77/ioBroker.tuya/master/lib/s
             }
         }
 
-        fs.writeFile('../resources/schema.json', JSON.stringify(convertedSchemas, null, '\t'), (err) => {
+        // one product per line, sorted by product id: the binding indexes the file without parsing it
+        const lines = Object.keys(convertedSchemas).sort()
+            .map(productKey => JSON.stringify(productKey) + ':' + JSON.stringify(convertedSchemas[productKey]));
+        fs.writeFile('../resources/schema.json', '{\n' + lines.join(',\n') + '\n}\n', (err) => {
             if (err) throw err;
         });
     });
@@ -33,6 +33,7 @@ import org.smarthomej.binding.tuya.internal.local.TuyaDevice;
 
 import com.google.gson.Gson;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
@@ -69,4 +70,31 @@ public class TuyaDecoderTest {
         MessageWrapper<?> result = (MessageWrapper<?>) out.get(0);
         assertThat(result.content, is(expectedResult));
     }
+
+    @Test
+    public void decodePartialFramesTest() throws Exception {
+        when(ctx.channel()).thenReturn(channelMock);
+
+        TuyaDevice.KeyStore keyStore = new TuyaDevice.KeyStore("5c8c3ccc1f0fbdbb".getBytes(StandardCharsets.UTF_8));
+        byte[] packet = HexUtils.hexToBytes(
+                "000055aa0000fc6c0000000400000068000000004b578f442ec0802f26ca6794389ce4ebf57f94561e9367569b0ff90afebe08765460b35678102c0a96b666a6f6a3aabf9328e42ea1f29fd0eca40999ab964927c340dba68f847cb840b473c19572f8de9e222de2d5b1793dc7d4888a8b4f11b00000aa55");
+
+        List<Object> out = new ArrayList<>();
+        TuyaDecoder decoder = new TuyaDecoder(gson, "", keyStore, V3_4);
+
+        // incomplete frame is not consumed
+        ByteBuf in = Unpooled.buffer();
+        in.writeBytes(packet, 0, 50);
+        decoder.decode(ctx, in, out);
+        assertThat(out, hasSize(0));
+        assertThat(in.readerIndex(), is(0));
+
+        // rest of first frame and complete second frame
+        in.writeBytes(packet, 50, packet.length - 50);
+        in.writeBytes(packet);
+        decoder.decode(ctx, in, out);
+        decoder.decode(ctx, in, out);
+        assertThat(out, hasSize(2));
+        assertThat(in.readableBytes(), is(0));
+    }
 }
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tuya.internal.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link SchemaStoreTest} contains tests for the {@link SchemaStore}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class SchemaStoreTest {
+
+    @Test
+    public void storedSchemaIsFound() {
+        SchemaStore schemaStore = new SchemaStore("schema.json");
+
+        Map<String, SchemaDp> schema = Objects.requireNonNull(schemaStore.get("8FAPq5h6gdV51Vcr"));
+        assertThat(schema.keySet(),
+                contains("switch_on", "countdown", "add_ele", "cur_current", "cur_power", "cur_voltage"));
+
+        SchemaDp schemaDp = Objects.requireNonNull(schema.get("cur_power"));
+        assertThat(schemaDp.id, is(5));
+        assertThat(schemaDp.type, is("value"));
+        assertThat(schemaDp.max, is(50000.0));
+
+        // decoded schemas are cached
+        assertThat(schemaStore.get("8FAPq5h6gdV51Vcr"), is(sameInstance(schema)));
+    }
+
+    @Test
+    public void unknownSchemaIsNotFound() {
+        assertThat(new SchemaStore("schema.json").get("unknownProduct"), is(nullValue()));
+        assertThat(new SchemaStore("missing.json").get("8FAPq5h6gdV51Vcr"), is(nullValue()));
+    }
+}
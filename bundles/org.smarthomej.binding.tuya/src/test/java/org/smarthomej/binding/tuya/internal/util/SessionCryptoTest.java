@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.binding.tuya.internal.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.util.HexUtils;
+
+/**
+ * The {@link SessionCryptoTest} contains tests for the {@link SessionCrypto}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class SessionCryptoTest {
+    private final byte[] key = "5c8c3ccc1f0fbdbb".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void encryptDecryptRoundtrip() {
+        SessionCrypto sessionCrypto = new SessionCrypto(key);
+        byte[] message = "{\"dps\":{\"1\":true}}".getBytes(StandardCharsets.UTF_8);
+
+        // ciphers are re-used for subsequent messages
+        for (int i = 0; i < 2; i++) {
+            byte[] encrypted = sessionCrypto.encryptAesEcb(message, true);
+            assertThat(encrypted, is(CryptoUtil.encryptAesEcb(message, key, true)));
+            assertThat(sessionCrypto.decryptAesEcb(ByteBuffer.wrap(encrypted), true), is(message));
+        }
+    }
+
+    @Test
+    public void hmac() {
+        SessionCrypto sessionCrypto = new SessionCrypto(key);
+        byte[] data = HexUtils.hexToBytes("002F4311CF69649F40166D4B98E7F9ABAA00");
+        byte[] expected = CryptoUtil.hmac(HexUtils.hexToBytes("2F4311CF69649F40166D4B98E7F9ABAA"), key);
+
+        assertThat(sessionCrypto.hmac(data, 1, 16), is(expected));
+        assertThat(sessionCrypto.hmac(ByteBuffer.wrap(data, 1, 16)), is(expected));
+    }
+}
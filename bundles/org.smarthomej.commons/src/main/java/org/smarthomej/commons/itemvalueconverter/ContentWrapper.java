@@ -13,44 +13,270 @@
  */
 package org.smarthomej.commons.itemvalueconverter;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.lang.ref.SoftReference;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * The {@link ContentWrapper} defines the pre-processed response
+ * <p>
+ * The decoded string and all parsed representations are created lazily and cached, so that all consumers of the same
+ * content share them.
+ * <p>
+ * Large content can be spooled to a file. In that case the content is only read into memory if
+ * {@link #getRawContent()} or {@link #getAsString()} is called, consumers of spooled content should use
+ * {@link #getInputStream()} instead whenever they can process the content incrementally.
+ * <p>
+ * The creator of the content and every party that keeps it (e.g. a cache) are owners of the content (see
+ * {@link #retain()}) and have to {@link #close()} it when they no longer need it. The file is deleted as soon as the
+ * last owner closed the content, or when the {@link ContentWrapper} is garbage collected.
  *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
-public class ContentWrapper {
-    private final byte[] rawContent;
+public class ContentWrapper implements AutoCloseable {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final byte @Nullable [] rawContent;
+    private final @Nullable Path contentFile;
+    private final long length;
     private final Charset encoding;
     private final @Nullable String mediaType;
+    private final Cleaner.@Nullable Cleanable cleanable;
+    // the creator is the first owner
+    private final AtomicInteger owners = new AtomicInteger(1);
+
+    private volatile @Nullable String contentString;
+    // spooled content is only kept as string as long as memory is available
+    private volatile @Nullable SoftReference<String> softContentString;
+    private final Map<Class<?>, Optional<?>> parsedContent = new ConcurrentHashMap<>();
 
     public ContentWrapper(byte[] rawContent, String encoding, @Nullable String mediaType) {
         this.rawContent = rawContent;
+        this.contentFile = null;
+        this.length = rawContent.length;
+        this.mediaType = mediaType;
+        this.encoding = getCharset(encoding);
+        this.cleanable = null;
+    }
+
+    /**
+     * create a {@link ContentWrapper} for content that has been spooled to a file
+     * <p>
+     * The wrapper takes ownership of the file, it is deleted when the wrapper is closed by all owners or garbage
+     * collected.
+     *
+     * @param contentFile the file containing the raw content
+     * @param encoding the encoding of the content
+     * @param mediaType the media type of the content (may be <code>null</code>)
+     * @throws IOException if the size of the file can't be determined
+     */
+    public ContentWrapper(Path contentFile, String encoding, @Nullable String mediaType) throws IOException {
+        this.rawContent = null;
+        this.contentFile = contentFile;
+        this.length = Files.size(contentFile);
         this.mediaType = mediaType;
+        this.encoding = getCharset(encoding);
 
-        Charset finalEncoding = StandardCharsets.UTF_8;
+        this.cleanable = CLEANER.register(this, () -> {
+            try {
+                Files.deleteIfExists(contentFile);
+            } catch (IOException e) {
+                contentFile.toFile().deleteOnExit();
+            }
+        });
+    }
+
+    private static Charset getCharset(String encoding) {
         try {
-            finalEncoding = Charset.forName(encoding);
+            return Charset.forName(encoding);
         } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    /**
+     * add an owner to this content
+     * <p>
+     * An owner keeps the content after it has been passed on and has to call {@link #close()} when the content is no
+     * longer needed.
+     *
+     * @return <code>false</code> if the content has already been closed by all owners and can't be used anymore
+     */
+    public boolean retain() {
+        return owners.getAndUpdate(o -> o > 0 ? o + 1 : o) > 0;
+    }
+
+    /**
+     * release the content for one owner
+     * <p>
+     * When the last owner released the content, a spooled file is deleted. Content that is held in memory stays
+     * available.
+     */
+    @Override
+    public void close() {
+        Cleaner.Cleanable cleanable = this.cleanable;
+        if (owners.getAndUpdate(o -> Math.max(0, o - 1)) == 1 && cleanable != null) {
+            cleanable.clean();
         }
-        this.encoding = finalEncoding;
     }
 
+    /**
+     * get the raw content
+     * <p>
+     * If the content has been spooled to a file, the file is read on every call, use {@link #getInputStream()} if
+     * possible.
+     *
+     * @return the raw content
+     * @throws UncheckedIOException if the spooled content can't be read
+     */
     public byte[] getRawContent() {
-        return rawContent;
+        byte[] rawContent = this.rawContent;
+        if (rawContent != null) {
+            return rawContent;
+        }
+        try {
+            return Files.readAllBytes(Objects.requireNonNull(contentFile));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * get an {@link InputStream} for the raw content (needs to be closed by the caller)
+     *
+     * @return the stream
+     * @throws IOException if the spooled content can't be read
+     */
+    public InputStream getInputStream() throws IOException {
+        byte[] rawContent = this.rawContent;
+        if (rawContent != null) {
+            return new ByteArrayInputStream(rawContent);
+        }
+        return new BufferedInputStream(Files.newInputStream(Objects.requireNonNull(contentFile)));
     }
 
+    /**
+     * check if this content has been spooled to a file
+     *
+     * @return <code>true</code> if the content is not held in memory
+     */
+    public boolean isSpooled() {
+        return contentFile != null;
+    }
+
+    /**
+     * get the length of the raw content
+     *
+     * @return the length in bytes
+     */
+    public long getLength() {
+        return length;
+    }
+
+    public Charset getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * get the content as string
+     * <p>
+     * The string is cached. If the content has been spooled to a file, the cached string may be dropped when memory
+     * is needed and the file is read again on the next call, use {@link #getInputStream()} if possible.
+     *
+     * @return the decoded content
+     * @throws UncheckedIOException if the spooled content can't be read
+     */
     public String getAsString() {
-        return new String(rawContent, encoding);
+        String contentString = this.contentString;
+        if (contentString != null) {
+            return contentString;
+        }
+        SoftReference<String> softContentString = this.softContentString;
+        contentString = softContentString != null ? softContentString.get() : null;
+        if (contentString == null) {
+            contentString = new String(getRawContent(), encoding);
+            if (contentFile == null) {
+                this.contentString = contentString;
+            } else {
+                this.softContentString = new SoftReference<>(contentString);
+            }
+        }
+        return contentString;
+    }
+
+    /**
+     * compare the raw content with the raw content of another {@link ContentWrapper}
+     * <p>
+     * Spooled content is compared incrementally.
+     *
+     * @param other the other content
+     * @return <code>true</code> if both have the same raw content, <code>false</code> otherwise (or if reading fails)
+     */
+    public boolean hasSameContent(ContentWrapper other) {
+        if (other == this) {
+            return true;
+        }
+        if (other.length != length) {
+            return false;
+        }
+        byte[] rawContent = this.rawContent;
+        byte[] otherRawContent = other.rawContent;
+        if (rawContent != null && otherRawContent != null) {
+            return Arrays.equals(rawContent, otherRawContent);
+        }
+
+        try (InputStream stream = getInputStream(); InputStream otherStream = other.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            byte[] otherBuffer = new byte[8192];
+            int read;
+            while ((read = stream.readNBytes(buffer, 0, buffer.length)) > 0) {
+                if (otherStream.readNBytes(otherBuffer, 0, read) != read
+                        || !Arrays.equals(buffer, 0, read, otherBuffer, 0, read)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
     }
 
     public @Nullable String getMediaType() {
         return mediaType;
     }
+
+    /**
+     * get a parsed representation of this content
+     * <p>
+     * The parser is called at most once for each type, subsequent calls return the cached result. If the parser
+     * returns <code>null</code> (e.g. because the content could not be parsed), this is also cached.
+     *
+     * @param type the class of the parsed representation (used as cache key)
+     * @param parser a {@link Function} that creates the representation from the content string
+     * @return an {@link Optional} containing the parsed representation (empty if parsing failed)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> getParsedContent(Class<T> type, Function<String, @Nullable T> parser) {
+        return (Optional<T>) parsedContent.computeIfAbsent(type,
+                t -> Optional.ofNullable(parser.apply(getAsString())));
+    }
 }
@@ -60,7 +60,7 @@ public abstract class AbstractTransformingItemConverter implements ItemValueConv
             return;
         }
         if (channelConfig.mode != ChannelMode.WRITEONLY) {
-            stateTransformations.apply(content.getAsString()).ifPresent(transformedValue -> {
+            stateTransformations.applyToContent(content).ifPresent(transformedValue -> {
                 Command command = toCommand(transformedValue);
                 if (command != null) {
                     postCommand.accept(command);
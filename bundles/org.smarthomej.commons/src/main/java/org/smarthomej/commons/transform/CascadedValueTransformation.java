@@ -24,6 +24,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.transform.TransformationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
 
 /**
  * The {@link CascadedValueTransformation} implements {@link ValueTransformation for a cascaded set of
@@ -34,17 +35,18 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class CascadedValueTransformation implements ValueTransformation {
     private final Logger logger = LoggerFactory.getLogger(CascadedValueTransformation.class);
-    private final List<ValueTransformation> transformations;
+    private final List<SingleValueTransformation> transformations;
 
     public CascadedValueTransformation(String transformationString,
             Function<String, @Nullable TransformationService> transformationServiceSupplier) {
-        List<ValueTransformation> transformations;
+        List<SingleValueTransformation> transformations;
         try {
             transformations = Arrays.stream(transformationString.split("∩")).filter(s -> !s.isEmpty())
                     .map(transformation -> new SingleValueTransformation(transformation, transformationServiceSupplier))
                     .collect(Collectors.toList());
         } catch (IllegalArgumentException e) {
-            transformations = List.of(NoOpValueTransformation.getInstance());
+            // an empty list passes the value unchanged
+            transformations = List.of();
             logger.warn("Transformation ignored, failed to parse {}: {}", transformationString, e.getMessage());
         }
         this.transformations = transformations;
@@ -52,13 +54,28 @@ public class CascadedValueTransformation implements ValueTransformation {
 
     @Override
     public Optional<String> apply(String value) {
-        Optional<String> valueOptional = Optional.of(value);
+        String result = value;
 
         // process all transformations
-        for (ValueTransformation transformation : transformations) {
-            valueOptional = valueOptional.flatMap(transformation::apply);
+        for (int i = 0; i < transformations.size() && result != null; i++) {
+            result = transformations.get(i).transform(result);
         }
 
-        return valueOptional;
+        return Optional.ofNullable(result);
+    }
+
+    @Override
+    public Optional<String> applyToContent(ContentWrapper content) {
+        if (transformations.isEmpty()) {
+            return Optional.of(content.getAsString());
+        }
+
+        // the first transformation can use the parsed content, all others need to process the string result
+        String result = transformations.get(0).transformContent(content);
+        for (int i = 1; i < transformations.size() && result != null; i++) {
+            result = transformations.get(i).transform(result);
+        }
+
+        return Optional.ofNullable(result);
     }
 }
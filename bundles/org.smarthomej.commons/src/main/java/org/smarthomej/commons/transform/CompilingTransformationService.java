@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.transform;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationService;
+
+/**
+ * The {@link CompilingTransformationService} is a {@link TransformationService} that can prepare a pattern once and
+ * return a {@link CompiledTransformation} that is re-used for every value
+ * <p>
+ * Callers only keep weak references to compiled transformations, implementations are expected to cache them (e.g. by
+ * pattern) for as long as the service is active.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public interface CompilingTransformationService extends TransformationService {
+
+    /**
+     * Compile a transformation pattern
+     *
+     * @param pattern the transformation pattern
+     * @return the compiled transformation
+     * @throws TransformationException if the pattern is invalid
+     */
+    CompiledTransformation compile(String pattern) throws TransformationException;
+
+    /**
+     * A pre-compiled transformation
+     */
+    @FunctionalInterface
+    interface CompiledTransformation {
+
+        /**
+         * Transform a value
+         *
+         * @param source the input value
+         * @return the transformed value or {@code null} if the transformation returned no result
+         * @throws TransformationException if the transformation failed
+         */
+        @Nullable
+        String transform(String source) throws TransformationException;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.transform;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
+
+/**
+ * The {@link ContentExtractor} extracts a value from the parsed representation of a {@link ContentWrapper}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+interface ContentExtractor {
+
+    /**
+     * extract a value from the content
+     *
+     * @param content the content
+     * @return the extracted value or <code>null</code> if the value can't be extracted from the parsed content (the
+     *         transformation service should be used instead)
+     */
+    @Nullable
+    String extract(ContentWrapper content);
+
+    /**
+     * get an extractor for a transformation
+     *
+     * @param serviceName the name of the transformation service
+     * @param pattern the transformation pattern
+     * @return the extractor or <code>null</code> if the pattern can't be handled by an extractor
+     */
+    static @Nullable ContentExtractor forTransformation(String serviceName, String pattern) {
+        switch (serviceName) {
+            case "JSONPATH":
+                return JsonPathContentExtractor.compile(pattern);
+            case "XPATH":
+                return XPathContentExtractor.compile(pattern);
+            default:
+                return null;
+        }
+    }
+}
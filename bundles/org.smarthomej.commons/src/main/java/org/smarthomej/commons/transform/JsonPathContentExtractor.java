@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.transform;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * The {@link JsonPathContentExtractor} evaluates simple JSONPath expressions (like <code>$.data[0].value</code> or
+ * <code>$['data']['value']</code>) on the JSON tree of a {@link ContentWrapper}
+ * <p>
+ * Only definite paths that select a single primitive value are evaluated here, all other expressions and results are
+ * left to the JSONPATH transformation service.
+ * <p>
+ * Content that has been spooled to a file is not parsed into a tree, the path is evaluated while reading the stream.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+class JsonPathContentExtractor implements ContentExtractor {
+    private final List<Object> segments;
+
+    private JsonPathContentExtractor(List<Object> segments) {
+        this.segments = segments;
+    }
+
+    @Override
+    public @Nullable String extract(ContentWrapper content) {
+        if (content.isSpooled()) {
+            return extractFromStream(content);
+        }
+
+        JsonElement element = content.getParsedContent(JsonElement.class, JsonPathContentExtractor::parse)
+                .orElse(null);
+        for (Object segment : segments) {
+            if (element == null) {
+                return null;
+            }
+            if (segment instanceof Integer) {
+                int index = (Integer) segment;
+                if (!element.isJsonArray() || index >= element.getAsJsonArray().size()) {
+                    return null;
+                }
+                element = element.getAsJsonArray().get(index);
+            } else {
+                if (!element.isJsonObject()) {
+                    return null;
+                }
+                element = element.getAsJsonObject().get((String) segment);
+            }
+        }
+
+        if (element == null || !element.isJsonPrimitive()) {
+            return null;
+        }
+
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isNumber()) {
+            return numberToString(primitive.getAsString());
+        }
+        return primitive.getAsString();
+    }
+
+    /**
+     * evaluate the path while reading the content, all values that are not on the path are skipped
+     *
+     * @param content the content
+     * @return the extracted value or <code>null</code> if the value can't be extracted
+     */
+    private @Nullable String extractFromStream(ContentWrapper content) {
+        try (JsonReader reader = new JsonReader(
+                new InputStreamReader(content.getInputStream(), content.getEncoding()))) {
+            reader.setLenient(true);
+            for (Object segment : segments) {
+                if (segment instanceof Integer) {
+                    if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                        return null;
+                    }
+                    reader.beginArray();
+                    for (int i = 0; i < (Integer) segment; i++) {
+                        if (!reader.hasNext()) {
+                            return null;
+                        }
+                        reader.skipValue();
+                    }
+                    if (!reader.hasNext()) {
+                        return null;
+                    }
+                } else {
+                    if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                        return null;
+                    }
+                    reader.beginObject();
+                    while (true) {
+                        if (!reader.hasNext()) {
+                            return null;
+                        }
+                        if (segment.equals(reader.nextName())) {
+                            break;
+                        }
+                        reader.skipValue();
+                    }
+                }
+            }
+
+            switch (reader.peek()) {
+                case NUMBER:
+                    return numberToString(reader.nextString());
+                case STRING:
+                    return reader.nextString();
+                case BOOLEAN:
+                    return Boolean.toString(reader.nextBoolean());
+                default:
+                    return null;
+            }
+        } catch (IOException | IllegalStateException | JsonParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * normalize the number representation in the same way a JSONPath implementation does
+     *
+     * @param number the number as given in the JSON document
+     * @return the normalized string representation
+     */
+    private static String numberToString(String number) {
+        try {
+            if (number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0) {
+                return Double.toString(Double.parseDouble(number));
+            }
+            return new BigInteger(number).toString();
+        } catch (NumberFormatException e) {
+            return number;
+        }
+    }
+
+    private static @Nullable JsonElement parse(String content) {
+        try {
+            return JsonParser.parseString(content);
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * compile a JSONPath expression
+     *
+     * @param pattern the JSONPath expression
+     * @return the extractor or <code>null</code> if the expression is not a simple definite path
+     */
+    static @Nullable JsonPathContentExtractor compile(String pattern) {
+        String path = pattern.trim();
+        if (!path.startsWith("$")) {
+            return null;
+        }
+
+        List<Object> segments = new ArrayList<>();
+        int pos = 1;
+        int length = path.length();
+        while (pos < length) {
+            char c = path.charAt(pos);
+            if (c == '.') {
+                int end = pos + 1;
+                while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                String name = path.substring(pos + 1, end);
+                if (name.isEmpty() || name.equals("*")) {
+                    // deep scan or wildcard
+                    return null;
+                }
+                segments.add(name);
+                pos = end;
+            } else if (c == '[') {
+                int end = path.indexOf(']', pos);
+                if (end == -1) {
+                    return null;
+                }
+                String selector = path.substring(pos + 1, end).trim();
+                if (selector.length() >= 2 && (selector.startsWith("'") && selector.endsWith("'")
+                        || selector.startsWith("\"") && selector.endsWith("\""))) {
+                    String name = selector.substring(1, selector.length() - 1);
+                    if (name.indexOf('\'') >= 0 || name.indexOf('"') >= 0 || name.indexOf(',') >= 0) {
+                        // multiple properties
+                        return null;
+                    }
+                    segments.add(name);
+                } else if (!selector.isEmpty() && selector.chars().allMatch(Character::isDigit)) {
+                    try {
+                        segments.add(Integer.parseInt(selector));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                } else {
+                    // filters, slices, negative indices and wildcards
+                    return null;
+                }
+                pos = end + 1;
+            } else {
+                return null;
+            }
+        }
+
+        return new JsonPathContentExtractor(segments);
+    }
+}
@@ -23,6 +23,8 @@ import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
+import org.smarthomej.commons.transform.CompilingTransformationService.CompiledTransformation;
 
 /**
  * A transformation for a value used in {@HttpChannel}.
@@ -34,9 +36,11 @@ import org.slf4j.LoggerFactory;
 public class SingleValueTransformation implements ValueTransformation {
     private final Logger logger = LoggerFactory.getLogger(SingleValueTransformation.class);
     private final Function<String, @Nullable TransformationService> transformationServiceSupplier;
-    private WeakReference<@Nullable TransformationService> transformationService = new WeakReference<>(null);
+    private volatile WeakReference<@Nullable TransformationService> transformationService = new WeakReference<>(null);
+    private volatile @Nullable CompiledTransformationHolder compiledTransformation;
     private final String pattern;
     private final String serviceName;
+    private final @Nullable ContentExtractor contentExtractor;
 
     /**
      * Creates a new channel state transformer.
@@ -55,32 +59,108 @@ public class SingleValueTransformation implements ValueTransformation {
         }
         this.serviceName = pattern.substring(0, index).toUpperCase().trim();
         this.pattern = pattern.substring(index + 1).trim();
+        this.contentExtractor = ContentExtractor.forTransformation(serviceName, this.pattern);
+    }
+
+    @Override
+    public Optional<String> applyToContent(ContentWrapper content) {
+        return Optional.ofNullable(transformContent(content));
+    }
+
+    /**
+     * apply the transformation to the (possibly already parsed) content without wrapping the result
+     *
+     * @param content the input content
+     * @return the transformed value or {@code null} if the transformation failed or returned no result
+     */
+    @Nullable
+    String transformContent(ContentWrapper content) {
+        ContentExtractor contentExtractor = this.contentExtractor;
+        if (contentExtractor != null && getTransformationService() != null) {
+            String result = contentExtractor.extract(content);
+            if (result != null) {
+                return result;
+            }
+        }
+        return transform(content.getAsString());
     }
 
     @Override
     public Optional<String> apply(String value) {
-        TransformationService transformationService = this.transformationService.get();
+        return Optional.ofNullable(transform(value));
+    }
+
+    /**
+     * apply the transformation without wrapping the result
+     *
+     * @param value the input value
+     * @return the transformed value or {@code null} if the transformation failed or returned no result
+     */
+    @Nullable
+    String transform(String value) {
+        TransformationService transformationService = getTransformationService();
         if (transformationService == null) {
-            transformationService = transformationServiceSupplier.apply(serviceName);
-            if (transformationService == null) {
-                logger.warn("Transformation service {} for pattern {} not found!", serviceName, pattern);
-                return Optional.empty();
-            }
-            this.transformationService = new WeakReference<>(transformationService);
+            logger.warn("Transformation service {} for pattern {} not found!", serviceName, pattern);
+            return null;
         }
 
         try {
-            String result = transformationService.transform(pattern, value);
+            CompiledTransformation compiledTransformation = getCompiledTransformation(transformationService);
+            String result = compiledTransformation != null ? compiledTransformation.transform(value)
+                    : transformationService.transform(pattern, value);
             if (result == null) {
                 logger.debug("Transformation {} returned empty result when applied to {}.", this, value);
-                return Optional.empty();
             }
-            return Optional.of(result);
+            return result;
         } catch (TransformationException e) {
             logger.warn("Executing transformation {} failed: {}", this, e.getMessage());
         }
 
-        return Optional.empty();
+        return null;
+    }
+
+    /**
+     * get the compiled transformation for the given service (if the service supports compiling)
+     *
+     * both the service and the compiled transformation are only weakly referenced, the service is responsible for
+     * keeping its compiled transformations alive, so they are released together with the service
+     */
+    private @Nullable CompiledTransformation getCompiledTransformation(TransformationService transformationService)
+            throws TransformationException {
+        if (!(transformationService instanceof CompilingTransformationService)) {
+            return null;
+        }
+        CompiledTransformationHolder holder = this.compiledTransformation;
+        CompiledTransformation compiledTransformation = holder != null
+                && holder.service.get() == transformationService ? holder.compiledTransformation.get() : null;
+        if (compiledTransformation == null) {
+            compiledTransformation = ((CompilingTransformationService) transformationService).compile(pattern);
+            this.compiledTransformation = new CompiledTransformationHolder(transformationService,
+                    compiledTransformation);
+        }
+        return compiledTransformation;
+    }
+
+    private @Nullable TransformationService getTransformationService() {
+        TransformationService transformationService = this.transformationService.get();
+        if (transformationService == null) {
+            transformationService = transformationServiceSupplier.apply(serviceName);
+            if (transformationService != null) {
+                this.transformationService = new WeakReference<>(transformationService);
+            }
+        }
+        return transformationService;
+    }
+
+    private static class CompiledTransformationHolder {
+        private final WeakReference<TransformationService> service;
+        private final WeakReference<CompiledTransformation> compiledTransformation;
+
+        private CompiledTransformationHolder(TransformationService service,
+                CompiledTransformation compiledTransformation) {
+            this.service = new WeakReference<>(service);
+            this.compiledTransformation = new WeakReference<>(compiledTransformation);
+        }
     }
 
     @Override
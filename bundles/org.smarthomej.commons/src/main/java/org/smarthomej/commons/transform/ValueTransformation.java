@@ -16,6 +16,7 @@ package org.smarthomej.commons.transform;
 import java.util.Optional;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
 
 /**
  * The {@link ValueTransformation} applies a set of transformations to a value
@@ -32,4 +33,18 @@ public interface ValueTransformation {
      * @return Optional of string representing the transformed value (empty if transformation not present or failed)
      */
     Optional<String> apply(String value);
+
+    /**
+     * applies the value transformation to a (received) content
+     * <p>
+     * Implementations may use the parsed representations cached in the {@link ContentWrapper} instead of parsing the
+     * string representation again. The default implementation applies the transformation to the string
+     * representation.
+     *
+     * @param content The content
+     * @return Optional of string representing the transformed value (empty if transformation not present or failed)
+     */
+    default Optional<String> applyToContent(ContentWrapper content) {
+        return apply(content.getAsString());
+    }
 }
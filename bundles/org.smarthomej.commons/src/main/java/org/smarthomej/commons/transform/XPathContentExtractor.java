@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.transform;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * The {@link XPathContentExtractor} evaluates a pre-compiled XPath expression on the DOM of a {@link ContentWrapper}
+ * <p>
+ * Content that has been spooled to a file is not parsed into a DOM, simple absolute paths (like
+ * <code>/data/values/power[2]</code>) are evaluated while reading the stream, all other expressions are left to the
+ * XPATH transformation service.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+class XPathContentExtractor implements ContentExtractor {
+    private static final Pattern SIMPLE_PATH_SEGMENT_PATTERN = Pattern
+            .compile("/([A-Za-z_][A-Za-z0-9_.-]*)(?:\\[([1-9][0-9]*)])?");
+
+    private final XPathExpression expression;
+    private final @Nullable List<PathSegment> simplePath;
+
+    private XPathContentExtractor(XPathExpression expression, @Nullable List<PathSegment> simplePath) {
+        this.expression = expression;
+        this.simplePath = simplePath;
+    }
+
+    @Override
+    public @Nullable String extract(ContentWrapper content) {
+        if (content.isSpooled()) {
+            List<PathSegment> simplePath = this.simplePath;
+            return simplePath != null ? extractFromStream(content, simplePath) : null;
+        }
+
+        Document document = content.getParsedContent(Document.class, XPathContentExtractor::parse).orElse(null);
+        if (document == null) {
+            return null;
+        }
+
+        // neither XPathExpression nor DOM implementations are thread-safe, even for reading
+        synchronized (expression) {
+            synchronized (document) {
+                try {
+                    return (String) expression.evaluate(document, XPathConstants.STRING);
+                } catch (XPathExpressionException e) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * evaluate a simple path (like <code>/data/values/power[2]</code>) while reading the content
+     *
+     * @param content the content
+     * @param simplePath the path segments
+     * @return the string value of the first matching element (empty if no element matches) or <code>null</code> if
+     *         the content could not be parsed
+     */
+    private static @Nullable String extractFromStream(ContentWrapper content, List<PathSegment> simplePath) {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+
+        try (InputStream stream = content.getInputStream()) {
+            XMLStreamReader reader = factory.createXMLStreamReader(stream, content.getEncoding().name());
+            try {
+                // number of path segments matched by the current element and its ancestors
+                int matched = 0;
+                int depth = 0;
+                // number of elements with the name of the next segment below the last matched element
+                int[] siblingCount = new int[simplePath.size()];
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        if (depth == matched) {
+                            PathSegment segment = simplePath.get(matched);
+                            String namespace = reader.getNamespaceURI();
+                            if ((namespace == null || namespace.isEmpty())
+                                    && segment.name.equals(reader.getLocalName())) {
+                                siblingCount[matched]++;
+                                if (segment.position == 0 || segment.position == siblingCount[matched]) {
+                                    matched++;
+                                    if (matched == simplePath.size()) {
+                                        return readText(reader);
+                                    }
+                                    siblingCount[matched] = 0;
+                                }
+                            }
+                        }
+                        depth++;
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        depth--;
+                        if (depth < matched) {
+                            matched = depth;
+                        }
+                    }
+                }
+                return "";
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            return null;
+        }
+    }
+
+    /**
+     * read the string value (i.e. all descendant text) of the current element
+     */
+    private static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE) {
+                text.append(reader.getText());
+            }
+        }
+        return text.toString();
+    }
+
+    private static @Nullable Document parse(String content) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setValidating(false);
+            factory.setNamespaceAware(true);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            // do not try to load external DTDs
+            builder.setEntityResolver((publicId, systemId) -> new InputSource(new StringReader("")));
+            return builder.parse(new InputSource(new StringReader(content)));
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * compile an XPath expression
+     *
+     * @param pattern the XPath expression
+     * @return the extractor or <code>null</code> if the expression could not be compiled
+     */
+    static @Nullable XPathContentExtractor compile(String pattern) {
+        try {
+            return new XPathContentExtractor(XPathFactory.newInstance().newXPath().compile(pattern),
+                    parseSimplePath(pattern.trim()));
+        } catch (XPathExpressionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * parse an absolute path that consists of element names and optional positions only
+     *
+     * @param pattern the XPath expression
+     * @return the path segments or <code>null</code> if the expression is not a simple path
+     */
+    private static @Nullable List<PathSegment> parseSimplePath(String pattern) {
+        List<PathSegment> segments = new ArrayList<>();
+        Matcher matcher = SIMPLE_PATH_SEGMENT_PATTERN.matcher(pattern);
+        int pos = 0;
+        while (pos < pattern.length()) {
+            if (!matcher.find(pos) || matcher.start() != pos) {
+                return null;
+            }
+            String position = matcher.group(2);
+            segments.add(new PathSegment(matcher.group(1), position == null ? 0 : Integer.parseInt(position)));
+            pos = matcher.end();
+        }
+        return segments.isEmpty() ? null : segments;
+    }
+
+    private static class PathSegment {
+        private final String name;
+        // 1-based position, 0 if no position is given
+        private final int position;
+
+        private PathSegment(String name, int position) {
+            this.name = name;
+            this.position = position;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.smarthomej.commons.transform.CascadedValueTransformation;
 import org.smarthomej.commons.transform.NoOpValueTransformation;
 import org.smarthomej.commons.transform.ValueTransformation;
 import org.smarthomej.commons.transform.ValueTransformationProvider;
+import org.smarthomej.commons.util.LruCache;
 
 /**
  * The {@link ValueTransformationProviderImpl} implements
@@ -34,8 +35,13 @@ import org.smarthomej.commons.transform.ValueTransformationProvider;
 @Component(service = ValueTransformationProvider.class)
 public class ValueTransformationProviderImpl implements ValueTransformationProvider {
 
+    private static final int MAX_CACHED_TRANSFORMATIONS = 1000;
+
     private final BundleContext bundleContext;
 
+    // transformations are stateless (apart from their cached services), so identical patterns can share an instance
+    private final LruCache<String, ValueTransformation> transformations = new LruCache<>(MAX_CACHED_TRANSFORMATIONS);
+
     @Activate
     @SuppressWarnings("unused")
     public ValueTransformationProviderImpl(ComponentContext componentContext) {
@@ -48,7 +54,7 @@ public class ValueTransformationProviderImpl implements ValueTransformationProvi
             return NoOpValueTransformation.getInstance();
         }
 
-        return new CascadedValueTransformation(pattern,
-                name -> TransformationHelper.getTransformationService(bundleContext, name));
+        return transformations.computeIfAbsent(pattern, p -> new CascadedValueTransformation(p,
+                name -> TransformationHelper.getTransformationService(bundleContext, name)));
     }
 }
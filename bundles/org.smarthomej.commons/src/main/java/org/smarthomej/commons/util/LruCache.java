@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link LruCache} is a thread-safe cache with a maximum number of entries
+ * <p>
+ * If the cache is full, the least recently used entry is removed.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class LruCache<K, V> {
+    private final Map<K, V> entries;
+
+    /**
+     * Create a new cache
+     *
+     * @param maxSize the maximum number of entries
+     */
+    public LruCache(int maxSize) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get an entry
+     *
+     * @param key the key
+     * @return the value or <code>null</code> if the key is not in the cache
+     */
+    public synchronized @Nullable V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Add an entry
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * Get an entry or add it if the key is not in the cache
+     * <p>
+     * The value is created outside the lock, so it may be created more than once if the same key is requested
+     * concurrently. In that case all callers get the value that was added first.
+     *
+     * @param key the key
+     * @param mappingFunction creates the value
+     * @return the cached value
+     */
+    public V computeIfAbsent(K key, Function<K, V> mappingFunction) {
+        V value = get(key);
+        if (value == null) {
+            V newValue = mappingFunction.apply(key);
+            synchronized (this) {
+                value = entries.putIfAbsent(key, newValue);
+            }
+            return value == null ? newValue : value;
+        }
+        return value;
+    }
+
+    /**
+     * Get the number of entries
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
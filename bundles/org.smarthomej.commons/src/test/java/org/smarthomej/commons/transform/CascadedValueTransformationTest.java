@@ -13,9 +13,17 @@
 package org.smarthomej.commons.transform;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,6 +35,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.smarthomej.commons.itemvalueconverter.ContentWrapper;
 
 /**
  * The {@link CascadedValueTransformationTest} contains tests for the {@link
@@ -46,12 +55,22 @@ public class CascadedValueTransformationTest {
     private static final String T2_INPUT = T1_RESULT;
     private static final String T2_RESULT = "T2Result";
 
+    private static final String JSON_CONTENT = "{\"data\":{\"values\":[{\"power\":1.50},{\"power\":2}],"
+            + "\"name\":\"Inverter\"}}";
+    private static final String XML_CONTENT = "<data><values><power>1.5</power><power>2</power></values></data>";
+
     @Mock
     private @NonNullByDefault({}) TransformationService transformationService1;
 
     @Mock
     private @NonNullByDefault({}) TransformationService transformationService2;
 
+    @Mock
+    private @NonNullByDefault({}) TransformationService jsonPathTransformationService;
+
+    @Mock
+    private @NonNullByDefault({}) TransformationService xPathTransformationService;
+
     private @NonNullByDefault({}) AutoCloseable closeable;
 
     private @NonNullByDefault({}) Map<String, TransformationService> serviceProvider;
@@ -63,7 +82,11 @@ public class CascadedValueTransformationTest {
         Mockito.when(transformationService2.transform(eq(T2_PATTERN), eq(T1_INPUT))).thenAnswer(answer -> T2_RESULT);
         Mockito.when(transformationService2.transform(eq(T2_PATTERN), eq(T2_INPUT))).thenAnswer(answer -> T2_RESULT);
 
-        serviceProvider = Map.of("TRANSFORM1", transformationService1, "TRANSFORM2", transformationService2);
+        Mockito.when(jsonPathTransformationService.transform(eq("$.data.values[*].power"), eq(JSON_CONTENT)))
+                .thenAnswer(answer -> "[1.5, 2]");
+
+        serviceProvider = Map.of("TRANSFORM1", transformationService1, "TRANSFORM2", transformationService2,
+                "JSONPATH", jsonPathTransformationService, "XPATH", xPathTransformationService);
     }
 
     @AfterEach
@@ -130,4 +153,99 @@ public class CascadedValueTransformationTest {
 
         assertEquals(T2_RESULT, result);
     }
+
+    @Test
+    public void testJsonPathIsEvaluatedOnParsedContent() throws TransformationException {
+        ContentWrapper content = new ContentWrapper(JSON_CONTENT.getBytes(StandardCharsets.UTF_8), "UTF-8", null);
+
+        assertEquals("1.5", new CascadedValueTransformation("JSONPATH:$.data.values[0].power", serviceProvider::get)
+                .applyToContent(content).orElse(null));
+        assertEquals("2", new CascadedValueTransformation("JSONPATH:$['data']['values'][1]['power']",
+                serviceProvider::get).applyToContent(content).orElse(null));
+        assertEquals("Inverter", new CascadedValueTransformation("JSONPATH:$.data.name", serviceProvider::get)
+                .applyToContent(content).orElse(null));
+
+        verify(jsonPathTransformationService, never()).transform(any(), any());
+    }
+
+    @Test
+    public void testJsonPathFallsBackToService() throws TransformationException {
+        ContentWrapper content = new ContentWrapper(JSON_CONTENT.getBytes(StandardCharsets.UTF_8), "UTF-8", null);
+
+        assertEquals("[1.5, 2]", new CascadedValueTransformation("JSONPATH:$.data.values[*].power",
+                serviceProvider::get).applyToContent(content).orElse(null));
+
+        verify(jsonPathTransformationService).transform("$.data.values[*].power", JSON_CONTENT);
+    }
+
+    @Test
+    public void testXPathIsEvaluatedOnParsedContent() throws TransformationException {
+        ContentWrapper content = new ContentWrapper(XML_CONTENT.getBytes(StandardCharsets.UTF_8), "UTF-8", null);
+
+        assertEquals("1.5", new CascadedValueTransformation("XPATH:/data/values/power[1]", serviceProvider::get)
+                .applyToContent(content).orElse(null));
+        assertEquals("2", new CascadedValueTransformation("XPATH:/data/values/power[2]", serviceProvider::get)
+                .applyToContent(content).orElse(null));
+
+        verify(xPathTransformationService, never()).transform(any(), any());
+    }
+
+    @Test
+    public void testSpooledContentIsEvaluatedWhileReading() throws IOException, TransformationException {
+        Path jsonFile = Files.createTempFile("test", ".json");
+        Files.writeString(jsonFile, JSON_CONTENT);
+        Path xmlFile = Files.createTempFile("test", ".xml");
+        Files.writeString(xmlFile, XML_CONTENT);
+
+        try (ContentWrapper jsonContent = new ContentWrapper(jsonFile, "UTF-8", null);
+                ContentWrapper xmlContent = new ContentWrapper(xmlFile, "UTF-8", null)) {
+            assertEquals("2", new CascadedValueTransformation("JSONPATH:$.data.values[1].power", serviceProvider::get)
+                    .applyToContent(jsonContent).orElse(null));
+            assertEquals("Inverter", new CascadedValueTransformation("JSONPATH:$['data']['name']",
+                    serviceProvider::get).applyToContent(jsonContent).orElse(null));
+            assertEquals("2", new CascadedValueTransformation("XPATH:/data/values/power[2]", serviceProvider::get)
+                    .applyToContent(xmlContent).orElse(null));
+            assertEquals("", new CascadedValueTransformation("XPATH:/data/values/power[3]", serviceProvider::get)
+                    .applyToContent(xmlContent).orElse(null));
+        }
+
+        // the files are deleted when the content is closed
+        assertFalse(Files.exists(jsonFile));
+        assertFalse(Files.exists(xmlFile));
+
+        verify(jsonPathTransformationService, never()).transform(any(), any());
+        verify(xPathTransformationService, never()).transform(any(), any());
+    }
+
+    @Test
+    public void testParsedContentOnlyForFirstTransformation() throws TransformationException {
+        ContentWrapper content = new ContentWrapper(JSON_CONTENT.getBytes(StandardCharsets.UTF_8), "UTF-8", null);
+        Mockito.when(transformationService2.transform(eq(T2_PATTERN), eq("Inverter"))).thenAnswer(answer -> T2_RESULT);
+
+        CascadedValueTransformation transformation = new CascadedValueTransformation(
+                "JSONPATH:$.data.name∩" + T2_NAME + ":" + T2_PATTERN, serviceProvider::get);
+
+        assertEquals(T2_RESULT, transformation.applyToContent(content).orElse(null));
+        verify(jsonPathTransformationService, never()).transform(any(), any());
+    }
+
+    @Test
+    public void testCompiledTransformationIsReused() throws TransformationException {
+        CompilingTransformationService compilingTransformationService = Mockito
+                .mock(CompilingTransformationService.class);
+        CompilingTransformationService.CompiledTransformation compiledTransformation = value -> value + "Compiled";
+        Mockito.when(compilingTransformationService.compile(eq(T1_PATTERN))).thenReturn(compiledTransformation);
+
+        CascadedValueTransformation transformation = new CascadedValueTransformation(
+                "COMPILING:" + T1_PATTERN + "∩" + T1_NAME + ":" + T1_PATTERN,
+                Map.of("COMPILING", compilingTransformationService, T1_NAME, transformationService1)::get);
+        Mockito.when(transformationService1.transform(eq(T1_PATTERN), eq(T1_INPUT + "Compiled")))
+                .thenAnswer(answer -> T1_RESULT);
+
+        assertEquals(T1_RESULT, transformation.apply(T1_INPUT).orElse(null));
+        assertEquals(T1_RESULT, transformation.apply(T1_INPUT).orElse(null));
+
+        verify(compilingTransformationService).compile(T1_PATTERN);
+        verify(compilingTransformationService, never()).transform(any(), any());
+    }
 }
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.commons.util;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link LruCacheTest} contains tests for the {@link LruCache} class
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class LruCacheTest {
+
+    @Test
+    public void leastRecentlyUsedEntryIsRemovedTest() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        // access "a", so "b" is the least recently used entry
+        cache.get("a");
+        cache.put("c", "C");
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals("A", cache.get("a"));
+        Assertions.assertNull(cache.get("b"));
+        Assertions.assertEquals("C", cache.get("c"));
+    }
+
+    @Test
+    public void computeIfAbsentTest() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "A");
+
+        Assertions.assertEquals("A", cache.computeIfAbsent("a", String::toLowerCase));
+        Assertions.assertEquals("b", cache.computeIfAbsent("b", String::toLowerCase));
+        Assertions.assertEquals("b", cache.get("b"));
+    }
+}
@@ -13,8 +13,11 @@
  */
 package org.smarthomej.persistence.influxdb;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -24,6 +27,8 @@ import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
@@ -47,7 +52,9 @@ import org.smarthomej.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBRepository;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBSpool;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBStateConvertUtils;
+import org.smarthomej.persistence.influxdb.internal.InfluxDBWriteQueue;
 import org.smarthomej.persistence.influxdb.internal.InfluxPoint;
 import org.smarthomej.persistence.influxdb.internal.InfluxRow;
 import org.smarthomej.persistence.influxdb.internal.ItemToStorePointCreator;
@@ -90,7 +97,25 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
     private final InfluxDBConfiguration configuration;
     private final ItemToStorePointCreator itemToStorePointCreator;
     private final InfluxDBRepository influxDBRepository;
-    private boolean tryReconnection;
+    private final InfluxDBWriteQueue writeQueue;
+    private volatile boolean tryReconnection;
+
+    private final RegistryChangeListener<Item> itemRegistryChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Item element) {
+            itemToStorePointCreator.invalidate(element.getName());
+        }
+
+        @Override
+        public void removed(Item element) {
+            itemToStorePointCreator.invalidate(element.getName());
+        }
+
+        @Override
+        public void updated(Item oldElement, Item element) {
+            itemToStorePointCreator.invalidate(element.getName());
+        }
+    };
 
     @Activate
     public InfluxDBPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -103,7 +128,13 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
                     .orElseThrow(() -> new IllegalArgumentException("Failed to instantiate repository."));
             this.influxDBRepository.connect();
             this.itemToStorePointCreator = new ItemToStorePointCreator(configuration, influxDBMetadataService);
+            itemRegistry.addRegistryChangeListener(itemRegistryChangeListener);
+            this.writeQueue = new InfluxDBWriteQueue(influxDBRepository, this::checkConnection,
+                    configuration.getWriteQueueSize(), configuration.getWriteBatchSize(),
+                    Duration.ofMillis(configuration.getWriteFlushInterval()), configuration.getWriteQueueOverflow(),
+                    createSpool());
             tryReconnection = true;
+            writeQueue.start();
         } else {
             throw new IllegalArgumentException("Configuration invalid.");
         }
@@ -126,14 +157,28 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
         return Optional.ofNullable(influxDBRepository);
     }
 
+    // Visible for testing
+    protected @Nullable InfluxDBSpool createSpool() {
+        int spoolMaxSize = configuration.getSpoolMaxSize();
+        if (spoolMaxSize <= 0) {
+            return null;
+        }
+        return new InfluxDBSpool(Path.of(OpenHAB.getUserDataFolder(), "influxdb", "spool"),
+                spoolMaxSize * 1024L * 1024L);
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
     @Deactivate
     public void deactivate() {
-        logger.info("InfluxDB persistence service stopped.");
-        influxDBRepository.disconnect();
+        // write all queued points before disconnecting
+        writeQueue.stop();
+        itemRegistry.removeRegistryChangeListener(itemRegistryChangeListener);
+        itemToStorePointCreator.dispose();
         tryReconnection = false;
+        influxDBRepository.disconnect();
+        logger.info("InfluxDB persistence service stopped.");
     }
 
     @Override
@@ -179,20 +224,13 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        if (checkConnection()) {
-            InfluxPoint point = itemToStorePointCreator.convert(item, alias);
-            if (point != null) {
-                try {
-                    influxDBRepository.write(point);
-                    logger.trace("Stored item {} in InfluxDB point {}", item, point);
-                } catch (UnexpectedConditionException e) {
-                    logger.warn("Failed to store item {} in InfluxDB point {}", point, item);
-                }
-            } else {
-                logger.trace("Ignoring item {}, conversion to a InfluxDB point failed.", item);
-            }
+        // the state is converted immediately, writing is done asynchronously by the write queue
+        InfluxPoint point = itemToStorePointCreator.convert(item, alias);
+        if (point != null) {
+            writeQueue.add(point);
+            logger.trace("Queued item {} as InfluxDB point {}", item, point);
         } else {
-            logger.debug("store ignored, InfluxDB is not yet connected");
+            logger.trace("Ignoring item {}, conversion to a InfluxDB point failed.", item);
         }
     }
 
@@ -210,8 +248,21 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
                         configuration.getRetentionPolicy());
 
                 logger.trace("Query {}", query);
-                List<InfluxRow> results = influxDBRepository.query(query);
-                return results.stream().map(this::mapRowToHistoricItem).collect(Collectors.toList());
+                // the query is executed for each iteration, its rows are streamed while iterating
+                Iterable<InfluxRow> result = influxDBRepository.query(query);
+                return () -> new Iterator<>() {
+                    private final Iterator<InfluxRow> rows = result.iterator();
+
+                    @Override
+                    public boolean hasNext() {
+                        return rows.hasNext();
+                    }
+
+                    @Override
+                    public HistoricItem next() {
+                        return mapRowToHistoricItem(rows.next());
+                    }
+                };
             } catch (UnexpectedConditionException e) {
                 logger.warn("Failed to create query:{}", e.getMessage());
                 return List.of();
@@ -13,6 +13,9 @@
  */
 package org.smarthomej.persistence.influxdb.internal;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.persistence.FilterCriteria;
 
@@ -51,4 +54,24 @@ public interface FilterCriteriaQueryCreator {
                 throw new UnexpectedConditionException("Not expected operator " + operator);
         }
     }
+
+    /**
+     * Calculate the interval for downsampling a query
+     * <p>
+     * Only queries for the first page of a time range of a single item without state restriction are downsampled.
+     *
+     * @param criteria the query criteria
+     * @param configuration the configuration
+     * @return the interval in milliseconds, 0 if the query should not be downsampled
+     */
+    default long getDownsamplingInterval(FilterCriteria criteria, InfluxDBConfiguration configuration) {
+        ZonedDateTime beginDate = criteria.getBeginDate();
+        ZonedDateTime endDate = criteria.getEndDate();
+        if (!configuration.isDownsampleQueries() || criteria.getItemName() == null || beginDate == null
+                || endDate == null || criteria.getPageSize() == Integer.MAX_VALUE || criteria.getPageNumber() != 0
+                || (criteria.getState() != null && criteria.getOperator() != null)) {
+            return 0;
+        }
+        return Math.max(1, Duration.between(beginDate, endDate).toMillis() / Math.max(1, criteria.getPageSize()));
+    }
 }
@@ -40,6 +40,12 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String WRITE_QUEUE_SIZE_PARAM = "writeQueueSize";
+    public static final String WRITE_BATCH_SIZE_PARAM = "writeBatchSize";
+    public static final String WRITE_FLUSH_INTERVAL_PARAM = "writeFlushInterval";
+    public static final String WRITE_QUEUE_OVERFLOW_PARAM = "writeQueueOverflow";
+    public static final String SPOOL_MAX_SIZE_PARAM = "spoolMaxSize";
+    public static final String DOWNSAMPLE_QUERIES_PARAM = "downsampleQueries";
     public static final InfluxDBConfiguration NO_CONFIGURATION = new InfluxDBConfiguration(Map.of());
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
@@ -55,6 +61,13 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final boolean downsampleQueries;
+
+    private final int writeQueueSize;
+    private final int writeBatchSize;
+    private final int writeFlushInterval;
+    private final InfluxDBWriteQueue.OverflowPolicy writeQueueOverflow;
+    private final int spoolMaxSize;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = (String) config.getOrDefault(URL_PARAM, "http://127.0.0.1:8086");
@@ -70,6 +83,14 @@ public class InfluxDBConfiguration {
         addCategoryTag = getConfigBooleanValue(config, ADD_CATEGORY_TAG_PARAM, false);
         addLabelTag = getConfigBooleanValue(config, ADD_LABEL_TAG_PARAM, false);
         addTypeTag = getConfigBooleanValue(config, ADD_TYPE_TAG_PARAM, false);
+        downsampleQueries = getConfigBooleanValue(config, DOWNSAMPLE_QUERIES_PARAM, false);
+
+        writeQueueSize = getConfigIntValue(config, WRITE_QUEUE_SIZE_PARAM, 10000);
+        writeBatchSize = getConfigIntValue(config, WRITE_BATCH_SIZE_PARAM, 1000);
+        writeFlushInterval = getConfigIntValue(config, WRITE_FLUSH_INTERVAL_PARAM, 1000);
+        writeQueueOverflow = parseOverflowPolicy(
+                config.getOrDefault(WRITE_QUEUE_OVERFLOW_PARAM, InfluxDBWriteQueue.OverflowPolicy.DROP_OLDEST.name()));
+        spoolMaxSize = getConfigIntValue(config, SPOOL_MAX_SIZE_PARAM, 50);
     }
 
     private static boolean getConfigBooleanValue(Map<String, Object> config, String key, boolean defaultValue) {
@@ -83,6 +104,32 @@ public class InfluxDBConfiguration {
         }
     }
 
+    private static int getConfigIntValue(Map<String, Object> config, String key, int defaultValue) {
+        Object object = config.get(key);
+        if (object instanceof Number) {
+            return ((Number) object).intValue();
+        } else if (object instanceof String) {
+            try {
+                return Integer.parseInt(((String) object).trim());
+            } catch (NumberFormatException e) {
+                return defaultValue;
+            }
+        } else {
+            return defaultValue;
+        }
+    }
+
+    private InfluxDBWriteQueue.OverflowPolicy parseOverflowPolicy(@Nullable Object value) {
+        if (value != null) {
+            try {
+                return InfluxDBWriteQueue.OverflowPolicy.valueOf((String) value);
+            } catch (RuntimeException e) {
+                logger.warn("Invalid write queue overflow policy {}", value);
+            }
+        }
+        return InfluxDBWriteQueue.OverflowPolicy.DROP_OLDEST;
+    }
+
     private InfluxDBVersion parseInfluxVersion(@Nullable Object value) {
         if (value != null) {
             try {
@@ -165,6 +212,35 @@ public class InfluxDBConfiguration {
         return addLabelTag;
     }
 
+    public boolean isDownsampleQueries() {
+        return downsampleQueries;
+    }
+
+    public int getWriteQueueSize() {
+        return writeQueueSize;
+    }
+
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    public int getWriteFlushInterval() {
+        return writeFlushInterval;
+    }
+
+    public InfluxDBWriteQueue.OverflowPolicy getWriteQueueOverflow() {
+        return writeQueueOverflow;
+    }
+
+    /**
+     * get the maximum size of the spool
+     *
+     * @return the size in MB, 0 if spooling is disabled
+     */
+    public int getSpoolMaxSize() {
+        return spoolMaxSize;
+    }
+
     public String getUser() {
         return user;
     }
@@ -183,7 +259,10 @@ public class InfluxDBConfiguration {
                 + password.length() + " chars" + '\'' + ", token='" + token.length() + " chars" + '\''
                 + ", databaseName='" + databaseName + '\'' + ", retentionPolicy='" + retentionPolicy + '\''
                 + ", version=" + version + ", replaceUnderscore=" + replaceUnderscore + ", addCategoryTag="
-                + addCategoryTag + ", addTypeTag=" + addTypeTag + ", addLabelTag=" + addLabelTag + '}';
+                + addCategoryTag + ", addTypeTag=" + addTypeTag + ", addLabelTag=" + addLabelTag
+                + ", downsampleQueries=" + downsampleQueries + ", writeQueueSize=" + writeQueueSize
+                + ", writeBatchSize=" + writeBatchSize + ", writeFlushInterval=" + writeFlushInterval
+                + ", writeQueueOverflow=" + writeQueueOverflow + ", spoolMaxSize=" + spoolMaxSize + '}';
         return sb;
     }
 
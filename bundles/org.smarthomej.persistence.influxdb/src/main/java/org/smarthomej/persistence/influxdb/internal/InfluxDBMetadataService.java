@@ -13,13 +13,17 @@
 package org.smarthomej.persistence.influxdb.internal;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.MetadataRegistry;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.smarthomej.persistence.influxdb.InfluxDBPersistenceService;
 
@@ -30,12 +34,38 @@ import org.smarthomej.persistence.influxdb.InfluxDBPersistenceService;
  */
 @NonNullByDefault
 @Component(service = InfluxDBMetadataService.class)
-public class InfluxDBMetadataService {
+public class InfluxDBMetadataService implements RegistryChangeListener<Metadata> {
     private final MetadataRegistry metadataRegistry;
+    private final Set<MetadataChangeListener> listeners = new CopyOnWriteArraySet<>();
 
     @Activate
     public InfluxDBMetadataService(@Reference MetadataRegistry metadataRegistry) {
         this.metadataRegistry = metadataRegistry;
+        metadataRegistry.addRegistryChangeListener(this);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        metadataRegistry.removeRegistryChangeListener(this);
+        listeners.clear();
+    }
+
+    /**
+     * add a listener that is notified if the InfluxDB metadata of an item changes
+     *
+     * @param listener the listener
+     */
+    public void addMetadataChangeListener(MetadataChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * remove a previously added listener
+     *
+     * @param listener the listener
+     */
+    public void removeMetadataChangeListener(MetadataChangeListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -67,4 +97,39 @@ public class InfluxDBMetadataService {
         MetadataKey key = new MetadataKey(InfluxDBPersistenceService.SERVICE_NAME, itemName);
         return Optional.ofNullable(metadataRegistry.get(key));
     }
+
+    @Override
+    public void added(Metadata element) {
+        notifyListeners(element);
+    }
+
+    @Override
+    public void removed(Metadata element) {
+        notifyListeners(element);
+    }
+
+    @Override
+    public void updated(Metadata oldElement, Metadata element) {
+        notifyListeners(element);
+    }
+
+    private void notifyListeners(Metadata metadata) {
+        MetadataKey key = metadata.getUID();
+        if (InfluxDBPersistenceService.SERVICE_NAME.equals(key.getNamespace())) {
+            listeners.forEach(listener -> listener.metadataChanged(key.getItemName()));
+        }
+    }
+
+    /**
+     * Listener for changes of the InfluxDB metadata of items
+     */
+    @FunctionalInterface
+    public interface MetadataChangeListener {
+        /**
+         * called if the InfluxDB metadata of an item was added, removed or updated
+         *
+         * @param itemName the name of the item
+         */
+        void metadataChanged(String itemName);
+    }
 }
@@ -58,19 +58,23 @@ public interface InfluxDBRepository {
     Map<String, Integer> getStoredItemsCount();
 
     /**
-     * Executes Flux query
+     * Executes a query
+     * <p>
+     * The query is executed for each iteration of the result, the rows are streamed from the database while iterating.
+     * The iterators throw an {@link IllegalStateException} if the query fails.
      *
      * @param query Query
      * @return Query results
      */
-    List<InfluxRow> query(String query);
+    Iterable<InfluxRow> query(String query);
 
     /**
-     * Write point to database
+     * Write points to database
      *
-     * @param influxPoint Point to write
+     * @param influxPoints Points to write (points that can't be converted are skipped)
+     * @return true if the write request was successful, otherwise false
      */
-    void write(InfluxPoint influxPoint) throws UnexpectedConditionException;
+    boolean write(List<InfluxPoint> influxPoints);
 
     /**
      * create a query creator on this repository
@@ -0,0 +1,450 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBSpool} is a disk-backed, append-only store for {@link InfluxPoint}s that could not be written to
+ * the database
+ * <p>
+ * Points are appended to segment files. Each record is prefixed with its length and a checksum, so a record that was
+ * only partially written (e.g. because of a crash) is detected and ignored when the spool is read. Segments are
+ * replayed oldest first and deleted after they have been written completely. If the size limit is reached, the oldest
+ * segment is dropped.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpool {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final int RECORD_HEADER_SIZE = 8;
+    // records larger than this are considered corrupt
+    private static final int MAX_RECORD_SIZE = 1024 * 1024;
+
+    private static final byte TYPE_STRING = 'S';
+    private static final byte TYPE_BOOLEAN = 'B';
+    private static final byte TYPE_INTEGER = 'I';
+    private static final byte TYPE_LONG = 'L';
+    private static final byte TYPE_DOUBLE = 'F';
+    private static final byte TYPE_DECIMAL = 'D';
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBSpool.class);
+    private final Path directory;
+    private final long maxSize;
+    private final long segmentSize;
+
+    // closed segments, oldest first
+    private final Deque<Path> segments = new ArrayDeque<>();
+    private long nextSegmentNumber = 0;
+    private long closedSegmentsSize = 0;
+
+    private @Nullable Path currentSegment;
+    private @Nullable FileChannel currentChannel;
+
+    /**
+     * Create a spool and recover all segments that are left from a previous run
+     *
+     * @param directory the directory for the segment files (created if necessary)
+     * @param maxSize the maximum size of all segments in bytes
+     */
+    public InfluxDBSpool(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        // use at least four segments, so that dropping the oldest segment does not discard too much
+        this.segmentSize = Math.max(64 * 1024, maxSize / 4);
+
+        if (Files.isDirectory(directory)) {
+            List<Path> recovered = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                    SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+                stream.forEach(recovered::add);
+            } catch (IOException e) {
+                logger.warn("Failed to read spool directory '{}': {}", directory, e.getMessage());
+            }
+            recovered.sort((p1, p2) -> Long.compare(getSegmentNumber(p1), getSegmentNumber(p2)));
+            for (Path segment : recovered) {
+                long number = getSegmentNumber(segment);
+                if (number < 0) {
+                    continue;
+                }
+                segments.add(segment);
+                closedSegmentsSize += sizeOf(segment);
+                nextSegmentNumber = Math.max(nextSegmentNumber, number + 1);
+            }
+            if (!segments.isEmpty()) {
+                logger.info("Recovered {} spool segments ({} bytes) from '{}'", segments.size(), closedSegmentsSize,
+                        directory);
+            }
+        }
+    }
+
+    /**
+     * Append points to the spool
+     * <p>
+     * The points are forced to disk before this method returns.
+     *
+     * @param points the points to append
+     */
+    public synchronized void append(List<InfluxPoint> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+        // an interrupted thread can't write to a file channel, the interrupt is restored afterwards
+        boolean interrupted = Thread.interrupted();
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            for (InfluxPoint point : points) {
+                byte[] record;
+                try {
+                    record = serialize(point);
+                } catch (IOException | UnexpectedConditionException e) {
+                    logger.warn("Failed to spool point of {}: {}", point.getMeasurementName(), e.getMessage());
+                    continue;
+                }
+                if (record.length > MAX_RECORD_SIZE) {
+                    logger.warn("Not spooling point of {}, it exceeds the maximum size of {} bytes",
+                            point.getMeasurementName(), MAX_RECORD_SIZE);
+                    continue;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(record);
+                ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+                header.putInt(record.length).putInt((int) crc.getValue());
+                buffer.write(header.array());
+                buffer.write(record);
+            }
+
+            FileChannel channel = getCurrentChannel();
+            ByteBuffer data = ByteBuffer.wrap(buffer.toByteArray());
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(false);
+
+            if (channel.size() >= segmentSize) {
+                closeCurrentSegment();
+            }
+            enforceSizeLimit();
+        } catch (IOException e) {
+            logger.warn("Failed to spool {} points: {}", points.size(), e.getMessage());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Check if the spool contains points
+     *
+     * @return true if there are spooled points
+     */
+    public synchronized boolean isEmpty() {
+        return segments.isEmpty() && currentSegment == null;
+    }
+
+    /**
+     * Get the size of all segments
+     *
+     * @return the size in bytes
+     */
+    public synchronized long getSize() {
+        long size = closedSegmentsSize;
+        FileChannel currentChannel = this.currentChannel;
+        if (currentChannel != null) {
+            try {
+                size += currentChannel.size();
+            } catch (IOException e) {
+                // ignore, the size is only informational
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Read the points of the oldest segment
+     * <p>
+     * The segment is not removed, {@link #remove(Path)} has to be called after the points have been written.
+     *
+     * @return the oldest segment or <code>null</code> if the spool is empty
+     */
+    public synchronized @Nullable Segment readOldestSegment() {
+        if (segments.isEmpty()) {
+            // the current segment is only replayed when all older segments are done, close it to start a new one
+            closeCurrentSegment();
+        }
+        Path segment = segments.peekFirst();
+        if (segment == null) {
+            return null;
+        }
+        return new Segment(segment, readSegment(segment));
+    }
+
+    /**
+     * Remove a segment after its points have been written
+     *
+     * @param segment the segment file
+     */
+    public synchronized void remove(Path segment) {
+        if (segments.remove(segment)) {
+            closedSegmentsSize -= sizeOf(segment);
+            delete(segment);
+        }
+    }
+
+    /**
+     * Close the current segment (if any), all points remain in the spool
+     */
+    public synchronized void close() {
+        closeCurrentSegment();
+    }
+
+    private FileChannel getCurrentChannel() throws IOException {
+        FileChannel channel = currentChannel;
+        if (channel != null && !channel.isOpen()) {
+            // the channel is closed if a writing thread was interrupted
+            closeCurrentSegment();
+            channel = null;
+        }
+        if (channel == null) {
+            Files.createDirectories(directory);
+            Path segment = directory.resolve(SEGMENT_PREFIX + nextSegmentNumber++ + SEGMENT_SUFFIX);
+            channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            currentSegment = segment;
+            currentChannel = channel;
+        }
+        return channel;
+    }
+
+    private void closeCurrentSegment() {
+        FileChannel channel = currentChannel;
+        Path segment = currentSegment;
+        if (channel != null && segment != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.debug("Failed to close spool segment '{}': {}", segment, e.getMessage());
+            }
+            segments.addLast(segment);
+            closedSegmentsSize += sizeOf(segment);
+        }
+        currentChannel = null;
+        currentSegment = null;
+    }
+
+    private void enforceSizeLimit() {
+        while (getSize() > maxSize && segments.size() > 0) {
+            Path oldest = segments.removeFirst();
+            long size = sizeOf(oldest);
+            closedSegmentsSize -= size;
+            delete(oldest);
+            logger.warn("Spool size limit reached, dropped oldest segment with {} bytes", size);
+        }
+    }
+
+    private List<InfluxPoint> readSegment(Path segment) {
+        List<InfluxPoint> points = new ArrayList<>();
+        byte[] content;
+        try {
+            content = Files.readAllBytes(segment);
+        } catch (IOException e) {
+            logger.warn("Failed to read spool segment '{}': {}", segment, e.getMessage());
+            return points;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 0 || length > MAX_RECORD_SIZE || length > buffer.remaining()) {
+                logger.debug("Spool segment '{}' ends with an incomplete record, ignoring the rest", segment);
+                break;
+            }
+            byte[] record = new byte[length];
+            buffer.get(record);
+            CRC32 crc = new CRC32();
+            crc.update(record);
+            if ((int) crc.getValue() != checksum) {
+                logger.debug("Spool segment '{}' contains a corrupt record, ignoring the rest", segment);
+                break;
+            }
+            try {
+                points.add(deserialize(record));
+            } catch (IOException | IllegalArgumentException e) {
+                logger.debug("Failed to read record from spool segment '{}': {}", segment, e.getMessage());
+            }
+        }
+        return points;
+    }
+
+    private static byte[] serialize(InfluxPoint point) throws IOException, UnexpectedConditionException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(buffer);
+        writeString(out, point.getMeasurementName());
+        out.writeLong(point.getTime().toEpochMilli());
+        Object value = point.getValue();
+        if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Number) {
+            out.writeByte(TYPE_DECIMAL);
+            writeString(out, value.toString());
+        } else {
+            throw new UnexpectedConditionException("Not expected value type");
+        }
+        Map<String, String> tags = point.getTags();
+        out.writeShort(tags.size());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            writeString(out, tag.getKey());
+            writeString(out, tag.getValue());
+        }
+        out.flush();
+        return buffer.toByteArray();
+    }
+
+    private static InfluxPoint deserialize(byte[] record) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        InfluxPoint.Builder builder = InfluxPoint.newBuilder(readString(in))
+                .withTime(Instant.ofEpochMilli(in.readLong()));
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_STRING:
+                builder.withValue(readString(in));
+                break;
+            case TYPE_BOOLEAN:
+                builder.withValue(in.readBoolean());
+                break;
+            case TYPE_INTEGER:
+                builder.withValue(in.readInt());
+                break;
+            case TYPE_LONG:
+                builder.withValue(in.readLong());
+                break;
+            case TYPE_DOUBLE:
+                builder.withValue(in.readDouble());
+                break;
+            case TYPE_DECIMAL:
+                builder.withValue(new BigDecimal(readString(in)));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown value type " + type);
+        }
+        int tagCount = in.readUnsignedShort();
+        for (int i = 0; i < tagCount; i++) {
+            builder.withTag(readString(in), readString(in));
+        }
+        return builder.build();
+    }
+
+    // DataOutputStream.writeUTF is limited to 64 KB, so strings are written as length-prefixed UTF-8
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_RECORD_SIZE) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long getSegmentNumber(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    private long sizeOf(Path segment) {
+        try {
+            return Files.size(segment);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            logger.warn("Failed to delete spool segment '{}': {}", segment, e.getMessage());
+        }
+    }
+
+    /**
+     * A spool segment and its points
+     */
+    public static class Segment {
+        private final Path path;
+        private final List<InfluxPoint> points;
+
+        private Segment(Path path, List<InfluxPoint> points) {
+            this.path = path;
+            this.points = points;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public List<InfluxPoint> getPoints() {
+            return points;
+        }
+    }
+}
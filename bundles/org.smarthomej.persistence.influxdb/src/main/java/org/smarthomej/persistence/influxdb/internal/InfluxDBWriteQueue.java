@@ -0,0 +1,312 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBWriteQueue} decouples storing points from writing them to the database
+ * <p>
+ * Points are added to a bounded queue and written in batches by a dedicated thread. A batch is written as soon as it
+ * is full or the flush interval has passed since its first point was added. If the queue is full, the
+ * {@link OverflowPolicy} decides if the oldest point is dropped, spilled to the spool or the caller has to wait.
+ * <p>
+ * If a {@link InfluxDBSpool} is configured, batches that can't be written are appended to it and replayed once the
+ * database is reachable again.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBWriteQueue {
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+    // maximum time the writer waits for new points before checking if it was stopped
+    private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // minimum time between two attempts to replay the spool while no new points are queued
+    private static final long REPLAY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBWriteQueue.class);
+    private final InfluxDBRepository influxDBRepository;
+    private final BooleanSupplier connectionCheck;
+    private final BlockingQueue<InfluxPoint> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final @Nullable InfluxDBSpool spool;
+    private final AtomicLong droppedPoints = new AtomicLong();
+
+    private volatile boolean running = false;
+    // set if stopping timed out, the writer then moves the remaining points to the spool instead of writing them
+    private volatile boolean aborted = false;
+    private @Nullable Thread writerThread;
+    private long nextReplay = System.nanoTime();
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        BLOCK,
+        SPILL
+    }
+
+    /**
+     * Create a new write queue
+     *
+     * @param influxDBRepository the repository the points are written to
+     * @param connectionCheck checks (and re-establishes) the connection before a batch is written
+     * @param capacity the maximum number of queued points
+     * @param batchSize the maximum number of points written in one request
+     * @param flushInterval the maximum time a point is queued before it is written
+     * @param overflowPolicy how to handle new points when the queue is full
+     * @param spool the spool for points that can't be written (or <code>null</code> if points should be discarded)
+     */
+    public InfluxDBWriteQueue(InfluxDBRepository influxDBRepository, BooleanSupplier connectionCheck, int capacity,
+            int batchSize, Duration flushInterval, OverflowPolicy overflowPolicy, @Nullable InfluxDBSpool spool) {
+        this.influxDBRepository = influxDBRepository;
+        this.connectionCheck = connectionCheck;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.spool = spool;
+        if (overflowPolicy == OverflowPolicy.SPILL && spool == null) {
+            logger.warn("Overflow policy SPILL requires the spool, using DROP_OLDEST instead.");
+            this.overflowPolicy = OverflowPolicy.DROP_OLDEST;
+        } else {
+            this.overflowPolicy = overflowPolicy;
+        }
+    }
+
+    /**
+     * Start the writer thread
+     */
+    public synchronized void start() {
+        if (writerThread != null) {
+            return;
+        }
+        running = true;
+        aborted = false;
+        Thread writerThread = new Thread(this::processQueue, "OH-influxdb-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        this.writerThread = writerThread;
+    }
+
+    /**
+     * Stop the writer thread
+     * <p>
+     * All queued points are written before the thread terminates, unless this takes longer than the stop timeout.
+     * In that case the writer is interrupted and moves the remaining points to the spool (if configured) before it
+     * terminates.
+     */
+    public synchronized void stop() {
+        Thread writerThread = this.writerThread;
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(STOP_TIMEOUT.toMillis());
+            if (writerThread.isAlive()) {
+                if (spool != null) {
+                    logger.warn("Stopping the writer timed out, spooling {} points.", queue.size());
+                } else {
+                    logger.warn("Stopping the writer timed out, {} points have not been written.", queue.size());
+                }
+                aborted = true;
+                writerThread.interrupt();
+                writerThread.join(STOP_TIMEOUT.toMillis());
+                if (writerThread.isAlive()) {
+                    logger.warn("The writer did not terminate, queued points may be lost.");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.writerThread = null;
+    }
+
+    /**
+     * Add a point to the queue
+     *
+     * @param point the point to write
+     */
+    public void add(InfluxPoint point) {
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                queue.put(point);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedPoints.incrementAndGet();
+            }
+        } else if (overflowPolicy == OverflowPolicy.SPILL) {
+            if (!queue.offer(point)) {
+                spill(point);
+            }
+        } else {
+            while (!queue.offer(point)) {
+                if (queue.poll() != null) {
+                    droppedPoints.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * get the number of points that are currently queued
+     *
+     * @return the number of points
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * move the older half of the queue and the given point to the spool
+     * <p>
+     * Spilling several points at once avoids forcing the spool to disk for every single point.
+     */
+    private void spill(InfluxPoint point) {
+        InfluxDBSpool spool = this.spool;
+        if (spool == null) {
+            return;
+        }
+        List<InfluxPoint> points = new ArrayList<>();
+        queue.drainTo(points, Math.max(1, queue.remainingCapacity() + queue.size()) / 2);
+        points.add(point);
+        spool.append(points);
+        logger.debug("Write queue overflow, spooled {} points", points.size());
+    }
+
+    private void processQueue() {
+        List<InfluxPoint> batch = new ArrayList<>(batchSize);
+        try {
+            while ((running || !queue.isEmpty()) && !aborted) {
+                InfluxPoint first = queue.poll(POLL_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    if (running) {
+                        replaySpoolIfDue();
+                    }
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize && running) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    InfluxPoint next = queue.poll(Math.min(remaining, POLL_INTERVAL_NANOS), TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+                // when stopping, fill the batch with what is left in the queue
+                queue.drainTo(batch, batchSize - batch.size());
+                writeBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // the writer spools the remaining points itself, so the spool is not closed while it is still writing
+            InfluxDBSpool spool = this.spool;
+            if (spool != null) {
+                queue.drainTo(batch);
+                spool.append(batch);
+                spool.close();
+            } else {
+                queue.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<InfluxPoint> batch) {
+        long dropped = droppedPoints.getAndSet(0);
+        if (dropped > 0) {
+            logger.warn("Write queue overflow, dropped {} points. Consider increasing the queue size.", dropped);
+        }
+        InfluxDBSpool spool = this.spool;
+        if (!connectionCheck.getAsBoolean()) {
+            if (spool != null) {
+                logger.debug("InfluxDB is not connected, spooling {} points", batch.size());
+                spool.append(batch);
+            } else {
+                logger.debug("Writing {} points ignored, InfluxDB is not connected", batch.size());
+            }
+            return;
+        }
+        // write spooled points first, new points are spooled as long as the spool can't be written
+        if (spool != null && !replaySpool(spool)) {
+            spool.append(batch);
+            return;
+        }
+        if (influxDBRepository.write(batch)) {
+            logger.trace("Wrote {} points to InfluxDB", batch.size());
+        } else if (spool != null) {
+            logger.warn("Failed to write {} points to InfluxDB, spooling them", batch.size());
+            spool.append(batch);
+        } else {
+            logger.warn("Failed to write {} points to InfluxDB", batch.size());
+        }
+    }
+
+    private void replaySpoolIfDue() {
+        InfluxDBSpool spool = this.spool;
+        long now = System.nanoTime();
+        if (spool == null || spool.isEmpty() || now - nextReplay < 0) {
+            return;
+        }
+        nextReplay = now + REPLAY_INTERVAL_NANOS;
+        if (connectionCheck.getAsBoolean()) {
+            replaySpool(spool);
+        }
+    }
+
+    /**
+     * write all spooled points, oldest segment first
+     * <p>
+     * A segment is removed from the spool after all its points have been written. If writing fails, the segment is
+     * kept and replayed completely on the next attempt. Writing the same point twice does not create duplicates in
+     * InfluxDB, because points with the same series and timestamp are overwritten.
+     *
+     * @return true if the spool is empty
+     */
+    private boolean replaySpool(InfluxDBSpool spool) {
+        InfluxDBSpool.Segment segment;
+        while (running && (segment = spool.readOldestSegment()) != null) {
+            List<InfluxPoint> points = segment.getPoints();
+            for (int start = 0; start < points.size(); start += batchSize) {
+                List<InfluxPoint> chunk = points.subList(start, Math.min(points.size(), start + batchSize));
+                if (!influxDBRepository.write(chunk)) {
+                    logger.warn("Failed to replay spooled points, will retry later");
+                    return false;
+                }
+            }
+            spool.remove(segment.getPath());
+            logger.debug("Replayed {} spooled points", points.size());
+        }
+        return spool.isEmpty();
+    }
+}
@@ -70,6 +70,7 @@ public class InfluxPoint {
         private @Nullable Instant time;
         private @Nullable Object value;
         private Map<String, String> tags = new HashMap<>();
+        private boolean sharedTags = false;
 
         private Builder(String measurementName) {
             this.measurementName = measurementName;
@@ -86,10 +87,32 @@ public class InfluxPoint {
         }
 
         public Builder withTag(String name, Object value) {
+            if (sharedTags) {
+                tags = new HashMap<>(tags);
+                sharedTags = false;
+            }
             tags.put(name, value.toString());
             return this;
         }
 
+        /**
+         * add tags to the point
+         * <p>
+         * If no tags have been added before, the map is used directly, so it must not be modified afterwards.
+         *
+         * @param tags the tags to add
+         * @return the builder
+         */
+        public Builder withTags(Map<String, String> tags) {
+            if (this.tags.isEmpty()) {
+                this.tags = tags;
+                sharedTags = true;
+            } else {
+                tags.forEach(this::withTag);
+            }
+            return this;
+        }
+
         public InfluxPoint build() {
             return new InfluxPoint(this);
         }
@@ -19,17 +19,25 @@ import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.TAG
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.TAG_TYPE_NAME;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.Item;
+import org.openhab.core.items.Metadata;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
 
 /**
  * Logic to create an InfluxDB {@link InfluxPoint} from an openHAB {@link Item}
+ * <p>
+ * Everything that does not depend on the item state (measurement name, tags and the state class to store) is
+ * calculated once per item and alias and cached. The cache entry of an item is invalidated if the item or its
+ * metadata changes.
  *
  * @author Joan Pujol Espinar - Initial contribution
  */
@@ -37,11 +45,31 @@ import org.openhab.core.types.UnDefType;
 public class ItemToStorePointCreator {
     private final InfluxDBConfiguration configuration;
     private final InfluxDBMetadataService influxDBMetadataService;
+    private final InfluxDBMetadataService.MetadataChangeListener metadataChangeListener = this::invalidate;
+    private final Map<String, PointTemplate> templates = new ConcurrentHashMap<>();
 
     public ItemToStorePointCreator(InfluxDBConfiguration configuration,
             InfluxDBMetadataService influxDBMetadataService) {
         this.configuration = configuration;
         this.influxDBMetadataService = influxDBMetadataService;
+        influxDBMetadataService.addMetadataChangeListener(metadataChangeListener);
+    }
+
+    /**
+     * stop listening for metadata changes
+     */
+    public void dispose() {
+        influxDBMetadataService.removeMetadataChangeListener(metadataChangeListener);
+        templates.clear();
+    }
+
+    /**
+     * remove all cached information for an item
+     *
+     * @param itemName the name of the item
+     */
+    public void invalidate(String itemName) {
+        templates.values().removeIf(template -> template.itemName.equals(itemName));
     }
 
     public @Nullable InfluxPoint convert(Item item, @Nullable String storeAlias) {
@@ -49,23 +77,44 @@ public class ItemToStorePointCreator {
             return null;
         }
 
-        String measurementName = calculateMeasurementName(item, storeAlias);
-        String itemName = item.getName();
-        State state = getItemState(item);
+        PointTemplate template = getTemplate(item, storeAlias);
+        State state = getItemState(item, template.desiredStateClass);
 
         Object value = InfluxDBStateConvertUtils.stateToObject(state);
 
-        InfluxPoint.Builder pointBuilder = InfluxPoint.newBuilder(measurementName).withTime(Instant.now())
-                .withValue(value).withTag(TAG_ITEM_NAME, itemName);
+        return InfluxPoint.newBuilder(template.measurementName).withTime(Instant.now()).withValue(value)
+                .withTags(template.tags).build();
+    }
+
+    private PointTemplate getTemplate(Item item, @Nullable String storeAlias) {
+        String key = storeAlias != null && !storeAlias.isBlank() ? item.getName() + "/" + storeAlias : item.getName();
+        PointTemplate template = templates.get(key);
+        // a new item instance with the same name replaces the old one in the registry
+        if (template == null || template.item != item) {
+            template = createTemplate(item, storeAlias);
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    private PointTemplate createTemplate(Item item, @Nullable String storeAlias) {
+        Optional<Metadata> metadata = influxDBMetadataService.getMetaData(item.getName());
+        String measurementName = calculateMeasurementName(item, storeAlias, metadata);
 
-        addPointTags(item, pointBuilder);
+        Map<String, String> tags = new HashMap<>();
+        tags.put(TAG_ITEM_NAME, item.getName());
+        addPointTags(item, metadata, tags);
 
-        return pointBuilder.build();
+        return new PointTemplate(item, measurementName, Map.copyOf(tags),
+                calculateDesiredTypeConversionToStore(item).orElse(null));
     }
 
-    private String calculateMeasurementName(Item item, @Nullable String storeAlias) {
+    private String calculateMeasurementName(Item item, @Nullable String storeAlias, Optional<Metadata> metadata) {
         String name = storeAlias != null && !storeAlias.isBlank() ? storeAlias : item.getName();
-        name = influxDBMetadataService.getMeasurementNameOrDefault(item.getName(), name);
+        String metaName = metadata.map(Metadata::getValue).orElse("");
+        if (!metaName.isBlank()) {
+            name = metaName;
+        }
 
         if (configuration.isReplaceUnderscore()) {
             name = name.replace('_', '.');
@@ -74,10 +123,11 @@ public class ItemToStorePointCreator {
         return name;
     }
 
-    private State getItemState(Item item) {
-        return calculateDesiredTypeConversionToStore(item)
-                .map(desiredClass -> Objects.requireNonNullElseGet(item.getStateAs(desiredClass), item::getState))
-                .orElseGet(item::getState);
+    private State getItemState(Item item, @Nullable Class<? extends State> desiredClass) {
+        if (desiredClass == null) {
+            return item.getState();
+        }
+        return Objects.requireNonNullElseGet(item.getStateAs(desiredClass), item::getState);
     }
 
     private Optional<Class<? extends State>> calculateDesiredTypeConversionToStore(Item item) {
@@ -85,22 +135,41 @@ public class ItemToStorePointCreator {
                 .findFirst().map(commandType -> commandType.asSubclass(State.class));
     }
 
-    private void addPointTags(Item item, InfluxPoint.Builder pointBuilder) {
+    private void addPointTags(Item item, Optional<Metadata> metadata, Map<String, String> tags) {
         if (configuration.isAddCategoryTag()) {
             String categoryName = Objects.requireNonNullElse(item.getCategory(), "n/a");
-            pointBuilder.withTag(TAG_CATEGORY_NAME, categoryName);
+            tags.put(TAG_CATEGORY_NAME, categoryName);
         }
 
         if (configuration.isAddTypeTag()) {
-            pointBuilder.withTag(TAG_TYPE_NAME, item.getType());
+            tags.put(TAG_TYPE_NAME, item.getType());
         }
 
         if (configuration.isAddLabelTag()) {
             String labelName = Objects.requireNonNullElse(item.getLabel(), "n/a");
-            pointBuilder.withTag(TAG_LABEL_NAME, labelName);
+            tags.put(TAG_LABEL_NAME, labelName);
         }
 
-        influxDBMetadataService.getMetaData(item.getName())
-                .ifPresent(metadata -> metadata.getConfiguration().forEach(pointBuilder::withTag));
+        metadata.ifPresent(m -> m.getConfiguration().forEach((key, value) -> tags.put(key, value.toString())));
+    }
+
+    /**
+     * The state independent part of a point
+     */
+    private static class PointTemplate {
+        private final Item item;
+        private final String itemName;
+        private final String measurementName;
+        private final Map<String, String> tags;
+        private final @Nullable Class<? extends State> desiredStateClass;
+
+        private PointTemplate(Item item, String measurementName, Map<String, String> tags,
+                @Nullable Class<? extends State> desiredStateClass) {
+            this.item = item;
+            this.itemName = item.getName();
+            this.measurementName = measurementName;
+            this.tags = tags;
+            this.desiredStateClass = desiredStateClass;
+        }
     }
 }
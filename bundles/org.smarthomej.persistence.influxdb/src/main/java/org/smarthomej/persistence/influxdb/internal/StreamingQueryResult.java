@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import java.lang.ref.Cleaner;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link StreamingQueryResult} passes the rows of an asynchronous query to a consumer
+ * <p>
+ * Each iteration executes the query again. The query adds its rows to the {@link Sink} of the iteration while the
+ * consumer reads them. Only a limited number of rows is buffered, the query has to wait if the consumer is not fast
+ * enough. If the query fails or does not return a row in time, the iterator throws an {@link IllegalStateException}
+ * instead of returning a truncated result. The query is cancelled if the consumer does not read a row in time or the
+ * iterator is no longer referenced.
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class StreamingQueryResult implements Iterable<InfluxRow> {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Consumer<Sink> query;
+    private final int capacity;
+    private final long timeoutNanos;
+
+    /**
+     * Create a new result
+     *
+     * @param query starts the query, the rows are passed to the given sink
+     * @param capacity the maximum number of buffered rows
+     * @param timeout the maximum time to wait for the query or the consumer
+     */
+    public StreamingQueryResult(Consumer<Sink> query, int capacity, Duration timeout) {
+        this.query = query;
+        this.capacity = Math.max(1, capacity);
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public Iterator<InfluxRow> iterator() {
+        Sink sink = new Sink(capacity, timeoutNanos);
+        RowIterator iterator = new RowIterator(sink);
+        // the sink is referenced by the query, it must not keep the iterator reachable
+        CLEANER.register(iterator, sink::cancel);
+        query.accept(sink);
+        return iterator;
+    }
+
+    private static class RowIterator implements Iterator<InfluxRow> {
+        private final Sink sink;
+
+        public RowIterator(Sink sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return sink.awaitRow();
+        }
+
+        @Override
+        public InfluxRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return sink.poll();
+        }
+    }
+
+    /**
+     * The {@link Sink} receives the rows of a query
+     * <p>
+     * The query callbacks must only reference the sink, otherwise the query is not cancelled when the consumer drops
+     * the iterator.
+     */
+    public static class Sink {
+        private final Logger logger = LoggerFactory.getLogger(Sink.class);
+        private final Queue<InfluxRow> rows = new ArrayDeque<>();
+        private final int capacity;
+        private final long timeoutNanos;
+
+        private volatile boolean cancelled = false;
+        private boolean complete = false;
+        private @Nullable Throwable failure;
+
+        private Sink(int capacity, long timeoutNanos) {
+            this.capacity = capacity;
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        /**
+         * Add a row to the result
+         * <p>
+         * This method blocks while the buffer is full.
+         *
+         * @param row the row
+         * @return true if the row was added, false if the query should be cancelled
+         */
+        public synchronized boolean add(InfluxRow row) {
+            long deadline = System.nanoTime() + timeoutNanos;
+            try {
+                while (rows.size() >= capacity && !cancelled && !complete) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        cancel();
+                        fail(new TimeoutException("Rows have not been consumed in time"));
+                        break;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+            }
+            if (cancelled || complete) {
+                return false;
+            }
+            rows.add(row);
+            notifyAll();
+            return true;
+        }
+
+        /**
+         * Mark the result as complete
+         */
+        public synchronized void complete() {
+            complete = true;
+            notifyAll();
+        }
+
+        /**
+         * Mark the result as failed
+         * <p>
+         * The consumer receives the failure instead of the remaining rows.
+         *
+         * @param throwable the cause of the failure
+         */
+        public synchronized void fail(Throwable throwable) {
+            if (!complete) {
+                logger.warn("Query failed: {}", throwable.getMessage());
+                failure = throwable;
+                complete = true;
+                notifyAll();
+            }
+        }
+
+        /**
+         * Check if the consumer stopped reading the result
+         *
+         * @return true if the query should be cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            rows.clear();
+            notifyAll();
+        }
+
+        private synchronized boolean awaitRow() {
+            long deadline = System.nanoTime() + timeoutNanos;
+            try {
+                while (rows.isEmpty() && !complete) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        cancel();
+                        fail(new TimeoutException("Query did not return a result in time"));
+                        break;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                fail(e);
+            }
+            Throwable failure = this.failure;
+            if (failure != null) {
+                throw new IllegalStateException("Query failed: " + failure.getMessage(), failure);
+            }
+            return !rows.isEmpty();
+        }
+
+        private synchronized InfluxRow poll() {
+            InfluxRow row = rows.remove();
+            notifyAll();
+            return row;
+        }
+    }
+}
@@ -58,6 +58,11 @@ public class InfluxDB1FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
         final String tableName = getTableName(itemName);
         final boolean hasCriteriaName = itemName != null;
 
+        long downsamplingInterval = getDownsamplingInterval(criteria, configuration);
+        if (itemName != null && downsamplingInterval > 0) {
+            return createDownsampledQuery(criteria, retentionPolicy, itemName, tableName, downsamplingInterval);
+        }
+
         Select select = select().column("\"" + COLUMN_VALUE_NAME_V1 + "\"::field")
                 .column("\"" + TAG_ITEM_NAME + "\"::tag")
                 .fromRaw(null, fullQualifiedTableName(retentionPolicy, tableName, hasCriteriaName));
@@ -97,6 +102,32 @@ public class InfluxDB1FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
         return ((Query) select).getCommand();
     }
 
+    /**
+     * create a query that returns the last point of each interval
+     * <p>
+     * The query builder does not support aggregations, so the query is assembled manually.
+     */
+    private String createDownsampledQuery(FilterCriteria criteria, String retentionPolicy, String itemName,
+            String tableName, long interval) {
+        StringBuilder query = new StringBuilder("SELECT last(\"").append(COLUMN_VALUE_NAME_V1).append("\") AS \"")
+                .append(COLUMN_VALUE_NAME_V1).append("\" FROM ")
+                .append(fullQualifiedTableName(retentionPolicy, tableName, true));
+        query.append(" WHERE ").append(COLUMN_TIME_NAME_V1).append(" >= '")
+                .append(criteria.getBeginDate().toInstant()).append("' AND ").append(COLUMN_TIME_NAME_V1)
+                .append(" <= '").append(criteria.getEndDate().toInstant()).append('\'');
+        if (!tableName.equals(itemName)) {
+            query.append(" AND \"").append(TAG_ITEM_NAME).append("\" = '").append(itemName.replace("'", "\\'"))
+                    .append('\'');
+        }
+        query.append(" GROUP BY time(").append(interval).append("ms),\"").append(TAG_ITEM_NAME)
+                .append("\" fill(none)");
+        if (criteria.getOrdering() == FilterCriteria.Ordering.DESCENDING) {
+            query.append(" ORDER BY time DESC");
+        }
+        query.append(" LIMIT ").append(criteria.getPageSize()).append(';');
+        return query.toString();
+    }
+
     private String getTableName(@Nullable String itemName) {
         if (itemName == null) {
             return "/.*/";
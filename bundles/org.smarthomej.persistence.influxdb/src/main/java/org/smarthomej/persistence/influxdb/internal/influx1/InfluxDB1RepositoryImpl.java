@@ -18,8 +18,8 @@ import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.COL
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
 import static org.smarthomej.persistence.influxdb.internal.InfluxDBConstants.TAG_ITEM_NAME;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -29,7 +29,9 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.influxdb.InfluxDB;
+import org.influxdb.InfluxDBException;
 import org.influxdb.InfluxDBFactory;
+import org.influxdb.dto.BatchPoints;
 import org.influxdb.dto.Point;
 import org.influxdb.dto.Pong;
 import org.influxdb.dto.Query;
@@ -43,6 +45,7 @@ import org.smarthomej.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.smarthomej.persistence.influxdb.internal.InfluxDBRepository;
 import org.smarthomej.persistence.influxdb.internal.InfluxPoint;
 import org.smarthomej.persistence.influxdb.internal.InfluxRow;
+import org.smarthomej.persistence.influxdb.internal.StreamingQueryResult;
 import org.smarthomej.persistence.influxdb.internal.UnexpectedConditionException;
 
 /**
@@ -53,6 +56,10 @@ import org.smarthomej.persistence.influxdb.internal.UnexpectedConditionException
  */
 @NonNullByDefault
 public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final int QUERY_BUFFER_SIZE = 1000;
+    private static final Duration QUERY_TIMEOUT = Duration.ofSeconds(60);
+
     private final Logger logger = LoggerFactory.getLogger(InfluxDB1RepositoryImpl.class);
     private final InfluxDBConfiguration configuration;
     private final InfluxDBMetadataService influxDBMetadataService;
@@ -75,7 +82,6 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
                 configuration.getPassword());
         createdClient.setDatabase(configuration.getDatabaseName());
         createdClient.setRetentionPolicy(configuration.getRetentionPolicy());
-        createdClient.enableBatch(200, 100, TimeUnit.MILLISECONDS);
         this.client = createdClient;
         return checkConnectionStatus();
     }
@@ -118,13 +124,28 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
     }
 
     @Override
-    public void write(InfluxPoint point) throws UnexpectedConditionException {
+    public boolean write(List<InfluxPoint> points) {
         final InfluxDB currentClient = this.client;
-        if (currentClient != null) {
-            Point clientPoint = convertPointToClientFormat(point);
-            currentClient.write(configuration.getDatabaseName(), configuration.getRetentionPolicy(), clientPoint);
-        } else {
-            logger.warn("Write point {} ignored due to client isn't connected", point);
+        if (currentClient == null) {
+            logger.warn("Write of {} points ignored due to client isn't connected", points.size());
+            return false;
+        }
+
+        BatchPoints.Builder batchPoints = BatchPoints.database(configuration.getDatabaseName())
+                .retentionPolicy(configuration.getRetentionPolicy());
+        for (InfluxPoint point : points) {
+            try {
+                batchPoints.point(convertPointToClientFormat(point));
+            } catch (UnexpectedConditionException e) {
+                logger.warn("Failed to convert point {}: {}", point, e.getMessage());
+            }
+        }
+        try {
+            currentClient.write(batchPoints.build());
+            return true;
+        } catch (InfluxDBException e) {
+            logger.debug("Writing to database failed: {}", e.getMessage());
+            return false;
         }
     }
 
@@ -151,25 +172,55 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
     }
 
     @Override
-    public List<InfluxRow> query(String query) {
+    public Iterable<InfluxRow> query(String query) {
         final InfluxDB currentClient = client;
         if (currentClient != null) {
             Query parsedQuery = new Query(query, configuration.getDatabaseName());
-            List<QueryResult.Result> results = currentClient.query(parsedQuery, TimeUnit.MILLISECONDS).getResults();
-            return convertClientResultToRepository(results);
+            // the chunk callback blocks while the buffer is full, this stops reading the response
+            return new StreamingQueryResult(sink -> {
+                try {
+                    currentClient.query(parsedQuery, QUERY_CHUNK_SIZE, (cancellable, queryResult) -> {
+                        if (!convertClientResultToRepository(queryResult, sink)) {
+                            cancellable.cancel();
+                        }
+                    }, sink::complete, sink::fail);
+                } catch (InfluxDBException e) {
+                    sink.fail(e);
+                }
+            }, QUERY_BUFFER_SIZE, QUERY_TIMEOUT);
         } else {
-            logger.warn("Returning empty list because queryAPI isn't present");
+            logger.warn("Returning empty result because queryAPI isn't present");
             return List.of();
         }
     }
 
-    private List<InfluxRow> convertClientResultToRepository(List<QueryResult.Result> results) {
-        List<InfluxRow> rows = new ArrayList<>();
+    /**
+     * convert a (partial) query result and pass the rows to the sink of the query
+     *
+     * @param queryResult the query result
+     * @param sink the sink for the rows
+     * @return false if the query failed or the sink did not accept all rows
+     */
+    private boolean convertClientResultToRepository(QueryResult queryResult, StreamingQueryResult.Sink sink) {
+        String error = queryResult.getError();
+        if (error != null) {
+            // the last chunk of a chunked query is marked with a "DONE" error
+            if (!"DONE".equals(error)) {
+                sink.fail(new InfluxDBException(error));
+                return false;
+            }
+            return true;
+        }
+        List<QueryResult.Result> results = queryResult.getResults();
+        if (results == null) {
+            return true;
+        }
         for (QueryResult.Result result : results) {
             List<QueryResult.Series> allSeries = result.getSeries();
-            if (result.getError() != null) {
-                logger.warn("{}", result.getError());
-                continue;
+            String resultError = result.getError();
+            if (resultError != null) {
+                sink.fail(new InfluxDBException(resultError));
+                return false;
             }
             if (allSeries == null) {
                 logger.debug("query returned no series");
@@ -177,6 +228,14 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
                 for (QueryResult.Series series : allSeries) {
                     logger.trace("series {}", series);
                     String defaultItemName = series.getName();
+                    // downsampled queries are grouped by the item name tag
+                    Map<String, String> tags = series.getTags();
+                    if (tags != null) {
+                        String taggedItemName = tags.get(TAG_ITEM_NAME);
+                        if (taggedItemName != null) {
+                            defaultItemName = taggedItemName;
+                        }
+                    }
                     List<List<Object>> allValues = series.getValues();
                     if (allValues == null) {
                         logger.debug("query returned no values");
@@ -188,24 +247,37 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
                             int valueColumn = columns.indexOf(COLUMN_VALUE_NAME_V1);
                             int itemNameColumn = columns.indexOf(TAG_ITEM_NAME);
                             if (valueColumn == -1 || timestampColumn == -1) {
-                                throw new IllegalStateException("missing column");
+                                sink.fail(new IllegalStateException("missing column"));
+                                return false;
                             }
                             for (List<Object> valueObject : allValues) {
-                                Double rawTime = (Double) valueObject.get(timestampColumn);
-                                Instant time = Instant.ofEpochMilli(rawTime.longValue());
+                                Instant time = parseTime(valueObject.get(timestampColumn));
                                 Object value = valueObject.get(valueColumn);
+                                if (value == null) {
+                                    continue;
+                                }
                                 String itemName = itemNameColumn == -1 ? defaultItemName
                                         : Objects.requireNonNullElse((String) valueObject.get(itemNameColumn),
                                                 defaultItemName);
                                 logger.trace("adding historic item {}: time {} value {}", itemName, time, value);
-                                rows.add(new InfluxRow(time, itemName, value));
+                                if (!sink.add(new InfluxRow(time, itemName, value))) {
+                                    return false;
+                                }
                             }
                         }
                     }
                 }
             }
         }
-        return rows;
+        return true;
+    }
+
+    private Instant parseTime(Object rawTime) {
+        // chunked queries return RFC3339 timestamps, queries with precision return epoch values
+        if (rawTime instanceof Number) {
+            return Instant.ofEpochMilli(((Number) rawTime).longValue());
+        }
+        return Instant.parse(rawTime.toString());
     }
 
     @Override
@@ -80,6 +80,12 @@ public class InfluxDB2FilterCriteriaQueryCreatorImpl implements FilterCriteriaQu
             }
         }
 
+        long downsamplingInterval = getDownsamplingInterval(criteria, configuration);
+        if (downsamplingInterval > 0) {
+            flux = flux.aggregateWindow(downsamplingInterval, ChronoUnit.MILLIS, "last")
+                    .withPropertyValue("createEmpty", false);
+        }
+
         if (criteria.getState() != null && criteria.getOperator() != null) {
             Restrictions restrictions = Restrictions.and(Restrictions.field().equal(FIELD_VALUE_NAME),
                     Restrictions.value().custom(stateToObject(criteria.getState()),
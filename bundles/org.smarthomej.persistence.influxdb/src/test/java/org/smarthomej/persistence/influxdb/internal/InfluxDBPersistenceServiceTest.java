@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -88,18 +89,20 @@ public class InfluxDBPersistenceServiceTest {
     }
 
     @Test
-    public void storeItemWithConnectedRepository() throws UnexpectedConditionException {
+    public void storeItemWithConnectedRepository() {
         InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
         when(influxDBRepository.isConnected()).thenReturn(true);
         instance.store(ItemTestHelper.createNumberItem("number", 5));
-        verify(influxDBRepository).write(any());
+        verify(influxDBRepository, timeout(5000)).write(any());
+        instance.deactivate();
     }
 
     @Test
-    public void storeItemWithDisconnectedRepositoryIsIgnored() throws UnexpectedConditionException {
+    public void storeItemWithDisconnectedRepositoryIsIgnored() {
         InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
         when(influxDBRepository.isConnected()).thenReturn(false);
         instance.store(ItemTestHelper.createNumberItem("number", 5));
+        instance.deactivate();
         verify(influxDBRepository, never()).write(any());
     }
 
@@ -109,6 +112,11 @@ public class InfluxDBPersistenceServiceTest {
             protected Optional<InfluxDBRepository> createInfluxDBRepository() {
                 return Optional.of(influxDBRepository);
             }
+
+            @Override
+            protected @Nullable InfluxDBSpool createSpool() {
+                return null;
+            }
         };
     }
 }
@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The {@link InfluxDBWriteQueueTest} contains tests for the {@link InfluxDBWriteQueue}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBWriteQueueTest {
+    private final InfluxDBRepository influxDBRepository = mock(InfluxDBRepository.class);
+    private final List<List<InfluxPoint>> writtenBatches = new CopyOnWriteArrayList<>();
+    private @NonNullByDefault({}) InfluxDBWriteQueue writeQueue;
+    private @NonNullByDefault({}) @TempDir Path spoolDirectory;
+
+    @AfterEach
+    public void tearDown() {
+        writeQueue.stop();
+    }
+
+    @Test
+    public void pointsAreWrittenInBatchesOfConfiguredSize() {
+        recordWrites();
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, 100, 10, Duration.ofSeconds(10),
+                InfluxDBWriteQueue.OverflowPolicy.DROP_OLDEST, null);
+        for (int i = 0; i < 25; i++) {
+            writeQueue.add(createPoint(i));
+        }
+        writeQueue.start();
+
+        // two full batches are written immediately, the remaining points after the flush interval or on stop
+        verify(influxDBRepository, timeout(5000).times(2)).write(any());
+        writeQueue.stop();
+
+        assertEquals(List.of(10, 10, 5), writtenBatches.stream().map(List::size).collect(toList()));
+    }
+
+    @Test
+    public void pointsAreWrittenAfterFlushInterval() {
+        recordWrites();
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, 100, 10, Duration.ofMillis(100),
+                InfluxDBWriteQueue.OverflowPolicy.DROP_OLDEST, null);
+        writeQueue.start();
+        writeQueue.add(createPoint(1));
+        writeQueue.add(createPoint(2));
+
+        verify(influxDBRepository, timeout(5000)).write(any());
+        assertEquals(2, writtenBatches.get(0).size());
+    }
+
+    @Test
+    public void oldestPointsAreDroppedOnOverflow() {
+        recordWrites();
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, 5, 10, Duration.ofMillis(100),
+                InfluxDBWriteQueue.OverflowPolicy.DROP_OLDEST, null);
+        for (int i = 0; i < 8; i++) {
+            writeQueue.add(createPoint(i));
+        }
+        assertEquals(5, writeQueue.size());
+        writeQueue.start();
+
+        verify(influxDBRepository, timeout(5000)).write(any());
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L),
+                writtenBatches.get(0).stream().map(InfluxPoint::getValue).collect(toList()));
+    }
+
+    @Test
+    public void addBlocksOnOverflow() throws InterruptedException {
+        CountDownLatch writeLatch = new CountDownLatch(1);
+        when(influxDBRepository.write(any())).thenAnswer(invocation -> {
+            writeLatch.await();
+            return true;
+        });
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, 1, 1, Duration.ofMillis(100),
+                InfluxDBWriteQueue.OverflowPolicy.BLOCK, null);
+        writeQueue.start();
+
+        // first point is taken by the (blocked) writer, second point fills the queue
+        writeQueue.add(createPoint(1));
+        verify(influxDBRepository, timeout(5000)).write(any());
+        writeQueue.add(createPoint(2));
+
+        Thread producer = new Thread(() -> writeQueue.add(createPoint(3)));
+        producer.start();
+        producer.join(200);
+        assertEquals(true, producer.isAlive());
+
+        writeLatch.countDown();
+        producer.join(5000);
+        assertEquals(false, producer.isAlive());
+    }
+
+    @Test
+    public void pointsAreNotWrittenIfNotConnected() {
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> false, 100, 10, Duration.ofMillis(100),
+                InfluxDBWriteQueue.OverflowPolicy.DROP_OLDEST, null);
+        writeQueue.start();
+        writeQueue.add(createPoint(1));
+        writeQueue.stop();
+
+        verify(influxDBRepository, never()).write(any());
+    }
+
+    @Test
+    public void pointsAreSpooledIfNotConnectedAndReplayedAfterReconnect() {
+        recordWrites();
+        AtomicBoolean connected = new AtomicBoolean(false);
+        InfluxDBSpool spool = new InfluxDBSpool(spoolDirectory, 1024 * 1024);
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, connected::get, 100, 10, Duration.ofMillis(100),
+                InfluxDBWriteQueue.OverflowPolicy.DROP_OLDEST, spool);
+        for (int i = 0; i < 5; i++) {
+            writeQueue.add(createPoint(i));
+        }
+        writeQueue.start();
+        waitForSpool(spool, false);
+        verify(influxDBRepository, never()).write(any());
+
+        connected.set(true);
+        writeQueue.add(createPoint(5));
+        verify(influxDBRepository, timeout(5000).times(2)).write(any());
+        waitForSpool(spool, true);
+
+        // spooled points are written first
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), writtenBatches.get(0).stream().map(InfluxPoint::getValue)
+                .collect(toList()));
+        assertEquals(List.of(5L), writtenBatches.get(1).stream().map(InfluxPoint::getValue).collect(toList()));
+    }
+
+    @Test
+    public void pointsAreSpooledIfWriteFails() {
+        when(influxDBRepository.write(any())).thenReturn(false);
+        InfluxDBSpool spool = new InfluxDBSpool(spoolDirectory, 1024 * 1024);
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, 100, 10, Duration.ofMillis(100),
+                InfluxDBWriteQueue.OverflowPolicy.DROP_OLDEST, spool);
+        writeQueue.start();
+        writeQueue.add(createPoint(1));
+        verify(influxDBRepository, timeout(5000)).write(any());
+        writeQueue.stop();
+
+        // a new spool recovers the points from disk
+        InfluxDBSpool.Segment segment = new InfluxDBSpool(spoolDirectory, 1024 * 1024).readOldestSegment();
+        assertNotNull(segment);
+        assertEquals(List.of(1L), segment.getPoints().stream().map(InfluxPoint::getValue).collect(toList()));
+    }
+
+    @Test
+    public void overflowingPointsAreSpilledToSpool() {
+        InfluxDBSpool spool = new InfluxDBSpool(spoolDirectory, 1024 * 1024);
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, 4, 10, Duration.ofMillis(100),
+                InfluxDBWriteQueue.OverflowPolicy.SPILL, spool);
+        for (int i = 0; i < 5; i++) {
+            writeQueue.add(createPoint(i));
+        }
+
+        // half of the queue and the new point are spilled
+        assertEquals(2, writeQueue.size());
+        InfluxDBSpool.Segment segment = spool.readOldestSegment();
+        assertNotNull(segment);
+        assertEquals(List.of(0L, 1L, 4L), segment.getPoints().stream().map(InfluxPoint::getValue).collect(toList()));
+    }
+
+    @Test
+    public void pointsWithLongStringsAreSpilledToSpool() {
+        String longString = "x".repeat(100_000);
+        InfluxDBSpool spool = new InfluxDBSpool(spoolDirectory, 1024 * 1024);
+        writeQueue = new InfluxDBWriteQueue(influxDBRepository, () -> true, 4, 10, Duration.ofMillis(100),
+                InfluxDBWriteQueue.OverflowPolicy.SPILL, spool);
+        writeQueue.add(InfluxPoint.newBuilder("test").withTime(Instant.EPOCH).withValue(longString)
+                .withTag("tag", longString).build());
+        for (int i = 1; i < 5; i++) {
+            writeQueue.add(createPoint(i));
+        }
+
+        InfluxDBSpool.Segment segment = spool.readOldestSegment();
+        assertNotNull(segment);
+        assertEquals(List.of(longString, 1L, 4L),
+                segment.getPoints().stream().map(InfluxPoint::getValue).collect(toList()));
+        assertEquals(longString, segment.getPoints().get(0).getTags().get("tag"));
+    }
+
+    private void waitForSpool(InfluxDBSpool spool, boolean empty) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (spool.isEmpty() != empty && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertEquals(empty, spool.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordWrites() {
+        when(influxDBRepository.write(any())).thenAnswer(invocation -> {
+            writtenBatches.add(new ArrayList<>((List<InfluxPoint>) invocation.getArgument(0)));
+            return true;
+        });
+    }
+
+    private static InfluxPoint createPoint(long value) {
+        return InfluxPoint.newBuilder("test").withTime(Instant.ofEpochMilli(TimeUnit.SECONDS.toMillis(value)))
+                .withValue(value).build();
+    }
+}
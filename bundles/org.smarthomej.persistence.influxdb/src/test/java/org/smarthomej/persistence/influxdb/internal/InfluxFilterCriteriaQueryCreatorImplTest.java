@@ -13,7 +13,9 @@
  */
 package org.smarthomej.persistence.influxdb.internal;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -171,6 +173,35 @@ public class InfluxFilterCriteriaQueryCreatorImplTest {
                         + "|> sort(desc:false, columns:[\"_time\"])"));
     }
 
+    @Test
+    public void testDownsampling() throws UnexpectedConditionException {
+        when(influxDBConfiguration.isDownsampleQueries()).thenReturn(true);
+        FilterCriteria criteria = createBaseCriteria();
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime later = now.plus(100, ChronoUnit.MINUTES);
+        criteria.setBeginDate(now);
+        criteria.setEndDate(later);
+        criteria.setPageSize(100);
+
+        String queryV1 = instanceV1.createQuery(criteria, RETENTION_POLICY);
+        String expectedQueryV1 = String.format(
+                "SELECT last(\"value\") AS \"value\" FROM origin.sampleItem WHERE time >= '%s' AND time <= '%s' "
+                        + "GROUP BY time(60000ms),\"item\" fill(none) LIMIT 100;",
+                now.toInstant(), later.toInstant());
+        assertThat(queryV1, equalTo(expectedQueryV1));
+
+        String queryV2 = instanceV2.createQuery(criteria, RETENTION_POLICY);
+        assertThat(queryV2, containsString("aggregateWindow("));
+        assertThat(queryV2, containsString("fn:last"));
+
+        // further pages are not downsampled
+        criteria.setPageNumber(1);
+        queryV1 = instanceV1.createQuery(criteria, RETENTION_POLICY);
+        assertThat(queryV1, not(containsString("GROUP BY")));
+        queryV2 = instanceV2.createQuery(criteria, RETENTION_POLICY);
+        assertThat(queryV2, not(containsString("aggregateWindow(")));
+    }
+
     private FilterCriteria createBaseCriteria() {
         return createBaseCriteria(ITEM_NAME);
     }
@@ -15,7 +15,7 @@ package org.smarthomej.persistence.influxdb.internal;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.util.Map;
@@ -36,6 +36,7 @@ import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.MetadataRegistry;
 import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
 import org.smarthomej.persistence.influxdb.InfluxDBPersistenceService;
 
 /**
@@ -47,11 +48,12 @@ public class ItemToStorePointCreatorTest {
 
     private @Mock InfluxDBConfiguration influxDBConfiguration;
     private @Mock MetadataRegistry metadataRegistry;
+    private InfluxDBMetadataService influxDBMetadataService;
     private ItemToStorePointCreator instance;
 
     @BeforeEach
     public void before() {
-        InfluxDBMetadataService influxDBMetadataService = new InfluxDBMetadataService(metadataRegistry);
+        influxDBMetadataService = new InfluxDBMetadataService(metadataRegistry);
         when(influxDBConfiguration.isAddCategoryTag()).thenReturn(false);
         when(influxDBConfiguration.isAddLabelTag()).thenReturn(false);
         when(influxDBConfiguration.isAddTypeTag()).thenReturn(false);
@@ -62,7 +64,9 @@ public class ItemToStorePointCreatorTest {
 
     @AfterEach
     public void after() {
+        instance.dispose();
         instance = null;
+        influxDBMetadataService = null;
         influxDBConfiguration = null;
         metadataRegistry = null;
     }
@@ -116,7 +120,9 @@ public class ItemToStorePointCreatorTest {
 
         assertThat(point.getTags(), hasEntry(InfluxDBConstants.TAG_CATEGORY_NAME, "categoryValue"));
 
+        // a configuration change creates a new instance
         when(influxDBConfiguration.isAddCategoryTag()).thenReturn(false);
+        instance = new ItemToStorePointCreator(influxDBConfiguration, influxDBMetadataService);
         point = instance.convert(item, null);
 
         if (point == null) {
@@ -141,7 +147,9 @@ public class ItemToStorePointCreatorTest {
 
         assertThat(point.getTags(), hasEntry(InfluxDBConstants.TAG_TYPE_NAME, "Number"));
 
+        // a configuration change creates a new instance
         when(influxDBConfiguration.isAddTypeTag()).thenReturn(false);
+        instance = new ItemToStorePointCreator(influxDBConfiguration, influxDBMetadataService);
         point = instance.convert(item, null);
 
         if (point == null) {
@@ -167,7 +175,9 @@ public class ItemToStorePointCreatorTest {
 
         assertThat(point.getTags(), hasEntry(InfluxDBConstants.TAG_LABEL_NAME, "ItemLabel"));
 
+        // a configuration change creates a new instance
         when(influxDBConfiguration.isAddLabelTag()).thenReturn(false);
+        instance = new ItemToStorePointCreator(influxDBConfiguration, influxDBMetadataService);
         point = instance.convert(item, null);
 
         if (point == null) {
@@ -217,8 +227,9 @@ public class ItemToStorePointCreatorTest {
         assertThat(point.getMeasurementName(), equalTo(item.getName()));
         assertThat(point.getTags(), hasEntry("item", item.getName()));
 
-        when(metadataRegistry.get(metadataKey))
-                .thenReturn(new Metadata(metadataKey, "measurementName", Map.of("key1", "val1", "key2", "val2")));
+        Metadata metadata = new Metadata(metadataKey, "measurementName", Map.of("key1", "val1", "key2", "val2"));
+        when(metadataRegistry.get(metadataKey)).thenReturn(metadata);
+        influxDBMetadataService.added(metadata);
 
         point = instance.convert(item, null);
         if (point == null) {
@@ -228,8 +239,9 @@ public class ItemToStorePointCreatorTest {
         assertThat(point.getMeasurementName(), equalTo("measurementName"));
         assertThat(point.getTags(), hasEntry("item", item.getName()));
 
-        when(metadataRegistry.get(metadataKey))
-                .thenReturn(new Metadata(metadataKey, "", Map.of("key1", "val1", "key2", "val2")));
+        Metadata updatedMetadata = new Metadata(metadataKey, "", Map.of("key1", "val1", "key2", "val2"));
+        when(metadataRegistry.get(metadataKey)).thenReturn(updatedMetadata);
+        influxDBMetadataService.updated(metadata, updatedMetadata);
 
         point = instance.convert(item, null);
         if (point == null) {
@@ -239,4 +251,28 @@ public class ItemToStorePointCreatorTest {
         assertThat(point.getMeasurementName(), equalTo(item.getName()));
         assertThat(point.getTags(), hasEntry("item", item.getName()));
     }
+
+    @Test
+    public void shouldCacheItemInformation() {
+        NumberItem item = ItemTestHelper.createNumberItem("myitem", 5);
+        MetadataKey metadataKey = new MetadataKey(InfluxDBPersistenceService.SERVICE_NAME, item.getName());
+
+        instance.convert(item, null);
+        item.setState(new DecimalType(6));
+        InfluxPoint point = instance.convert(item, null);
+        if (point == null) {
+            Assertions.fail();
+            return;
+        }
+        assertThat(point.getValue(), equalTo(new BigDecimal(6)));
+        verify(metadataRegistry, times(1)).get(metadataKey);
+
+        // a new item instance is not served from the cache
+        instance.convert(ItemTestHelper.createNumberItem("myitem", 7), null);
+        verify(metadataRegistry, times(2)).get(metadataKey);
+
+        // an alias uses a different cache entry
+        instance.convert(item, "aliasName");
+        verify(metadataRegistry, times(3)).get(metadataKey);
+    }
 }
@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2021-2023 Contributors to the SmartHome/J project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.smarthomej.persistence.influxdb.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link StreamingQueryResultTest} contains tests for the {@link StreamingQueryResult}
+ *
+ * @author Jan N. Klug - Initial contribution
+ */
+@NonNullByDefault
+public class StreamingQueryResultTest {
+
+    @Test
+    public void rowsAreStreamedWhileQueryIsRunning() throws InterruptedException {
+        List<Thread> producers = new ArrayList<>();
+        StreamingQueryResult result = new StreamingQueryResult(sink -> {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    sink.add(createRow(i));
+                }
+                sink.complete();
+            });
+            producers.add(producer);
+            producer.start();
+        }, 10, Duration.ofSeconds(5));
+
+        List<InfluxRow> rows = new ArrayList<>();
+        result.forEach(rows::add);
+        producers.get(0).join(5000);
+
+        assertEquals(100, rows.size());
+        assertEquals(List.of(0L, 1L, 2L), rows.stream().limit(3).map(InfluxRow::getValue).collect(toList()));
+    }
+
+    @Test
+    public void queryIsExecutedForEachIteration() {
+        AtomicInteger executions = new AtomicInteger();
+        StreamingQueryResult result = new StreamingQueryResult(sink -> {
+            executions.incrementAndGet();
+            sink.add(createRow(1));
+            sink.add(createRow(2));
+            sink.complete();
+        }, 10, Duration.ofSeconds(5));
+
+        assertEquals(0, executions.get());
+
+        List<Object> first = new ArrayList<>();
+        result.forEach(row -> first.add(row.getValue()));
+        List<Object> second = new ArrayList<>();
+        result.forEach(row -> second.add(row.getValue()));
+
+        assertEquals(2, executions.get());
+        assertEquals(List.of(1L, 2L), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void queryWaitsIfBufferIsFull() throws InterruptedException {
+        RunningQuery query = new RunningQuery(2, Duration.ofSeconds(5));
+        StreamingQueryResult.Sink sink = query.sink;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 3; i++) {
+                sink.add(createRow(i));
+            }
+        });
+        producer.start();
+        producer.join(500);
+
+        // the third row does not fit into the buffer
+        assertTrue(producer.isAlive());
+        assertEquals(0L, query.iterator.next().getValue());
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertFalse(sink.isCancelled());
+    }
+
+    @Test
+    public void slowConsumerCancelsQuery() {
+        RunningQuery query = new RunningQuery(1, Duration.ofMillis(100));
+        assertTrue(query.sink.add(createRow(1)));
+        assertFalse(query.sink.add(createRow(2)));
+        assertTrue(query.sink.isCancelled());
+
+        // the buffered row is discarded, a truncated result is not returned
+        assertThrows(IllegalStateException.class, query.iterator::hasNext);
+    }
+
+    @Test
+    public void failedQueryIsReported() {
+        RunningQuery query = new RunningQuery(10, Duration.ofSeconds(5));
+        query.sink.add(createRow(1));
+        query.sink.fail(new IllegalStateException("test"));
+
+        assertThrows(IllegalStateException.class, query.iterator::hasNext);
+        assertFalse(query.sink.add(createRow(2)));
+    }
+
+    @Test
+    public void queryTimeoutIsReported() {
+        RunningQuery query = new RunningQuery(10, Duration.ofMillis(100));
+        query.sink.add(createRow(1));
+
+        assertEquals(1L, query.iterator.next().getValue());
+        assertThrows(IllegalStateException.class, query.iterator::hasNext);
+        assertTrue(query.sink.isCancelled());
+        assertFalse(query.sink.add(createRow(2)));
+    }
+
+    @Test
+    public void queryIsCancelledIfIteratorIsDropped() throws InterruptedException {
+        StreamingQueryResult.Sink sink = new RunningQuery(10, Duration.ofSeconds(5)).sink;
+        for (int i = 0; i < 50 && !sink.isCancelled(); i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        assertTrue(sink.isCancelled());
+        assertFalse(sink.add(createRow(1)));
+    }
+
+    private static InfluxRow createRow(long value) {
+        return new InfluxRow(Instant.ofEpochSecond(value), "test", value);
+    }
+
+    /**
+     * a query that has been started by iterating over its result, rows are added by the test
+     */
+    private static class RunningQuery {
+        private final Iterator<InfluxRow> iterator;
+        private final StreamingQueryResult.Sink sink;
+
+        public RunningQuery(int capacity, Duration timeout) {
+            AtomicReference<StreamingQueryResult.@Nullable Sink> sinkReference = new AtomicReference<>();
+            iterator = new StreamingQueryResult(sinkReference::set, capacity, timeout).iterator();
+            sink = Objects.requireNonNull(sinkReference.get());
+        }
+    }
+}
@@ -21,6 +21,8 @@ import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.commons.transform.CompilingTransformationService;
+import org.smarthomej.commons.util.LruCache;
 
 /**
  * Abstract class for {@link TransformationService}s which applies bitwise operations on the input
@@ -29,8 +31,12 @@ import org.slf4j.LoggerFactory;
  * @author Jan N. Klug - Adapted for bit operazions
  */
 @NonNullByDefault
-abstract class AbstractBitwiseTransformationService implements TransformationService {
+abstract class AbstractBitwiseTransformationService implements CompilingTransformationService {
+    private static final int MAX_CACHED_TRANSFORMATIONS = 1000;
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
+    private final LruCache<String, CompiledTransformation> compiledTransformations = new LruCache<>(
+            MAX_CACHED_TRANSFORMATIONS);
 
     private static final Pattern NUMBER_PATTERN = Pattern.compile(".*?(-?((0)|([1-9][0-9]*))(\\.[0-9]*)?).*?");
     private static final Pattern HEX_PATTERN = Pattern.compile("\\s*0x([A-Fa-f0-9]+)\\s*");
@@ -38,9 +44,19 @@ abstract class AbstractBitwiseTransformationService implements TransformationSer
 
     @Override
     public @Nullable String transform(String maskString, String sourceString) throws TransformationException {
-        long source = getLongValue(sourceString);
-        long mask = getLongValue(maskString);
-        return Long.toString(performCalculation(source, mask));
+        return compile(maskString).transform(sourceString);
+    }
+
+    @Override
+    public CompiledTransformation compile(String maskString) throws TransformationException {
+        CompiledTransformation compiledTransformation = compiledTransformations.get(maskString);
+        if (compiledTransformation == null) {
+            long mask = getLongValue(maskString);
+            compiledTransformation = sourceString -> Long
+                    .toString(performCalculation(getLongValue(sourceString), mask));
+            compiledTransformations.put(maskString, compiledTransformation);
+        }
+        return compiledTransformation;
     }
 
     private long getLongValue(String str) throws TransformationException {
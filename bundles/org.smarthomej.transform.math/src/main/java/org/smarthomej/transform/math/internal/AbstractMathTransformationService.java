@@ -21,6 +21,8 @@ import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.smarthomej.commons.transform.CompilingTransformationService;
+import org.smarthomej.commons.util.LruCache;
 
 /**
  * Abstract class for {@link TransformationService}s which applies simple math on the input.
@@ -28,32 +30,46 @@ import org.slf4j.LoggerFactory;
  * @author Christoph Weitkamp - Initial contribution
  */
 @NonNullByDefault
-abstract class AbstractMathTransformationService implements TransformationService {
+abstract class AbstractMathTransformationService implements CompilingTransformationService {
+    private static final int MAX_CACHED_TRANSFORMATIONS = 1000;
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final LruCache<String, CompiledTransformation> compiledTransformations = new LruCache<>(
+            MAX_CACHED_TRANSFORMATIONS);
 
     @Override
     public @Nullable String transform(String valueString, String sourceString) throws TransformationException {
-        QuantityType<?> source;
+        return compile(valueString).transform(sourceString);
+    }
+
+    @Override
+    public CompiledTransformation compile(String valueString) throws TransformationException {
+        CompiledTransformation compiledTransformation = compiledTransformations.get(valueString);
+        if (compiledTransformation == null) {
+            QuantityType<?> value = parseQuantity(valueString);
+            compiledTransformation = sourceString -> calculate(sourceString, value);
+            compiledTransformations.put(valueString, compiledTransformation);
+        }
+        return compiledTransformation;
+    }
+
+    private String calculate(String sourceString, QuantityType<?> value) throws TransformationException {
+        QuantityType<?> source = parseQuantity(sourceString);
         try {
-            source = new QuantityType<>(sourceString);
+            QuantityType<?> result = performCalculation(source, value);
+            return BigDecimal.ZERO.compareTo(result.toBigDecimal()) == 0 ? "0" : result.toString();
         } catch (IllegalArgumentException e) {
-            logger.warn("Input value '{}' could not be converted to a valid number", sourceString);
-            throw new TransformationException("Math Transformation can only be used with numeric inputs");
+            throw new TransformationException("ArithmeticException: " + e.getMessage());
         }
-        QuantityType<?> value;
+    }
+
+    private QuantityType<?> parseQuantity(String valueString) throws TransformationException {
         try {
-            value = new QuantityType<>(valueString);
+            return new QuantityType<>(valueString);
         } catch (IllegalArgumentException e) {
             logger.warn("Input value '{}' could not be converted to a valid number", valueString);
             throw new TransformationException("Math Transformation can only be used with numeric inputs");
         }
-        try {
-            QuantityType<?> result = performCalculation(source, value);
-            return BigDecimal.ZERO.compareTo(result.toBigDecimal()) == 0 ? "0" : result.toString();
-        } catch (IllegalArgumentException e) {
-            throw new TransformationException("ArithmeticException: " + e.getMessage());
-        }
     }
 
     /**